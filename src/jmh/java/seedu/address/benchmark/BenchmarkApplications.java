@@ -0,0 +1,46 @@
+package seedu.address.benchmark;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import seedu.address.model.application.Application;
+import seedu.address.model.util.SyntheticDataGenerator;
+
+/**
+ * Provides the applications used by the benchmarks, generated from a fixed seed so that every run uses the same.
+ */
+public class BenchmarkApplications {
+
+    public static final long SEED = 42;
+    /** The company with the most applications. */
+    public static final String MOST_FREQUENT_COMPANY = "Google";
+
+    private static final SyntheticDataGenerator generator = new SyntheticDataGenerator(SEED);
+
+    /**
+     * Returns the first {@code size} applications.
+     */
+    public static List<Application> generate(int size) {
+        List<Application> applications = new ArrayList<>(size);
+        Iterator<Application> iterator = iterator(size);
+        while (iterator.hasNext()) {
+            applications.add(iterator.next());
+        }
+        return applications;
+    }
+
+    /**
+     * Returns an iterator over the first {@code size} applications, which generates them as they are requested.
+     */
+    public static Iterator<Application> iterator(int size) {
+        return generator.generate(size);
+    }
+
+    /**
+     * Returns the {@code index}th application, which is not the same application as any other.
+     */
+    public static Application generateApplication(long index) {
+        return generator.generateApplication(index);
+    }
+}
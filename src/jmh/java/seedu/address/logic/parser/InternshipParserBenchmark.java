@@ -0,0 +1,67 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.parser.CliSyntax.PREFIX_COMPANY_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DEADLINE_OF_APPLICATION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_INTERNSHIP_POSITION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Benchmarks parsing the commands that add, edit and find applications, and tokenizing their arguments.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class InternshipParserBenchmark {
+
+    private static final String ADD_ARGUMENTS = " " + PREFIX_COMPANY_NAME + "Shopee "
+            + PREFIX_INTERNSHIP_POSITION + "Software Engineer " + PREFIX_DEADLINE_OF_APPLICATION + "2021-12-12 "
+            + PREFIX_TAG + "remote " + PREFIX_TAG + "paid";
+    private static final String ADD_COMMAND = "add" + ADD_ARGUMENTS;
+    private static final String EDIT_COMMAND = "edit 1 " + PREFIX_INTERNSHIP_POSITION + "UI Designer "
+            + PREFIX_DEADLINE_OF_APPLICATION + "2021-12-23";
+    private static final String FIND_COMMAND = "find Shopee Grab Google";
+
+    private final InternshipParser parser = new InternshipParser();
+
+    @Benchmark
+    public Command parseAdd() throws ParseException {
+        return parser.parseCommand(ADD_COMMAND);
+    }
+
+    @Benchmark
+    public Command parseEdit() throws ParseException {
+        return parser.parseCommand(EDIT_COMMAND);
+    }
+
+    @Benchmark
+    public Command parseFind() throws ParseException {
+        return parser.parseCommand(FIND_COMMAND);
+    }
+
+    /**
+     * Tokenizes the arguments of an add command.
+     */
+    @Benchmark
+    public ArgumentMultimap tokenize() {
+        return ArgumentTokenizer.tokenize(ADD_ARGUMENTS, PREFIX_COMPANY_NAME, PREFIX_INTERNSHIP_POSITION,
+                PREFIX_DEADLINE_OF_APPLICATION, PREFIX_TAG);
+    }
+}
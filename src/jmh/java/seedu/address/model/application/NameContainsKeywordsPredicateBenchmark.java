@@ -0,0 +1,54 @@
+package seedu.address.model.application;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.benchmark.BenchmarkApplications;
+
+/**
+ * Benchmarks finding applications by company name among {@code size} applications, as the {@code find} command
+ * does.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class NameContainsKeywordsPredicateBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    public int size;
+
+    private List<Application> applications;
+    private NameContainsKeywordsPredicate predicate;
+
+    /**
+     * Generates {@code size} applications and looks for those of the company with the most applications.
+     */
+    @Setup
+    public void setUp() {
+        applications = BenchmarkApplications.generate(size);
+        predicate = new NameContainsKeywordsPredicate(List.of(BenchmarkApplications.MOST_FREQUENT_COMPANY));
+    }
+
+    /**
+     * Counts the applications matching the keywords.
+     */
+    @Benchmark
+    public long find() {
+        return applications.stream().filter(predicate).count();
+    }
+}
@@ -0,0 +1,71 @@
+package seedu.address.model.application;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.benchmark.BenchmarkApplications;
+
+/**
+ * Benchmarks adding and editing applications in a {@code UniqueApplicationList} of {@code size} applications.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class UniqueApplicationListBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    public int size;
+
+    private UniqueApplicationList applications;
+    private Application toAdd;
+    private Application current;
+    private Application edited;
+
+    /**
+     * Fills the list with {@code size} applications.
+     */
+    @Setup
+    public void setUp() {
+        applications = new UniqueApplicationList();
+        applications.setApplications(BenchmarkApplications.generate(size));
+        toAdd = BenchmarkApplications.generateApplication(size);
+        current = BenchmarkApplications.generateApplication(size / 2);
+        edited = BenchmarkApplications.generateApplication(size + 1);
+    }
+
+    /**
+     * Adds an application, which checks it against every application in the list, then removes it again so
+     * that the size of the list stays the same.
+     */
+    @Benchmark
+    public ApplicationListChange add() {
+        applications.add(toAdd);
+        return applications.remove(toAdd);
+    }
+
+    /**
+     * Edits all the details of the application in the middle of the list, alternating between two versions.
+     */
+    @Benchmark
+    public ApplicationListChange edit() {
+        ApplicationListChange change = applications.setApplication(current, edited);
+        Application previous = current;
+        current = edited;
+        edited = previous;
+        return change;
+    }
+}
@@ -0,0 +1,82 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.benchmark.BenchmarkApplications;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.Internship;
+import seedu.address.model.ReadOnlyInternship;
+
+/**
+ * Benchmarks loading and saving a data file of {@code size} applications.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class JsonInternshipStorageBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    public int size;
+
+    private Path directory;
+    private Path loadFile;
+    private Path saveFile;
+    private Internship internship;
+
+    /**
+     * Writes a data file of {@code size} applications to load.
+     */
+    @Setup
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("internship-benchmark");
+        loadFile = directory.resolve("load.json");
+        saveFile = directory.resolve("save.json");
+        new JsonInternshipStorage(loadFile).saveApplications(BenchmarkApplications.iterator(size), loadFile);
+        internship = new Internship();
+        internship.setApplications(BenchmarkApplications.generate(size));
+    }
+
+    /**
+     * Deletes the data files.
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(loadFile);
+        Files.deleteIfExists(saveFile);
+        Files.deleteIfExists(directory);
+    }
+
+    @Benchmark
+    public Optional<ReadOnlyInternship> load() throws DataConversionException {
+        return new JsonInternshipStorage(loadFile).readInternship();
+    }
+
+    /**
+     * Saves the applications to a data file, replacing the one saved before.
+     */
+    @Benchmark
+    public Path save() throws IOException {
+        new JsonInternshipStorage(saveFile).saveInternship(internship);
+        return saveFile;
+    }
+}
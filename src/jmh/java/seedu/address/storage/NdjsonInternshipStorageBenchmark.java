@@ -0,0 +1,75 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.benchmark.BenchmarkApplications;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.Internship;
+import seedu.address.model.ReadOnlyInternship;
+
+/**
+ * Benchmarks loading a newline-delimited JSON data file of {@code size} applications, and verifying it without
+ * loading it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class NdjsonInternshipStorageBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    public int size;
+
+    private Path directory;
+    private Path dataFile;
+
+    /**
+     * Writes a data file of {@code size} applications.
+     */
+    @Setup
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("internship-benchmark");
+        dataFile = directory.resolve("data.ndjson");
+        Internship internship = new Internship();
+        internship.setApplications(BenchmarkApplications.generate(size));
+        new NdjsonInternshipStorage(dataFile, false).saveInternship(internship);
+    }
+
+    /**
+     * Deletes the data file.
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(dataFile);
+        Files.deleteIfExists(directory);
+    }
+
+    @Benchmark
+    public Optional<ReadOnlyInternship> load() throws DataConversionException, IOException {
+        return new NdjsonInternshipStorage(dataFile, false).readInternship();
+    }
+
+    @Benchmark
+    public DataFileVerifier.Result verify() throws IOException {
+        return DataFileVerifier.verify(dataFile, bytesRead -> {});
+    }
+}
@@ -0,0 +1,45 @@
+package seedu.address;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import seedu.address.model.util.SyntheticDataGenerator;
+import seedu.address.storage.JsonInternshipStorage;
+
+/**
+ * Writes a data file of synthetic applications for load and stress tests.
+ * Usage: {@code GenerateData COUNT FILE [SEED]}. The same count and seed always give the same file.
+ *
+ * @see SyntheticDataGenerator
+ */
+public class GenerateData {
+
+    static final long DEFAULT_SEED = 42;
+    static final String MESSAGE_USAGE = "Usage: GenerateData COUNT FILE [SEED]";
+
+    /**
+     * Writes the data file specified by {@code args}.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2 || args.length > 3) {
+            System.err.println(MESSAGE_USAGE);
+            System.exit(1);
+        }
+        int count = Integer.parseInt(args[0]);
+        Path file = Paths.get(args[1]);
+        long seed = args.length == 3 ? Long.parseLong(args[2]) : DEFAULT_SEED;
+
+        long start = System.nanoTime();
+        long saved = generate(count, file, seed);
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        System.out.printf("Wrote %d applications to %s in %d ms%n", saved, file, elapsedMillis);
+    }
+
+    /**
+     * Writes {@code count} applications generated from {@code seed} to {@code file}, returning the number written.
+     */
+    static long generate(int count, Path file, long seed) throws IOException {
+        return new JsonInternshipStorage(file).saveApplications(new SyntheticDataGenerator(seed).generate(count), file);
+    }
+}
@@ -2,16 +2,25 @@ package seedu.address;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Logger;
+import javax.management.ObjectName;
 
 import javafx.application.Application;
 import javafx.stage.Stage;
+import seedu.address.api.ApiServer;
 import seedu.address.commons.core.Config;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.StartupTimer;
 import seedu.address.commons.core.Version;
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.Compression;
 import seedu.address.commons.util.ConfigUtil;
+import seedu.address.commons.util.JmxUtil;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.Logic;
 import seedu.address.logic.LogicManager;
@@ -22,12 +31,15 @@ import seedu.address.model.ReadOnlyInternship;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
+import seedu.address.storage.ApplicationExporter.Format;
 import seedu.address.storage.InternshipStorage;
 import seedu.address.storage.JsonInternshipStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.NdjsonInternshipStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
 import seedu.address.storage.UserPrefsStorage;
+import seedu.address.ui.FxThreadExecutor;
 import seedu.address.ui.Ui;
 import seedu.address.ui.UiManager;
 
@@ -45,35 +57,87 @@ public class MainApp extends Application {
     protected Storage storage;
     protected Model model;
     protected Config config;
+    protected ApiServer apiServer;
+    private final List<ObjectName> managementBeans = new ArrayList<>();
+    private final StartupTimer startupTimer = new StartupTimer();
+    private InternshipStorage internshipStorage;
+    private CompletableFuture<ReadOnlyInternship> initialData;
+    private CompletableFuture<Void> startupSaves = CompletableFuture.completedFuture(null);
 
     @Override
     public void init() throws Exception {
         logger.info("=============================[ Initializing InternSHIP ]===========================");
         super.init();
+        UiManager.prewarm();
 
+        // config, prefs and data are read in the background while the FXML files are prewarmed, and the files
+        // are re-saved off the critical path
         AppParameters appParameters = AppParameters.parse(getParameters());
-        config = initConfig(appParameters.getConfigPath());
+        Path configFilePath = getConfigFilePath(appParameters.getConfigPath());
+        CompletableFuture<Config> configRead = CompletableFuture.supplyAsync(() ->
+                startupTimer.time("config", () -> initConfig(configFilePath)));
+        CompletableFuture<UserPrefsStorage> prefsStorageCreated = configRead.thenApply(readConfig ->
+                new JsonUserPrefsStorage(readConfig.getUserPrefsFilePath()));
+        CompletableFuture<UserPrefs> prefsRead = prefsStorageCreated.thenApplyAsync(userPrefsStorage ->
+                startupTimer.time("prefs", () -> initPrefs(userPrefsStorage)));
+        startupSaves = CompletableFuture.allOf(
+                configRead.thenAcceptAsync(readConfig -> saveConfig(readConfig, configFilePath)),
+                prefsRead.thenAcceptBothAsync(prefsStorageCreated, MainApp::savePrefs));
 
-        UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
-        UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        InternshipStorage internshipStorage = new JsonInternshipStorage(userPrefs.getInternshipFilePath());
-        storage = new StorageManager(internshipStorage, userPrefsStorage);
+        config = configRead.join();
+        UserPrefs userPrefs = prefsRead.join();
+        internshipStorage = createInternshipStorage(userPrefs);
+        storage = new StorageManager(internshipStorage, prefsStorageCreated.join());
+        initialData = CompletableFuture.supplyAsync(() ->
+                startupTimer.time("data read", () -> readInitialData(storage)));
 
-        initLogging(config);
+        startupTimer.run("logging", () -> initLogging(config));
 
-        model = initModelManager(storage, userPrefs);
+        // the applications are added to the model in the background once the window is shown
+        model = startupTimer.time("model", () -> new ModelManager(new Internship(), userPrefs));
 
-        logic = new LogicManager(model, storage);
+        startupTimer.run("logic", () -> {
+            logic = new LogicManager(model, storage, new FxThreadExecutor());
+            logic.startStatisticsDump(config.getCommandStatisticsFilePath(),
+                    config.getCommandStatisticsIntervalSeconds());
+            if (config.isCommandTraceEnabled()) {
+                startTraceRecording(config.getCommandTraceFilePath());
+            }
+        });
 
         ui = new UiManager(logic);
+
+        startupTimer.run("management beans", this::registerManagementBeans);
+
+        if (config.isApiServerEnabled()) {
+            apiServer = new ApiServer(logic, config);
+        }
     }
 
     /**
-     * Returns a {@code ModelManager} with the data from {@code storage}'s Internship and {@code userPrefs}. <br>
+     * Returns the storage for the data file in {@code userPrefs}: newline-delimited JSON that skips unreadable
+     * lines if the file name ends with {@code .ndjson} or {@code .jsonl}, or else json. The file is GZIP compressed
+     * if its name also ends with {@code .gz}, or if {@code userPrefs} says so.
+     */
+    private static InternshipStorage createInternshipStorage(ReadOnlyUserPrefs userPrefs) {
+        Path internshipFilePath = userPrefs.getInternshipFilePath();
+        Compression compression = userPrefs.isDataFileCompressed() || Compression.hasGzipExtension(internshipFilePath)
+                ? Compression.gzip(userPrefs.getDataFileCompressionLevel())
+                : Compression.NONE;
+        logger.info("Using data file " + internshipFilePath + " with compression " + compression);
+        Optional<Format> format = Format.fromFileName(Compression.getUncompressedName(internshipFilePath));
+        if (format.isPresent() && format.get() == Format.NDJSON) {
+            return new NdjsonInternshipStorage(internshipFilePath, true, compression);
+        }
+        return new JsonInternshipStorage(internshipFilePath, compression);
+    }
+
+    /**
+     * Returns the data from {@code storage}'s Internship. <br>
      * The data from the sample Internship will be used instead if {@code storage}'s Internship is not found,
      * or an empty Internship will be used instead if errors occur when reading {@code storage}'s Internship.
      */
-    private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
+    private ReadOnlyInternship readInitialData(Storage storage) {
         Optional<ReadOnlyInternship> internshipOptional;
         ReadOnlyInternship initialData;
         try {
@@ -89,8 +153,54 @@ public class MainApp extends Application {
             logger.warning("Problem while reading from the file. Will be starting with an empty InternSHIP");
             initialData = new Internship();
         }
+        return initialData;
+    }
+
+    /**
+     * Loads the applications in the background, showing them as they are added.
+     * Commands entered in the meantime run once all of them have been added.
+     */
+    private void loadInitialData() {
+        ui.showFeedback("Loading applications from " + storage.getInternshipFilePath() + "...");
+        long start = System.nanoTime();
+        logic.loadAsync(initialData::join)
+                .whenComplete((count, error) -> {
+                    startupTimer.record("data load", System.nanoTime() - start);
+                    if (error != null) {
+                        logger.severe("Failed to load applications: " + StringUtil.getDetails(error));
+                        ui.showFeedback("Failed to load applications: " + error.getMessage());
+                        return;
+                    }
+                    logger.info("Loaded " + count + " applications. Startup times: " + startupTimer.format());
+                    ui.showFeedback("Loaded " + count + " applications in "
+                            + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) + " ms."
+                            + formatReadProblems());
+                });
+    }
+
+    /**
+     * Returns a note on the problems found in the data file, such as lines that were skipped, if there are any.
+     */
+    private String formatReadProblems() {
+        if (!(internshipStorage instanceof NdjsonInternshipStorage)) {
+            return "";
+        }
+        List<String> readProblems = ((NdjsonInternshipStorage) internshipStorage).getReadProblems();
+        if (readProblems.isEmpty()) {
+            return "";
+        }
+        return "\nFound " + readProblems.size() + " problems in the data file, and backed it up to "
+                + storage.getInternshipFilePath() + NdjsonInternshipStorage.BACKUP_FILE_SUFFIX + ":\n"
+                + String.join("\n", readProblems);
+    }
 
-        return new ModelManager(initialData, userPrefs);
+    private void startTraceRecording(Path traceFilePath) {
+        try {
+            logic.startTraceRecording(traceFilePath);
+            logger.info("Recording commands to " + traceFilePath);
+        } catch (IOException e) {
+            logger.warning("Failed to start recording commands : " + StringUtil.getDetails(e));
+        }
     }
 
     private void initLogging(Config config) {
@@ -98,39 +208,44 @@ public class MainApp extends Application {
     }
 
     /**
-     * Returns a {@code Config} using the file at {@code configFilePath}. <br>
-     * The default file path {@code Config#DEFAULT_CONFIG_FILE} will be used instead
-     * if {@code configFilePath} is null.
+     * Returns the config file path to use: {@code configFilePath}, or the default file path
+     * {@code Config#DEFAULT_CONFIG_FILE} if {@code configFilePath} is null.
      */
-    protected Config initConfig(Path configFilePath) {
-        Config initializedConfig;
-        Path configFilePathUsed;
-
-        configFilePathUsed = Config.DEFAULT_CONFIG_FILE;
-
-        if (configFilePath != null) {
-            logger.info("Custom Config file specified " + configFilePath);
-            configFilePathUsed = configFilePath;
+    private Path getConfigFilePath(Path configFilePath) {
+        if (configFilePath == null) {
+            return Config.DEFAULT_CONFIG_FILE;
         }
+        logger.info("Custom Config file specified " + configFilePath);
+        return configFilePath;
+    }
 
-        logger.info("Using config file : " + configFilePathUsed);
+    /**
+     * Returns a {@code Config} using the file at {@code configFilePath},
+     * or a new {@code Config} with default properties if the file is missing or not in the correct format.
+     */
+    protected Config initConfig(Path configFilePath) {
+        logger.info("Using config file : " + configFilePath);
 
         try {
-            Optional<Config> configOptional = ConfigUtil.readConfig(configFilePathUsed);
-            initializedConfig = configOptional.orElse(new Config());
+            Optional<Config> configOptional = ConfigUtil.readConfig(configFilePath);
+            return configOptional.orElse(new Config());
         } catch (DataConversionException e) {
-            logger.warning("Config file at " + configFilePathUsed + " is not in the correct format. "
+            logger.warning("Config file at " + configFilePath + " is not in the correct format. "
                     + "Using default config properties");
-            initializedConfig = new Config();
+            return new Config();
         }
+    }
 
-        //Update config file in case it was missing to begin with or there are new/unused fields
+    /**
+     * Saves {@code config} to {@code configFilePath} in case the file was missing to begin with or there are
+     * new/unused fields.
+     */
+    private static void saveConfig(Config config, Path configFilePath) {
         try {
-            ConfigUtil.saveConfig(initializedConfig, configFilePathUsed);
+            ConfigUtil.saveConfig(config, configFilePath);
         } catch (IOException e) {
             logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
         }
-        return initializedConfig;
     }
 
     /**
@@ -142,42 +257,79 @@ public class MainApp extends Application {
         Path prefsFilePath = storage.getUserPrefsFilePath();
         logger.info("Using prefs file : " + prefsFilePath);
 
-        UserPrefs initializedPrefs;
         try {
             Optional<UserPrefs> prefsOptional = storage.readUserPrefs();
-            initializedPrefs = prefsOptional.orElse(new UserPrefs());
+            return prefsOptional.orElse(new UserPrefs());
         } catch (DataConversionException e) {
             logger.warning("UserPrefs file at " + prefsFilePath + " is not in the correct format. "
                     + "Using default user prefs");
-            initializedPrefs = new UserPrefs();
+            return new UserPrefs();
         } catch (IOException e) {
             logger.warning("Problem while reading from the file. Will be starting with an empty InternSHIP");
-            initializedPrefs = new UserPrefs();
+            return new UserPrefs();
         }
+    }
 
-        //Update prefs file in case it was missing to begin with or there are new/unused fields
+    /**
+     * Saves {@code userPrefs} to {@code storage} in case the file was missing to begin with or there are
+     * new/unused fields.
+     */
+    private static void savePrefs(UserPrefs userPrefs, UserPrefsStorage storage) {
         try {
-            storage.saveUserPrefs(initializedPrefs);
+            storage.saveUserPrefs(userPrefs);
         } catch (IOException e) {
-            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+            logger.warning("Failed to save prefs file : " + StringUtil.getDetails(e));
         }
-
-        return initializedPrefs;
     }
 
     @Override
     public void start(Stage primaryStage) {
         logger.info("Starting InternSHIP " + MainApp.VERSION);
-        ui.start(primaryStage);
+        startupTimer.run("ui", () -> ui.start(primaryStage));
+        logger.info("Ready for input. Startup times: " + startupTimer.format());
+        loadInitialData();
+        startApiServer();
+    }
+
+    /**
+     * Registers the model, storage and logic statistics with the platform MBean server for JConsole and VisualVM.
+     */
+    private void registerManagementBeans() {
+        JmxUtil.register(model, "Model").ifPresent(managementBeans::add);
+        JmxUtil.register(storage, "Storage").ifPresent(managementBeans::add);
+        JmxUtil.register(logic, "Logic").ifPresent(managementBeans::add);
+    }
+
+    /**
+     * Starts the local API server if it is enabled in the config.
+     * The application keeps running without the API if the server cannot be started.
+     */
+    private void startApiServer() {
+        if (apiServer == null) {
+            return;
+        }
+        try {
+            apiServer.start();
+        } catch (IOException e) {
+            logger.warning("Failed to start API server : " + StringUtil.getDetails(e));
+            apiServer = null;
+        }
     }
 
     @Override
     public void stop() {
         logger.info("============================ [ Stopping InternSHIP ] =============================");
+        if (apiServer != null) {
+            apiServer.stop();
+        }
+        logic.shutdown();
+        managementBeans.forEach(JmxUtil::unregister);
+        startupSaves.join(); // so that saving the preferences at startup cannot overwrite the ones saved here
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
+        LogsCenter.close();
     }
 }
@@ -0,0 +1,59 @@
+package seedu.address;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Optional;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.logic.trace.ReplayReport;
+import seedu.address.logic.trace.TraceEntry;
+import seedu.address.logic.trace.TraceReplayer;
+import seedu.address.model.Internship;
+import seedu.address.model.ReadOnlyInternship;
+import seedu.address.storage.JsonInternshipStorage;
+
+/**
+ * Replays a command trace without a UI and prints the latency and throughput of the commands.
+ * Usage: {@code ReplayTrace TRACE_FILE [DATA_FILE]}. The replay starts with the applications in {@code DATA_FILE},
+ * or none if it is not given, and saves to a temporary directory, leaving {@code DATA_FILE} unchanged.
+ *
+ * @see TraceReplayer
+ */
+public class ReplayTrace {
+
+    static final String MESSAGE_USAGE = "Usage: ReplayTrace TRACE_FILE [DATA_FILE]";
+
+    /**
+     * Replays the trace specified by {@code args}.
+     */
+    public static void main(String[] args) throws IOException, DataConversionException {
+        if (args.length < 1 || args.length > 2) {
+            System.err.println(MESSAGE_USAGE);
+            System.exit(1);
+        }
+        List<TraceEntry> trace = TraceReplayer.readTrace(Paths.get(args[0]));
+        ReadOnlyInternship initialData = new Internship();
+        if (args.length == 2) {
+            Path dataFile = Paths.get(args[1]);
+            Optional<ReadOnlyInternship> data = new JsonInternshipStorage(dataFile).readInternship();
+            if (data.isEmpty()) {
+                System.err.println("Data file not found: " + dataFile);
+                System.exit(1);
+            }
+            initialData = data.get();
+        }
+
+        Path workingDirectory = Files.createTempDirectory("internship-replay");
+        try {
+            ReplayReport report = new TraceReplayer(initialData, workingDirectory).replay(trace);
+            System.out.print(report.format());
+        } finally {
+            Files.deleteIfExists(workingDirectory.resolve(TraceReplayer.DATA_FILE_NAME));
+            Files.deleteIfExists(workingDirectory.resolve(TraceReplayer.PREFS_FILE_NAME));
+            Files.deleteIfExists(workingDirectory);
+        }
+    }
+}
@@ -0,0 +1,248 @@
+package seedu.address.api;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.Logic;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.application.Application;
+
+/**
+ * An optional embedded HTTP server that exposes the {@code Logic} component as a local JSON API.
+ * <ul>
+ *     <li>{@code POST /api/execute} executes the command text in the request body.</li>
+ *     <li>{@code GET /api/applications} returns the currently filtered list of applications.</li>
+ *     <li>{@code GET /api/internship} returns every application in InternSHIP.</li>
+ *     <li>{@code GET /api/summary} returns application counts by status and completion.</li>
+ * </ul>
+ * Requests are served by a fixed pool of worker threads reading model snapshots, so concurrent readers
+ * neither wait on the UI nor block commands.
+ * Commands are executed asynchronously by {@code Logic}, one at a time and in the order they arrive.
+ */
+public class ApiServer {
+
+    public static final String EXECUTE_PATH = "/api/execute";
+    public static final String APPLICATIONS_PATH = "/api/applications";
+    public static final String INTERNSHIP_PATH = "/api/internship";
+    public static final String SUMMARY_PATH = "/api/summary";
+
+    static final int HTTP_OK = 200;
+    static final int HTTP_BAD_REQUEST = 400;
+    static final int HTTP_METHOD_NOT_ALLOWED = 405;
+    static final int HTTP_INTERNAL_ERROR = 500;
+
+    private static final Logger logger = LogsCenter.getLogger(ApiServer.class);
+    private static final String CONTENT_TYPE_JSON = "application/json; charset=utf-8";
+    private static final int STOP_DELAY_SECONDS = 1;
+
+    private final Logic logic;
+    private final String address;
+    private final int port;
+    private final int threads;
+
+    private HttpServer server;
+    private ExecutorService workerPool;
+
+    /**
+     * Creates an {@code ApiServer} for {@code logic}, bound according to the API settings in {@code config}.
+     */
+    public ApiServer(Logic logic, Config config) {
+        requireNonNull(logic);
+        requireNonNull(config);
+        this.logic = logic;
+        this.address = config.getApiServerAddress();
+        this.port = config.getApiServerPort();
+        this.threads = Math.max(1, config.getApiServerThreads());
+    }
+
+    /**
+     * Binds the server and starts accepting requests.
+     * @throws IOException if the server cannot be bound to the configured address and port.
+     */
+    public void start() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(address, port), 0);
+        workerPool = Executors.newFixedThreadPool(threads, new WorkerThreadFactory());
+        server.setExecutor(workerPool);
+        server.createContext(EXECUTE_PATH, new JsonHandler("POST", this::handleExecute));
+        server.createContext(APPLICATIONS_PATH, new JsonHandler("GET", body ->
+                JsonApiApplication.fromApplications(logic.getFilteredApplicationSnapshot())));
+        server.createContext(INTERNSHIP_PATH, new JsonHandler("GET", body ->
+                JsonApiApplication.fromApplications(logic.getApplicationSnapshot())));
+        server.createContext(SUMMARY_PATH, new JsonHandler("GET", this::handleSummary));
+        server.start();
+        logger.info("API server listening on " + address + ":" + getPort() + " with " + threads + " workers");
+    }
+
+    /**
+     * Stops the server, allowing in-flight requests a short time to complete.
+     */
+    public void stop() {
+        if (server == null) {
+            return;
+        }
+        server.stop(STOP_DELAY_SECONDS);
+        workerPool.shutdown();
+        server = null;
+        logger.info("API server stopped");
+    }
+
+    /**
+     * Returns the port the server is bound to, which differs from the configured port if that was 0.
+     */
+    public int getPort() {
+        return server == null ? port : server.getAddress().getPort();
+    }
+
+    private Object handleExecute(String commandText) throws ApiException {
+        if (commandText.isBlank()) {
+            throw new ApiException(HTTP_BAD_REQUEST, "Request body must contain a command");
+        }
+
+        try {
+            CommandResult commandResult = logic.executeAsync(commandText).get();
+            Map<String, Object> response = new LinkedHashMap<>();
+            response.put("feedbackToUser", commandResult.getFeedbackToUser());
+            response.put("showHelp", commandResult.isShowHelp());
+            response.put("exit", commandResult.isExit());
+            return response;
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof CommandException || cause instanceof ParseException) {
+                throw new ApiException(HTTP_BAD_REQUEST, cause.getMessage());
+            }
+            throw new ApiException(HTTP_INTERNAL_ERROR, String.valueOf(cause));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ApiException(HTTP_INTERNAL_ERROR, "Interrupted while executing command");
+        }
+    }
+
+    private Object handleSummary(String body) {
+        List<Application> applications = logic.getApplicationSnapshot();
+        Map<String, Integer> byStatus = new TreeMap<>();
+        Map<String, Integer> byCompletion = new TreeMap<>();
+        for (Application application : applications) {
+            byStatus.merge(application.getStatus().value, 1, Integer::sum);
+            byCompletion.merge(application.getCompletion().value, 1, Integer::sum);
+        }
+
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("total", applications.size());
+        response.put("filtered", logic.getFilteredApplicationSnapshot().size());
+        response.put("byStatus", byStatus);
+        response.put("byCompletion", byCompletion);
+        return response;
+    }
+
+    /**
+     * Represents a function that turns a request body into an object to be serialized as the JSON response.
+     */
+    @FunctionalInterface
+    private interface RequestHandler {
+        Object handle(String body) throws ApiException;
+    }
+
+    /**
+     * Adapts a {@code RequestHandler} to a {@code HttpHandler} accepting a single HTTP method.
+     */
+    private static class JsonHandler implements HttpHandler {
+        private final String method;
+        private final RequestHandler handler;
+
+        JsonHandler(String method, RequestHandler handler) {
+            this.method = method;
+            this.handler = handler;
+        }
+
+        @Override
+        public void handle(HttpExchange exchange) throws IOException {
+            try {
+                if (!method.equalsIgnoreCase(exchange.getRequestMethod())) {
+                    exchange.getResponseHeaders().set("Allow", method);
+                    sendError(exchange, HTTP_METHOD_NOT_ALLOWED, "Use " + method + " for this resource");
+                    return;
+                }
+                Object response = handler.handle(readBody(exchange.getRequestBody()));
+                send(exchange, HTTP_OK, response);
+            } catch (ApiException e) {
+                sendError(exchange, e.statusCode, e.getMessage());
+            } catch (RuntimeException e) {
+                logger.warning("Unexpected error while serving " + exchange.getRequestURI() + ": "
+                        + StringUtil.getDetails(e));
+                sendError(exchange, HTTP_INTERNAL_ERROR, String.valueOf(e));
+            } finally {
+                exchange.close();
+            }
+        }
+
+        private static String readBody(InputStream requestBody) throws IOException {
+            return new String(requestBody.readAllBytes(), StandardCharsets.UTF_8).trim();
+        }
+
+        private static void sendError(HttpExchange exchange, int statusCode, String message) throws IOException {
+            send(exchange, statusCode, Map.of("error", message));
+        }
+
+        private static void send(HttpExchange exchange, int statusCode, Object response) throws IOException {
+            byte[] bytes = JsonUtil.toJsonString(response).getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE_JSON);
+            exchange.sendResponseHeaders(statusCode, bytes.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(bytes);
+            }
+        }
+    }
+
+    /**
+     * Signals that a request cannot be served, along with the HTTP status code to report.
+     */
+    private static class ApiException extends Exception {
+        private static final long serialVersionUID = 1L;
+
+        private final int statusCode;
+
+        ApiException(int statusCode, String message) {
+            super(message);
+            this.statusCode = statusCode;
+        }
+    }
+
+    /**
+     * Creates named daemon threads so that the worker pool never keeps the application alive.
+     */
+    private static class WorkerThreadFactory implements ThreadFactory {
+        private final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "api-worker-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package seedu.address.api;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.address.model.application.Application;
+
+/**
+ * Jackson-friendly, read-only view of an {@link Application} returned by the {@link ApiServer}.
+ */
+class JsonApiApplication {
+
+    private final String company;
+    private final String position;
+    private final String deadline;
+    private final String completion;
+    private final String status;
+    private final List<String> tags;
+
+    /**
+     * Converts a given {@code Application} into this class for Jackson use.
+     */
+    JsonApiApplication(Application source) {
+        company = source.getCompany().fullCompanyName;
+        position = source.getPosition().value;
+        deadline = source.getDeadline().value;
+        completion = source.getCompletion().value;
+        status = source.getStatus().value;
+        tags = source.getTags().stream()
+                .map(tag -> tag.tagName)
+                .sorted()
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Converts every application in {@code applications} into its JSON view.
+     */
+    static List<JsonApiApplication> fromApplications(List<Application> applications) {
+        return applications.stream().map(JsonApiApplication::new).collect(Collectors.toList());
+    }
+
+}
@@ -0,0 +1,156 @@
+package seedu.address.commons.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.ErrorManager;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+/**
+ * A {@code Handler} that hands log records to other handlers on a background writer thread, so that formatting
+ * and writing them, e.g. to a file, does not slow down the thread that logs.
+ * Records wait in a bounded queue. When it is full, records below the blocking level are dropped and counted,
+ * and a warning reporting how many were dropped is written once the writer catches up. Records at or above
+ * the blocking level are never dropped; the logging thread waits for space instead.
+ */
+public class AsyncLogHandler extends Handler {
+
+    private static final String WRITER_THREAD_NAME = "log-writer";
+    private static final long CLOSE_TIMEOUT_MILLIS = 1000;
+    private static final long FLUSH_TIMEOUT_MILLIS = 1000;
+    /** Marks the end of the queue when the handler is closed. */
+    private static final LogRecord END_OF_QUEUE = new LogRecord(Level.OFF, "");
+
+    private final List<Handler> delegates;
+    private final BlockingQueue<LogRecord> queue;
+    private final Level blockingLevel;
+    private final Thread writer;
+    private final AtomicLong enqueuedCount = new AtomicLong();
+    private final AtomicLong writtenCount = new AtomicLong();
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final AtomicBoolean isClosed = new AtomicBoolean();
+
+    /**
+     * Creates an {@code AsyncLogHandler} that queues up to {@code capacity} records for {@code delegates} and
+     * waits for space only for records at or above {@code blockingLevel}.
+     */
+    public AsyncLogHandler(int capacity, Level blockingLevel, List<Handler> delegates) {
+        requireNonNull(blockingLevel);
+        requireNonNull(delegates);
+        this.delegates = List.copyOf(delegates);
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.blockingLevel = blockingLevel;
+        writer = new Thread(this::write, WRITER_THREAD_NAME);
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    @Override
+    public void publish(LogRecord record) {
+        if (isClosed.get() || !isLoggable(record)) {
+            return;
+        }
+        // the caller can only be found on the logging thread
+        record.getSourceClassName();
+
+        if (record.getLevel().intValue() < blockingLevel.intValue()) {
+            if (queue.offer(record)) {
+                enqueuedCount.incrementAndGet();
+            } else {
+                droppedCount.incrementAndGet();
+            }
+            return;
+        }
+        try {
+            queue.put(record);
+            enqueuedCount.incrementAndGet();
+        } catch (InterruptedException e) {
+            droppedCount.incrementAndGet();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Returns the number of records dropped because the queue was full and not yet reported.
+     */
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    /**
+     * Waits for the records published so far to be written, for up to a second, then flushes the delegates.
+     */
+    @Override
+    public void flush() {
+        long target = enqueuedCount.get();
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(FLUSH_TIMEOUT_MILLIS);
+        while (writtenCount.get() < target && writer.isAlive() && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+            Thread.yield();
+        }
+        delegates.forEach(Handler::flush);
+    }
+
+    /**
+     * Writes the records still queued, then stops the writer thread and closes the delegates.
+     * Records published afterwards are ignored. Closing more than once has no further effect.
+     */
+    @Override
+    public void close() {
+        if (isClosed.getAndSet(true)) {
+            return;
+        }
+        try {
+            queue.put(END_OF_QUEUE);
+            writer.join(CLOSE_TIMEOUT_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        delegates.forEach(Handler::close);
+    }
+
+    /**
+     * Writes queued records to the delegates until the end of the queue is reached.
+     */
+    private void write() {
+        while (true) {
+            LogRecord record;
+            try {
+                record = queue.take();
+            } catch (InterruptedException e) {
+                return;
+            }
+            if (record == END_OF_QUEUE) {
+                return;
+            }
+            writeToDelegates(record);
+            writtenCount.incrementAndGet();
+            reportDroppedRecords();
+        }
+    }
+
+    private void reportDroppedRecords() {
+        long dropped = droppedCount.getAndSet(0);
+        if (dropped > 0) {
+            writeToDelegates(new LogRecord(Level.WARNING, "Dropped " + dropped
+                    + " log records because logging fell behind"));
+        }
+    }
+
+    private void writeToDelegates(LogRecord record) {
+        for (Handler delegate : delegates) {
+            try {
+                delegate.publish(record);
+            } catch (RuntimeException e) {
+                reportError("Log handler failed", e, ErrorManager.WRITE_FAILURE);
+            }
+        }
+    }
+}
@@ -16,6 +16,20 @@ public class Config {
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
 
+    // Local HTTP API server settings
+    private boolean apiServerEnabled = false;
+    private String apiServerAddress = "127.0.0.1";
+    private int apiServerPort = 8080;
+    private int apiServerThreads = 4;
+
+    // Command statistics settings; an interval of 0 disables writing the statistics file
+    private Path commandStatisticsFilePath = Paths.get("data", "commandstats.txt");
+    private long commandStatisticsIntervalSeconds = 300;
+
+    // Command trace settings
+    private boolean commandTraceEnabled = false;
+    private Path commandTraceFilePath = Paths.get("data", "commandtrace.tsv");
+
     public Level getLogLevel() {
         return logLevel;
     }
@@ -32,6 +46,70 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    public boolean isApiServerEnabled() {
+        return apiServerEnabled;
+    }
+
+    public void setApiServerEnabled(boolean apiServerEnabled) {
+        this.apiServerEnabled = apiServerEnabled;
+    }
+
+    public String getApiServerAddress() {
+        return apiServerAddress;
+    }
+
+    public void setApiServerAddress(String apiServerAddress) {
+        this.apiServerAddress = apiServerAddress;
+    }
+
+    public int getApiServerPort() {
+        return apiServerPort;
+    }
+
+    public void setApiServerPort(int apiServerPort) {
+        this.apiServerPort = apiServerPort;
+    }
+
+    public int getApiServerThreads() {
+        return apiServerThreads;
+    }
+
+    public void setApiServerThreads(int apiServerThreads) {
+        this.apiServerThreads = apiServerThreads;
+    }
+
+    public Path getCommandStatisticsFilePath() {
+        return commandStatisticsFilePath;
+    }
+
+    public void setCommandStatisticsFilePath(Path commandStatisticsFilePath) {
+        this.commandStatisticsFilePath = commandStatisticsFilePath;
+    }
+
+    public long getCommandStatisticsIntervalSeconds() {
+        return commandStatisticsIntervalSeconds;
+    }
+
+    public void setCommandStatisticsIntervalSeconds(long commandStatisticsIntervalSeconds) {
+        this.commandStatisticsIntervalSeconds = commandStatisticsIntervalSeconds;
+    }
+
+    public boolean isCommandTraceEnabled() {
+        return commandTraceEnabled;
+    }
+
+    public void setCommandTraceEnabled(boolean commandTraceEnabled) {
+        this.commandTraceEnabled = commandTraceEnabled;
+    }
+
+    public Path getCommandTraceFilePath() {
+        return commandTraceFilePath;
+    }
+
+    public void setCommandTraceFilePath(Path commandTraceFilePath) {
+        this.commandTraceFilePath = commandTraceFilePath;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -44,12 +122,22 @@ public class Config {
         Config o = (Config) other;
 
         return Objects.equals(logLevel, o.logLevel)
-                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath)
+                && apiServerEnabled == o.apiServerEnabled
+                && Objects.equals(apiServerAddress, o.apiServerAddress)
+                && apiServerPort == o.apiServerPort
+                && apiServerThreads == o.apiServerThreads
+                && Objects.equals(commandStatisticsFilePath, o.commandStatisticsFilePath)
+                && commandStatisticsIntervalSeconds == o.commandStatisticsIntervalSeconds
+                && commandTraceEnabled == o.commandTraceEnabled
+                && Objects.equals(commandTraceFilePath, o.commandTraceFilePath);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, apiServerEnabled, apiServerAddress, apiServerPort,
+                apiServerThreads, commandStatisticsFilePath, commandStatisticsIntervalSeconds, commandTraceEnabled,
+                commandTraceFilePath);
     }
 
     @Override
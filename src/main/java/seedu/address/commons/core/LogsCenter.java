@@ -1,9 +1,14 @@
 package seedu.address.commons.core;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.ConsoleHandler;
 import java.util.logging.FileHandler;
+import java.util.logging.Handler;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.logging.SimpleFormatter;
@@ -14,39 +19,36 @@ import java.util.logging.SimpleFormatter;
  * These loggers have been configured to output messages to the console and a {@code .log} file by default,
  *   at the {@code INFO} level. A new {@code .log} file with a new numbering will be created after the log
  *   file reaches 5MB big, up to a maximum of 5 files.<br>
+ * Messages are written by a background thread through an {@link AsyncLogHandler}, so logging does not wait for
+ *   the console or the file. If logging falls behind, messages below {@code WARNING} are dropped.<br>
  */
 public class LogsCenter {
     private static final int MAX_FILE_COUNT = 5;
     private static final int MAX_FILE_SIZE_IN_BYTES = (int) (Math.pow(2, 20) * 5); // 5MB
     private static final String LOG_FILE = "addressbook.log";
+    private static final int LOG_QUEUE_CAPACITY = 4096;
+    private static final Level BLOCKING_LEVEL = Level.WARNING;
+    private static final Map<String, Logger> loggers = new ConcurrentHashMap<>();
     private static Level currentLogLevel = Level.INFO;
+    private static AsyncLogHandler asyncHandler;
     private static final Logger logger = LogsCenter.getLogger(LogsCenter.class);
-    private static FileHandler fileHandler;
-    private static ConsoleHandler consoleHandler;
 
     /**
-     * Initializes with a custom log level (specified in the {@code config} object)
-     * Loggers obtained *AFTER* this initialization will have their logging level changed<br>
-     * Logging levels for existing loggers will only be updated if the logger with the same name
-     * is requested again from the LogsCenter.
+     * Initializes with a custom log level (specified in the {@code config} object), which applies to all
+     * loggers obtained from the LogsCenter, including those obtained before this initialization.
      */
     public static void init(Config config) {
         currentLogLevel = config.getLogLevel();
+        getAsyncHandler().setLevel(currentLogLevel);
+        loggers.values().forEach(logger -> logger.setLevel(currentLogLevel));
         logger.info("currentLogLevel: " + currentLogLevel);
     }
 
     /**
-     * Creates a logger with the given name.
+     * Returns the logger with the given name, configuring it the first time it is requested.
      */
     public static Logger getLogger(String name) {
-        Logger logger = Logger.getLogger(name);
-        logger.setUseParentHandlers(false);
-
-        removeHandlers(logger);
-        addConsoleHandler(logger);
-        addFileHandler(logger);
-
-        return Logger.getLogger(name);
+        return loggers.computeIfAbsent(name, LogsCenter::createLogger);
     }
 
     /**
@@ -60,14 +62,28 @@ public class LogsCenter {
     }
 
     /**
-     * Adds the {@code consoleHandler} to the {@code logger}. <br>
-     * Creates the {@code consoleHandler} if it is null.
+     * Writes the messages logged so far, then closes the console and the log file.
+     * Messages logged afterwards are ignored, so this must be called last when the app stops.
      */
-    private static void addConsoleHandler(Logger logger) {
-        if (consoleHandler == null) {
-            consoleHandler = createConsoleHandler();
+    public static synchronized void close() {
+        if (asyncHandler != null) {
+            asyncHandler.close();
         }
-        logger.addHandler(consoleHandler);
+    }
+
+    /**
+     * Configures the logger with the given name to output messages only through the {@code asyncHandler}.
+     * The returned logger must be kept referenced, as {@code Logger.getLogger} may otherwise return a new,
+     * unconfigured one later.
+     */
+    private static Logger createLogger(String name) {
+        Logger logger = Logger.getLogger(name);
+        logger.setUseParentHandlers(false);
+        logger.setLevel(currentLogLevel);
+
+        removeHandlers(logger);
+        logger.addHandler(getAsyncHandler());
+        return logger;
     }
 
     /**
@@ -79,34 +95,39 @@ public class LogsCenter {
     }
 
     /**
-     * Adds the {@code fileHandler} to the {@code logger}. <br>
-     * Creates {@code fileHandler} if it is null.
+     * Returns the {@code asyncHandler} shared by all loggers. <br>
+     * Creates it, writing to the console and the log file, if it is null.
      */
-    private static void addFileHandler(Logger logger) {
-        try {
-            if (fileHandler == null) {
-                fileHandler = createFileHandler();
+    private static synchronized AsyncLogHandler getAsyncHandler() {
+        if (asyncHandler == null) {
+            List<Handler> handlers = new ArrayList<>();
+            handlers.add(createConsoleHandler());
+            try {
+                handlers.add(createFileHandler());
+            } catch (IOException e) {
+                System.err.println("Error adding file handler for logger: " + e.getMessage());
             }
-            logger.addHandler(fileHandler);
-        } catch (IOException e) {
-            logger.warning("Error adding file handler for logger.");
+            asyncHandler = new AsyncLogHandler(LOG_QUEUE_CAPACITY, BLOCKING_LEVEL, handlers);
+            asyncHandler.setLevel(currentLogLevel);
         }
+        return asyncHandler;
     }
 
     /**
      * Creates a {@code FileHandler} for the log file.
+     * Its level is left at {@code ALL}, as messages are filtered by the {@code asyncHandler}.
      * @throws IOException if there are problems opening the file.
      */
     private static FileHandler createFileHandler() throws IOException {
         FileHandler fileHandler = new FileHandler(LOG_FILE, MAX_FILE_SIZE_IN_BYTES, MAX_FILE_COUNT, true);
         fileHandler.setFormatter(new SimpleFormatter());
-        fileHandler.setLevel(currentLogLevel);
+        fileHandler.setLevel(Level.ALL);
         return fileHandler;
     }
 
     private static ConsoleHandler createConsoleHandler() {
         ConsoleHandler consoleHandler = new ConsoleHandler();
-        consoleHandler.setLevel(currentLogLevel);
+        consoleHandler.setLevel(Level.ALL);
         return consoleHandler;
     }
 }
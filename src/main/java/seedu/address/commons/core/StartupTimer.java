@@ -0,0 +1,88 @@
+package seedu.address.commons.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Measures how long each phase of starting the app takes, and the time since the timer was created.
+ * Phases are reported in the order they finished. Safe to use from several threads.
+ */
+public class StartupTimer {
+
+    private final long startNanos;
+    private final Map<String, Long> phaseNanos = new LinkedHashMap<>();
+
+    /**
+     * Creates a {@code StartupTimer} that counts the time since startup from now.
+     */
+    public StartupTimer() {
+        startNanos = System.nanoTime();
+    }
+
+    /**
+     * Returns the result of {@code phase}, recording how long it took under {@code name}.
+     */
+    public <T> T time(String name, Supplier<T> phase) {
+        requireNonNull(name);
+        requireNonNull(phase);
+        long start = System.nanoTime();
+        try {
+            return phase.get();
+        } finally {
+            record(name, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Runs {@code phase}, recording how long it took under {@code name}.
+     */
+    public void run(String name, Runnable phase) {
+        requireNonNull(phase);
+        time(name, () -> {
+            phase.run();
+            return null;
+        });
+    }
+
+    /**
+     * Records that the phase {@code name} took {@code nanos} nanoseconds, adding to any time already recorded
+     * under that name.
+     */
+    public synchronized void record(String name, long nanos) {
+        requireNonNull(name);
+        phaseNanos.merge(name, nanos, Long::sum);
+    }
+
+    /**
+     * Returns the time in nanoseconds recorded for each phase, in the order they were first recorded.
+     */
+    public synchronized Map<String, Long> getPhaseNanos() {
+        return new LinkedHashMap<>(phaseNanos);
+    }
+
+    /**
+     * Returns the nanoseconds elapsed since this timer was created.
+     */
+    public long getElapsedNanos() {
+        return System.nanoTime() - startNanos;
+    }
+
+    /**
+     * Returns the phases with their durations in milliseconds, e.g. "config 12 ms, prefs 3 ms", followed by
+     * the time elapsed since this timer was created.
+     */
+    public String format() {
+        StringJoiner joiner = new StringJoiner(", ", "", "; " + toMillis(getElapsedNanos()) + " ms since startup");
+        getPhaseNanos().forEach((name, nanos) -> joiner.add(name + " " + toMillis(nanos) + " ms"));
+        return joiner.toString();
+    }
+
+    private static long toMillis(long nanos) {
+        return TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+}
@@ -0,0 +1,153 @@
+package seedu.address.commons.util;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Whether and how much files are GZIP compressed when they are written.
+ * Files are compressed and decompressed as they are streamed, so their uncompressed content is never held in
+ * memory. Files are read according to their content, so compressed and uncompressed files can both be read
+ * whatever compression they will be written with.
+ */
+public class Compression {
+
+    /** Writes files uncompressed. */
+    public static final Compression NONE = new Compression(false, Deflater.NO_COMPRESSION);
+
+    public static final String GZIP_EXTENSION = ".gz";
+    public static final int DEFAULT_LEVEL = 6;
+    public static final String MESSAGE_CONSTRAINTS = "Compression levels range from "
+            + Deflater.NO_COMPRESSION + " to " + Deflater.BEST_COMPRESSION;
+
+    private static final int BUFFER_SIZE = 1 << 16;
+    /** The first two bytes of every GZIP file. */
+    private static final int GZIP_MAGIC = 0x8b1f;
+
+    private final boolean isEnabled;
+    private final int level;
+
+    private Compression(boolean isEnabled, int level) {
+        this.isEnabled = isEnabled;
+        this.level = level;
+    }
+
+    /**
+     * Returns a {@code Compression} that writes files GZIP compressed at {@code level}, from
+     * {@link Deflater#NO_COMPRESSION} to {@link Deflater#BEST_COMPRESSION}.
+     */
+    public static Compression gzip(int level) {
+        checkArgument(isValidLevel(level), MESSAGE_CONSTRAINTS);
+        return new Compression(true, level);
+    }
+
+    public static boolean isValidLevel(int level) {
+        return level >= Deflater.NO_COMPRESSION && level <= Deflater.BEST_COMPRESSION;
+    }
+
+    /**
+     * Returns true if the name of {@code file} ends with {@link #GZIP_EXTENSION}.
+     */
+    public static boolean hasGzipExtension(Path file) {
+        return file.getFileName() != null
+                && file.getFileName().toString().toLowerCase(Locale.ROOT).endsWith(GZIP_EXTENSION);
+    }
+
+    /**
+     * Returns the name of {@code file} without {@link #GZIP_EXTENSION}, if it ends with it.
+     */
+    public static String getUncompressedName(Path file) {
+        String name = file.toString();
+        return hasGzipExtension(file) ? name.substring(0, name.length() - GZIP_EXTENSION.length()) : name;
+    }
+
+    /**
+     * Returns true if {@code file} is GZIP compressed.
+     */
+    public static boolean isCompressed(Path file) throws IOException {
+        try (InputStream in = Files.newInputStream(file)) {
+            return readMagic(in) == GZIP_MAGIC;
+        }
+    }
+
+    /**
+     * Opens {@code file} to read its uncompressed content through a buffer, decompressing it if it is compressed.
+     */
+    public static InputStream newInputStream(Path file) throws IOException {
+        InputStream in = new BufferedInputStream(Files.newInputStream(file), BUFFER_SIZE);
+        in.mark(2);
+        boolean isCompressed = readMagic(in) == GZIP_MAGIC;
+        in.reset();
+        return isCompressed ? new BufferedInputStream(new GZIPInputStream(in, BUFFER_SIZE), BUFFER_SIZE) : in;
+    }
+
+    private static int readMagic(InputStream in) throws IOException {
+        int first = in.read();
+        int second = in.read();
+        return first < 0 || second < 0 ? -1 : second << 8 | first;
+    }
+
+    /**
+     * Opens {@code file} to write content through a buffer, compressing it if this compression is enabled.
+     * Replaces the file if it exists.
+     */
+    public OutputStream newOutputStream(Path file) throws IOException {
+        OutputStream out = Files.newOutputStream(file);
+        if (!isEnabled) {
+            return new BufferedOutputStream(out, BUFFER_SIZE);
+        }
+        try {
+            return new BufferedOutputStream(new LeveledGzipOutputStream(out, level), BUFFER_SIZE);
+        } catch (IOException e) {
+            out.close();
+            throw e;
+        }
+    }
+
+    public boolean isEnabled() {
+        return isEnabled;
+    }
+
+    public int getLevel() {
+        return level;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof Compression // instanceof handles nulls
+                && isEnabled == ((Compression) other).isEnabled
+                && level == ((Compression) other).level);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(isEnabled, level);
+    }
+
+    @Override
+    public String toString() {
+        return isEnabled ? "gzip level " + level : "none";
+    }
+
+    /**
+     * A {@code GZIPOutputStream} that compresses at a given level.
+     */
+    private static class LeveledGzipOutputStream extends GZIPOutputStream {
+        LeveledGzipOutputStream(OutputStream out, int level) throws IOException {
+            super(out, BUFFER_SIZE);
+            def.setLevel(level);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import seedu.address.commons.exceptions.DataConversionException;
+
+/**
+ * Reads the records of a CSV file one at a time, as spreadsheet programs write them (RFC 4180):
+ * fields are separated by commas, and a field in double quotes may contain commas, line breaks and
+ * doubled double quotes. Only the record being read is kept in memory.
+ */
+public class CsvReader implements Closeable {
+
+    private static final char SEPARATOR = ',';
+    private static final char QUOTE = '"';
+    /** Written by some spreadsheet programs at the start of UTF-8 files. */
+    private static final char BYTE_ORDER_MARK = '\uFEFF';
+
+    private final BufferedReader reader;
+    private long lineNumber = 0;
+    private long recordLineNumber = 0;
+
+    /**
+     * Creates a {@code CsvReader} that reads records from {@code reader}.
+     */
+    public CsvReader(Reader reader) {
+        requireNonNull(reader);
+        this.reader = reader instanceof BufferedReader ? (BufferedReader) reader : new BufferedReader(reader);
+    }
+
+    /**
+     * Returns the fields of the next record, or an empty {@code Optional} at the end of the file.
+     * A blank line is read as a record with a single empty field.
+     * @throws DataConversionException if the file ends inside a quoted field.
+     */
+    public Optional<List<String>> readRecord() throws IOException, DataConversionException {
+        String line = reader.readLine();
+        if (line == null) {
+            return Optional.empty();
+        }
+        lineNumber++;
+        recordLineNumber = lineNumber;
+        if (lineNumber == 1 && !line.isEmpty() && line.charAt(0) == BYTE_ORDER_MARK) {
+            line = line.substring(1);
+        }
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean isQuoted = false;
+        int i = 0;
+        while (true) {
+            if (i == line.length()) {
+                if (!isQuoted) {
+                    break;
+                }
+                // the quoted field continues on the next line
+                line = reader.readLine();
+                if (line == null) {
+                    throw new DataConversionException(new IOException(
+                            "Unterminated quoted field starting on line " + recordLineNumber));
+                }
+                lineNumber++;
+                field.append('\n');
+                i = 0;
+                continue;
+            }
+            char c = line.charAt(i++);
+            if (isQuoted) {
+                if (c != QUOTE) {
+                    field.append(c);
+                } else if (i < line.length() && line.charAt(i) == QUOTE) {
+                    field.append(QUOTE);
+                    i++;
+                } else {
+                    isQuoted = false;
+                }
+            } else if (c == SEPARATOR) {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == QUOTE && field.length() == 0) {
+                isQuoted = true;
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+        return Optional.of(fields);
+    }
+
+    /**
+     * Returns the line number of the first line of the last record read, counting from 1.
+     */
+    public long getRecordLineNumber() {
+        return recordLineNumber;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
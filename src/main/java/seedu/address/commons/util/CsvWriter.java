@@ -0,0 +1,75 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+
+/**
+ * Writes records to a CSV file one at a time, in the format read by {@link CsvReader} and spreadsheet programs:
+ * a field that contains a comma, a double quote or a line break is written in double quotes, with its double
+ * quotes doubled.
+ */
+public class CsvWriter implements Closeable, Flushable {
+
+    private static final char SEPARATOR = ',';
+    private static final char QUOTE = '"';
+
+    private final Writer writer;
+
+    /**
+     * Creates a {@code CsvWriter} that writes records to {@code writer}.
+     */
+    public CsvWriter(Writer writer) {
+        requireNonNull(writer);
+        this.writer = writer instanceof BufferedWriter ? writer : new BufferedWriter(writer);
+    }
+
+    /**
+     * Writes {@code fields} as one record, followed by a line break.
+     */
+    public void writeRecord(List<String> fields) throws IOException {
+        requireNonNull(fields);
+        for (int i = 0; i < fields.size(); i++) {
+            if (i > 0) {
+                writer.write(SEPARATOR);
+            }
+            writeField(fields.get(i));
+        }
+        writer.write('\n');
+    }
+
+    private void writeField(String field) throws IOException {
+        if (!needsQuotes(field)) {
+            writer.write(field);
+            return;
+        }
+        writer.write(QUOTE);
+        writer.write(field.replace("\"", "\"\""));
+        writer.write(QUOTE);
+    }
+
+    private static boolean needsQuotes(String field) {
+        for (int i = 0; i < field.length(); i++) {
+            char c = field.charAt(i);
+            if (c == SEPARATOR || c == QUOTE || c == '\n' || c == '\r') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public void flush() throws IOException {
+        writer.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.close();
+    }
+}
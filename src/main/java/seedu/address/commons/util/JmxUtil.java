@@ -0,0 +1,57 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.management.ManagementFactory;
+import java.util.Optional;
+import java.util.logging.Logger;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import seedu.address.commons.core.LogsCenter;
+
+/**
+ * Registers management beans with the platform MBean server, so that tools such as JConsole and VisualVM can
+ * show them. Failures are logged rather than thrown, as the app works the same without them.
+ */
+public class JmxUtil {
+
+    public static final String DOMAIN = "seedu.address";
+
+    private static final Logger logger = LogsCenter.getLogger(JmxUtil.class);
+
+    /**
+     * Registers {@code bean}, which must implement an interface annotated with {@code @MXBean}, under the name
+     * {@value #DOMAIN}{@code :type=<type>}, replacing any bean registered under that name before.
+     * Returns the name, or an empty {@code Optional} if the bean could not be registered.
+     */
+    public static Optional<ObjectName> register(Object bean, String type) {
+        requireNonNull(bean);
+        requireNonNull(type);
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            ObjectName name = new ObjectName(DOMAIN, "type", type);
+            if (server.isRegistered(name)) {
+                server.unregisterMBean(name);
+            }
+            server.registerMBean(bean, name);
+            return Optional.of(name);
+        } catch (JMException e) {
+            logger.warning("Could not register management bean " + type + ": " + StringUtil.getDetails(e));
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Unregisters the bean registered under {@code name}, if any.
+     */
+    public static void unregister(ObjectName name) {
+        requireNonNull(name);
+        try {
+            ManagementFactory.getPlatformMBeanServer().unregisterMBean(name);
+        } catch (JMException e) {
+            logger.fine("Could not unregister management bean " + name + ": " + StringUtil.getDetails(e));
+        }
+    }
+}
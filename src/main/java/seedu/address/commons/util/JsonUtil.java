@@ -3,18 +3,26 @@ package seedu.address.commons.util;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Iterator;
 import java.util.Optional;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.deser.std.FromStringDeserializer;
 import com.fasterxml.jackson.databind.module.SimpleModule;
@@ -29,6 +37,7 @@ import seedu.address.commons.exceptions.DataConversionException;
 public class JsonUtil {
 
     private static final Logger logger = LogsCenter.getLogger(JsonUtil.class);
+    private static final Charset CHARSET = StandardCharsets.UTF_8;
 
     private static ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules()
             .configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false)
@@ -90,6 +99,50 @@ public class JsonUtil {
         serializeObjectToJsonFile(filePath, jsonFile);
     }
 
+    /**
+     * Writes a Json object whose only field {@code fieldName} is an array of the objects given by {@code elements}
+     * to {@code out}, encoded in UTF-8, writing each object as soon as it is given, so that they need not all be in
+     * memory. Closes {@code out}.
+     * @throws IOException if there was an error during writing to the stream
+     */
+    public static void writeJsonArray(OutputStream out, String fieldName, Iterator<?> elements) throws IOException {
+        requireNonNull(out);
+        requireNonNull(fieldName);
+        requireNonNull(elements);
+
+        ObjectWriter elementWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8)) {
+            generator.useDefaultPrettyPrinter();
+            generator.writeStartObject();
+            generator.writeArrayFieldStart(fieldName);
+            while (elements.hasNext()) {
+                elementWriter.writeValue(generator, elements.next());
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+    }
+
+    /**
+     * Saves the objects given by {@code elements} to the specified file as JSON Lines: each object on a line of
+     * its own. Each object is written as soon as it is given, so that they need not all be in memory.
+     * Overwrites existing file if it exists, creates a new file if it doesn't.
+     * @throws IOException if there was an error during writing to the file
+     */
+    public static void saveJsonLinesFile(Path filePath, Iterator<?> elements) throws IOException {
+        requireNonNull(filePath);
+        requireNonNull(elements);
+
+        ObjectWriter elementWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(
+                Files.newBufferedWriter(filePath, CHARSET))) {
+            generator.setRootValueSeparator(null); // each object ends with its own line break instead
+            while (elements.hasNext()) {
+                elementWriter.writeValue(generator, elements.next());
+                generator.writeRaw('\n');
+            }
+        }
+    }
 
     /**
      * Converts a given string representation of a JSON data to instance of a class
@@ -100,6 +153,30 @@ public class JsonUtil {
         return objectMapper.readValue(json, instanceClass);
     }
 
+    /**
+     * Converts the JSON data read from {@code in} to an instance of a class, reading it as it is parsed.
+     * Does not close {@code in}.
+     */
+    public static <T> T fromJsonStream(InputStream in, Class<T> instanceClass) throws IOException {
+        return objectMapper.readValue(in, instanceClass);
+    }
+
+    /**
+     * Converts {@code length} bytes of UTF-8 encoded JSON data at {@code offset} of {@code bytes} to an instance
+     * of a class.
+     */
+    public static <T> T fromJsonBytes(byte[] bytes, int offset, int length, Class<T> instanceClass)
+            throws IOException {
+        return objectMapper.readValue(bytes, offset, length, instanceClass);
+    }
+
+    /**
+     * Converts a given instance of a class into UTF-8 encoded JSON data on a single line, without a line break.
+     */
+    public static <T> byte[] toJsonBytes(T instance) throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(instance);
+    }
+
     /**
      * Converts a given instance of a class into its JSON data string representation
      * @param instance The T object to be converted into the JSON string
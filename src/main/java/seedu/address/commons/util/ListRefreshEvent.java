@@ -0,0 +1,31 @@
+package seedu.address.commons.util;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event spanning the replay of changes on an {@code ObservableListMirror}, which includes the
+ * work done by its listeners, such as the list views of the UI.
+ */
+@Name("seedu.address.ListRefresh")
+@Label("List Refresh")
+@Category({"InternSHIP", "UI"})
+@Description("Replay of list changes on a mirrored list and its listeners")
+@StackTrace(false)
+class ListRefreshEvent extends Event {
+
+    @Label("Changes")
+    private int changeCount;
+
+    @Label("Size")
+    private int size;
+
+    void setDetails(int changeCount, int size) {
+        this.changeCount = changeCount;
+        this.size = size;
+    }
+}
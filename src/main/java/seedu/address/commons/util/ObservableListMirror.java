@@ -0,0 +1,89 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+/**
+ * A read-only copy of a source {@code ObservableList} whose change notifications are delivered through
+ * an {@code Executor}, e.g. on the JavaFX application thread, no matter which thread modifies the source.
+ * Each change of the source is captured when it happens and replayed in order on the mirror, so the mirror
+ * always passes through the same states as the source, only later.
+ * The mirror must be created before the source is modified by any thread other than the creating one.
+ */
+public class ObservableListMirror<E> {
+
+    private final ObservableList<E> mirror;
+    private final ObservableList<E> unmodifiableMirror;
+    private final Executor notificationExecutor;
+
+    /**
+     * Creates a mirror of {@code source} that is updated by tasks submitted to {@code notificationExecutor}.
+     */
+    public ObservableListMirror(ObservableList<E> source, Executor notificationExecutor) {
+        requireNonNull(source);
+        requireNonNull(notificationExecutor);
+        this.notificationExecutor = notificationExecutor;
+        mirror = FXCollections.observableArrayList(source);
+        unmodifiableMirror = FXCollections.unmodifiableObservableList(mirror);
+        source.addListener(this::onSourceChanged);
+    }
+
+    /**
+     * Returns the mirror as an unmodifiable {@code ObservableList}.
+     */
+    public ObservableList<E> asUnmodifiableObservableList() {
+        return unmodifiableMirror;
+    }
+
+    /**
+     * Captures {@code change} on the modifying thread and submits its replay to the notification executor.
+     */
+    private void onSourceChanged(ListChangeListener.Change<? extends E> change) {
+        List<Runnable> replays = new ArrayList<>();
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                // cheaper to capture the final state than to describe a permutation
+                List<E> elements = new ArrayList<>(change.getList());
+                replays.clear();
+                replays.add(() -> mirror.setAll(elements));
+                break;
+            }
+            int from = change.getFrom();
+            int removedSize = change.getRemovedSize();
+            List<E> added = change.wasAdded() ? new ArrayList<>(change.getAddedSubList()) : List.of();
+            replays.add(() -> replace(from, removedSize, added));
+        }
+        notificationExecutor.execute(() -> replay(replays));
+    }
+
+    private void replay(List<Runnable> replays) {
+        ListRefreshEvent event = new ListRefreshEvent();
+        event.begin();
+        replays.forEach(Runnable::run);
+        event.end();
+        if (event.shouldCommit()) {
+            event.setDetails(replays.size(), mirror.size());
+            event.commit();
+        }
+    }
+
+    private void replace(int from, int removedSize, List<E> added) {
+        if (removedSize == 1 && added.size() == 1) {
+            mirror.set(from, added.get(0));
+            return;
+        }
+        if (removedSize > 0) {
+            mirror.remove(from, from + removedSize);
+        }
+        if (!added.isEmpty()) {
+            mirror.addAll(from, added);
+        }
+    }
+}
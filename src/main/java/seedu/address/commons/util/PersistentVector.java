@@ -0,0 +1,320 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractList;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * An immutable list that shares structure between versions.
+ * "Modifying" operations return a new vector and leave this one untouched, copying only the O(log n) nodes on the
+ * path to the changed position. This makes it cheap to hand out the current version to readers on other threads
+ * or to keep older versions around.
+ * Elements are stored in a height-balanced (AVL) tree keyed by position, so random access, update, insertion
+ * and removal at any index take O(log n) time. Null elements are not allowed.
+ */
+public final class PersistentVector<E> implements Iterable<E> {
+
+    private static final PersistentVector<?> EMPTY = new PersistentVector<>(null);
+
+    private final Node<E> root;
+    private final List<E> listView = new ListView();
+
+    private PersistentVector(Node<E> root) {
+        this.root = root;
+    }
+
+    /**
+     * Returns the empty vector.
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> PersistentVector<E> empty() {
+        return (PersistentVector<E>) EMPTY;
+    }
+
+    /**
+     * Returns a vector containing the elements of {@code elements} in iteration order, in O(n) time.
+     */
+    public static <E> PersistentVector<E> of(List<? extends E> elements) {
+        requireNonNull(elements);
+        Object[] array = elements.toArray();
+        for (Object element : array) {
+            requireNonNull(element);
+        }
+        return array.length == 0 ? empty() : new PersistentVector<>(build(array, 0, array.length));
+    }
+
+    public int size() {
+        return sizeOf(root);
+    }
+
+    public boolean isEmpty() {
+        return root == null;
+    }
+
+    /**
+     * Returns the element at {@code index}.
+     * @throws IndexOutOfBoundsException if {@code index} is out of range.
+     */
+    public E get(int index) {
+        checkIndex(index, size());
+        Node<E> node = root;
+        while (true) {
+            int leftSize = sizeOf(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index > leftSize) {
+                index -= leftSize + 1;
+                node = node.right;
+            } else {
+                return node.value;
+            }
+        }
+    }
+
+    /**
+     * Returns a vector with the element at {@code index} replaced by {@code element}.
+     */
+    public PersistentVector<E> set(int index, E element) {
+        requireNonNull(element);
+        checkIndex(index, size());
+        return new PersistentVector<>(setAt(root, index, element));
+    }
+
+    /**
+     * Returns a vector with {@code element} inserted at {@code index}, shifting subsequent elements to the right.
+     */
+    public PersistentVector<E> insert(int index, E element) {
+        requireNonNull(element);
+        checkIndex(index, size() + 1);
+        return new PersistentVector<>(insertAt(root, index, element));
+    }
+
+    /**
+     * Returns a vector with {@code element} appended.
+     */
+    public PersistentVector<E> append(E element) {
+        return insert(size(), element);
+    }
+
+    /**
+     * Returns a vector with the element at {@code index} removed, shifting subsequent elements to the left.
+     */
+    public PersistentVector<E> remove(int index) {
+        checkIndex(index, size());
+        Node<E> newRoot = removeAt(root, index);
+        return newRoot == null ? empty() : new PersistentVector<>(newRoot);
+    }
+
+    /**
+     * Returns the index of the first element equal to {@code element}, or -1 if there is none.
+     */
+    public int indexOf(Object element) {
+        int index = 0;
+        for (E e : this) {
+            if (e.equals(element)) {
+                return index;
+            }
+            index++;
+        }
+        return -1;
+    }
+
+    /**
+     * Returns an unmodifiable {@code List} view of this vector. As the vector is immutable, so is the view.
+     */
+    public List<E> asList() {
+        return listView;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new InOrderIterator<>(root);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof PersistentVector // instanceof handles nulls
+                && listView.equals(((PersistentVector<?>) other).listView));
+    }
+
+    @Override
+    public int hashCode() {
+        return listView.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return listView.toString();
+    }
+
+    //// tree operations
+
+    private static void checkIndex(int index, int bound) {
+        if (index < 0 || index >= bound) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + bound);
+        }
+    }
+
+    private static int sizeOf(Node<?> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static int height(Node<?> node) {
+        return node == null ? 0 : node.height;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <E> Node<E> build(Object[] elements, int from, int to) {
+        if (from >= to) {
+            return null;
+        }
+        int mid = (from + to) >>> 1;
+        return new Node<>((E) elements[mid], build(elements, from, mid), build(elements, mid + 1, to));
+    }
+
+    private static <E> Node<E> setAt(Node<E> node, int index, E element) {
+        int leftSize = sizeOf(node.left);
+        if (index < leftSize) {
+            return new Node<>(node.value, setAt(node.left, index, element), node.right);
+        } else if (index > leftSize) {
+            return new Node<>(node.value, node.left, setAt(node.right, index - leftSize - 1, element));
+        } else {
+            return new Node<>(element, node.left, node.right);
+        }
+    }
+
+    private static <E> Node<E> insertAt(Node<E> node, int index, E element) {
+        if (node == null) {
+            return new Node<>(element, null, null);
+        }
+        int leftSize = sizeOf(node.left);
+        if (index <= leftSize) {
+            return balance(node.value, insertAt(node.left, index, element), node.right);
+        } else {
+            return balance(node.value, node.left, insertAt(node.right, index - leftSize - 1, element));
+        }
+    }
+
+    private static <E> Node<E> removeAt(Node<E> node, int index) {
+        int leftSize = sizeOf(node.left);
+        if (index < leftSize) {
+            return balance(node.value, removeAt(node.left, index), node.right);
+        } else if (index > leftSize) {
+            return balance(node.value, node.left, removeAt(node.right, index - leftSize - 1));
+        } else if (node.left == null) {
+            return node.right;
+        } else if (node.right == null) {
+            return node.left;
+        } else {
+            Node<E> successor = node.right;
+            while (successor.left != null) {
+                successor = successor.left;
+            }
+            return balance(successor.value, node.left, removeAt(node.right, 0));
+        }
+    }
+
+    /**
+     * Returns a node holding {@code value} with children {@code left} and {@code right}, rotating if their heights
+     * differ by more than one. The heights of {@code left} and {@code right} must differ by at most two.
+     */
+    private static <E> Node<E> balance(E value, Node<E> left, Node<E> right) {
+        if (height(left) > height(right) + 1) {
+            if (height(left.left) >= height(left.right)) {
+                return new Node<>(left.value, left.left, new Node<>(value, left.right, right));
+            }
+            return new Node<>(left.right.value, new Node<>(left.value, left.left, left.right.left),
+                    new Node<>(value, left.right.right, right));
+        }
+        if (height(right) > height(left) + 1) {
+            if (height(right.right) >= height(right.left)) {
+                return new Node<>(right.value, new Node<>(value, left, right.left), right.right);
+            }
+            return new Node<>(right.left.value, new Node<>(value, left, right.left.left),
+                    new Node<>(right.value, right.left.right, right.right));
+        }
+        return new Node<>(value, left, right);
+    }
+
+    /**
+     * An immutable tree node that caches the size and height of its subtree.
+     */
+    private static final class Node<E> {
+        private final E value;
+        private final Node<E> left;
+        private final Node<E> right;
+        private final int size;
+        private final int height;
+
+        Node(E value, Node<E> left, Node<E> right) {
+            this.value = value;
+            this.left = left;
+            this.right = right;
+            this.size = sizeOf(left) + sizeOf(right) + 1;
+            this.height = Math.max(height(left), height(right)) + 1;
+        }
+    }
+
+    /**
+     * Iterates over the elements of a tree in order, in O(1) amortized time per element.
+     */
+    private static final class InOrderIterator<E> implements Iterator<E> {
+        private final Deque<Node<E>> path = new ArrayDeque<>();
+
+        InOrderIterator(Node<E> root) {
+            pushLeftSpine(root);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !path.isEmpty();
+        }
+
+        @Override
+        public E next() {
+            if (path.isEmpty()) {
+                throw new NoSuchElementException();
+            }
+            Node<E> node = path.pop();
+            pushLeftSpine(node.right);
+            return node.value;
+        }
+
+        private void pushLeftSpine(Node<E> node) {
+            for (Node<E> current = node; current != null; current = current.left) {
+                path.push(current);
+            }
+        }
+    }
+
+    /**
+     * An unmodifiable {@code List} view of the enclosing vector.
+     */
+    private final class ListView extends AbstractList<E> {
+        @Override
+        public E get(int index) {
+            return PersistentVector.this.get(index);
+        }
+
+        @Override
+        public int size() {
+            return PersistentVector.this.size();
+        }
+
+        @Override
+        public Iterator<E> iterator() {
+            return PersistentVector.this.iterator();
+        }
+
+        @Override
+        public int indexOf(Object element) {
+            return PersistentVector.this.indexOf(element);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package seedu.address.logic;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event spanning the execution of a parsed command, excluding saving.
+ */
+@Name("seedu.address.CommandExecute")
+@Label("Command Execute")
+@Category({"InternSHIP", "Logic"})
+@Description("Execution of a parsed command on the model")
+@StackTrace(false)
+class CommandExecuteEvent extends Event {
+
+    @Label("Command Word")
+    private String commandWord;
+
+    @Label("Succeeded")
+    private boolean succeeded;
+
+    void setCommandWord(String commandWord) {
+        this.commandWord = commandWord;
+    }
+
+    void setSucceeded(boolean succeeded) {
+        this.succeeded = succeeded;
+    }
+}
@@ -0,0 +1,33 @@
+package seedu.address.logic;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event spanning the parsing of a command.
+ */
+@Name("seedu.address.CommandParse")
+@Label("Command Parse")
+@Category({"InternSHIP", "Logic"})
+@Description("Parsing of a command entered by the user")
+@StackTrace(false)
+class CommandParseEvent extends Event {
+
+    @Label("Command Word")
+    private String commandWord;
+
+    @Label("Succeeded")
+    private boolean succeeded;
+
+    void setCommandWord(String commandWord) {
+        this.commandWord = commandWord;
+    }
+
+    void setSucceeded(boolean succeeded) {
+        this.succeeded = succeeded;
+    }
+}
@@ -0,0 +1,123 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.LatencyHistogram;
+
+/**
+ * Latency statistics of the commands executed, kept per command word and per {@link Phase} of execution.
+ * Safe to record to and read from concurrently.
+ */
+public class CommandStatistics {
+
+    /** Command word under which commands that could not be parsed are recorded. */
+    public static final String INVALID_COMMAND_WORD = "(invalid)";
+    public static final String MESSAGE_NO_COMMANDS = "No commands executed yet.";
+
+    private static final String ROW_FORMAT = "%-12s %-8s %8s %10s %10s %10s%n";
+
+    /**
+     * The phases of executing a command.
+     */
+    public enum Phase {
+        PARSE, EXECUTE, SAVE
+    }
+
+    private final Map<String, Map<Phase, LatencyHistogram>> histograms = new ConcurrentHashMap<>();
+
+    /**
+     * Records that {@code phase} of a command with {@code commandWord} took {@code nanos} nanoseconds.
+     */
+    public void record(String commandWord, Phase phase, long nanos) {
+        requireNonNull(commandWord);
+        requireNonNull(phase);
+        histograms.computeIfAbsent(commandWord, unused -> newHistograms()).get(phase).record(nanos);
+    }
+
+    /**
+     * Returns the histogram of {@code phase} of the commands with {@code commandWord}, which is empty if no such
+     * command has been recorded.
+     */
+    public LatencyHistogram getHistogram(String commandWord, Phase phase) {
+        Map<Phase, LatencyHistogram> phases = histograms.get(commandWord);
+        return phases == null ? new LatencyHistogram() : phases.get(phase);
+    }
+
+    /**
+     * Returns the number of times {@code phase} was recorded for each command word, sorted by command word.
+     */
+    public Map<String, Long> getCounts(Phase phase) {
+        requireNonNull(phase);
+        Map<String, Long> counts = new TreeMap<>();
+        histograms.forEach((commandWord, phases) -> {
+            long count = phases.get(phase).getCount();
+            if (count > 0) {
+                counts.put(commandWord, count);
+            }
+        });
+        return counts;
+    }
+
+    /**
+     * Returns the total number of phases recorded, which changes whenever new statistics are recorded.
+     */
+    public long getRecordCount() {
+        long recordCount = 0;
+        for (Map<Phase, LatencyHistogram> phases : histograms.values()) {
+            for (LatencyHistogram histogram : phases.values()) {
+                recordCount += histogram.getCount();
+            }
+        }
+        return recordCount;
+    }
+
+    /**
+     * Returns a table of the count, median, 99th percentile and maximum latency in milliseconds of every
+     * phase of every command word recorded, sorted by command word.
+     */
+    public String format() {
+        if (histograms.isEmpty()) {
+            return MESSAGE_NO_COMMANDS;
+        }
+        StringBuilder builder = new StringBuilder(String.format(ROW_FORMAT, "Command", "Phase", "Count",
+                "p50 (ms)", "p99 (ms)", "max (ms)"));
+        new TreeMap<>(histograms).forEach((commandWord, phases) -> phases.forEach((phase, histogram) -> {
+            if (histogram.getCount() > 0) {
+                builder.append(String.format(ROW_FORMAT, commandWord, phase.name().toLowerCase(),
+                        histogram.getCount(), toMillis(histogram.getPercentile(50)),
+                        toMillis(histogram.getPercentile(99)), toMillis(histogram.getMax())));
+            }
+        }));
+        return builder.toString();
+    }
+
+    /**
+     * Writes the table returned by {@link #format()} to {@code file}, replacing its contents.
+     */
+    public void writeTo(Path file) throws IOException {
+        requireNonNull(file);
+        FileUtil.createIfMissing(file);
+        FileUtil.writeToFile(file, format());
+    }
+
+    private static Map<Phase, LatencyHistogram> newHistograms() {
+        Map<Phase, LatencyHistogram> phases = new EnumMap<>(Phase.class);
+        for (Phase phase : Phase.values()) {
+            phases.put(phase, new LatencyHistogram());
+        }
+        return phases;
+    }
+
+    private static String toMillis(long nanos) {
+        return String.format("%.3f", nanos / (double) TimeUnit.MILLISECONDS.toNanos(1));
+    }
+}
@@ -1,6 +1,11 @@
 package seedu.address.logic;
 
+import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
@@ -23,6 +28,73 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Executes the command on a dedicated command thread, after all previously submitted commands.
+     * The returned future is completed through the executor that notifies changes to the filtered application
+     * list, after the changes made by the command have been notified. It is completed exceptionally with a
+     * {@code CommandException} or {@code ParseException} if the command fails.
+     *
+     * @param commandText The command as entered by the user.
+     * @return the future result of the command execution.
+     * @see #execute(String)
+     */
+    CompletableFuture<CommandResult> executeAsync(String commandText);
+
+    /**
+     * Adds the applications returned by {@code loader} to the model on the command thread, in parts, so that the
+     * first ones are shown before the rest are added. Commands wait until they have all been added, so that
+     * nothing is saved before the data is complete.
+     * The returned future completes with the number of applications added, through the notification executor.
+     */
+    CompletableFuture<Integer> loadAsync(Supplier<ReadOnlyInternship> loader);
+
+    /**
+     * Sets the listeners given messages about the progress and the results of the background tasks left by
+     * commands, e.g. {@code export}, through the notification executor.
+     */
+    void setBackgroundTaskListeners(Consumer<String> progressListener, Consumer<String> resultListener);
+
+    /**
+     * Filters the application list to the applications whose company name contains any of the whitespace-separated
+     * {@code keywords} as a whole word, or shows all applications if there are none.
+     * Runs on the command thread like {@link #executeAsync(String)}, but is neither saved nor recorded for undo.
+     *
+     * @see seedu.address.model.Model#updateFilteredApplicationListByKeywords(List)
+     */
+    CompletableFuture<Void> filterAsync(String keywords);
+
+    /**
+     * Restores the filter the application list had before {@link #filterAsync(String)} was first called, unless
+     * the list has been filtered in another way since. Runs on the command thread like {@link #filterAsync(String)}.
+     *
+     * @see seedu.address.model.Model#restoreFilteredApplicationList()
+     */
+    CompletableFuture<Void> restoreFilterAsync();
+
+    /**
+     * Returns the latency statistics of the commands executed so far.
+     */
+    CommandStatistics getCommandStatistics();
+
+    /**
+     * Writes the command statistics to {@code file} every {@code intervalSeconds} seconds if new commands have
+     * been executed since it was last written, and once more on {@link #shutdown()}.
+     * Does nothing if {@code intervalSeconds} is not positive.
+     */
+    void startStatisticsDump(Path file, long intervalSeconds);
+
+    /**
+     * Starts appending every command executed, with the instant it was entered, to the command trace {@code file},
+     * until {@link #shutdown()}. Replaces the trace file being recorded to, if any.
+     * @throws IOException if the file cannot be opened.
+     */
+    void startTraceRecording(Path file) throws IOException;
+
+    /**
+     * Stops accepting asynchronous commands and waits for those already submitted to finish.
+     */
+    void shutdown();
+
     /**
      * Returns the Internship.
      *
@@ -30,9 +102,26 @@ public interface Logic {
      */
     ReadOnlyInternship getInternship();
 
-    /** Returns an unmodifiable view of the filtered list of persons */
+    /**
+     * Returns an unmodifiable view of the filtered list of applications.
+     * Changes to the list are notified through the executor given to the {@code Logic} component.
+     */
     ObservableList<Application> getFilteredApplicationList();
 
+    /**
+     * Returns an immutable snapshot of all applications, which can be used from any thread.
+     *
+     * @see seedu.address.model.Model#getApplicationSnapshot()
+     */
+    List<Application> getApplicationSnapshot();
+
+    /**
+     * Returns an immutable snapshot of the filtered list of applications, which can be used from any thread.
+     *
+     * @see seedu.address.model.Model#getFilteredApplicationSnapshot()
+     */
+    List<Application> getFilteredApplicationSnapshot();
+
     /**
      * Returns the user prefs' Internship file path.
      */
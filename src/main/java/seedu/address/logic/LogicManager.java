@@ -1,17 +1,38 @@
 package seedu.address.logic;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.ObservableListMirror;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.CommandStatistics.Phase;
+import seedu.address.logic.commands.BackgroundTask;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.InternshipParser;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.logic.trace.CommandTraceRecorder;
+import seedu.address.model.InternshipSnapshot;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyInternship;
 import seedu.address.model.application.Application;
@@ -19,41 +40,367 @@ import seedu.address.storage.Storage;
 
 /**
  * The main LogicManager of the app.
+ * Commands are executed one at a time. Asynchronous commands run on a single command thread, which is started
+ * when the first one is submitted and stopped when it has been idle for a while. Background tasks left by
+ * commands run one at a time on a background thread, which is managed the same way.
  */
-public class LogicManager implements Logic {
+public class LogicManager implements Logic, LogicMetrics {
     public static final String FILE_OPS_ERROR_MESSAGE = "Could not save data to file: ";
+    private static final String COMMAND_THREAD_NAME = "logic-command";
+    private static final String STATISTICS_THREAD_NAME = "command-statistics";
+    private static final String BACKGROUND_THREAD_NAME = "logic-background";
+    private static final long COMMAND_THREAD_KEEP_ALIVE_SECONDS = 30;
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 5;
+    /** Number of applications shown first when loading; each later part is as large as all before it. */
+    private static final int LOAD_FIRST_PART_SIZE = 500;
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
     private final Storage storage;
     private final InternshipParser internshipParser;
+    private final ObservableListMirror<Application> filteredApplications;
+    private final Executor notificationExecutor;
+    private final ThreadPoolExecutor commandExecutor;
+    private final ThreadPoolExecutor backgroundExecutor;
+    private final Object commandLock = new Object();
+    private final CommandStatistics statistics = new CommandStatistics();
+    private final LongAdder commandCount = new LongAdder();
+    private final LongAdder parseFailureCount = new LongAdder();
+    private final LongAdder commandFailureCount = new LongAdder();
+    private final ScheduledExecutorService statisticsExecutor;
+    private Path statisticsFile;
+    private long statisticsDumped;
+    private CommandTraceRecorder traceRecorder;
+    private volatile CompletableFuture<Void> dataLoaded = CompletableFuture.completedFuture(null);
+    private volatile Consumer<String> backgroundTaskProgressListener = message -> {};
+    private volatile Consumer<String> backgroundTaskResultListener = message -> {};
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * Changes to the filtered application list are notified on the thread modifying the model.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, storage, Runnable::run);
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * Changes to the filtered application list are notified through {@code notificationExecutor}.
+     */
+    public LogicManager(Model model, Storage storage, Executor notificationExecutor) {
         this.model = model;
         this.storage = storage;
-        internshipParser = new InternshipParser();
+        this.notificationExecutor = notificationExecutor;
+        internshipParser = new InternshipParser(statistics);
+        filteredApplications = new ObservableListMirror<>(model.getFilteredApplicationList(), notificationExecutor);
+        commandExecutor = new ThreadPoolExecutor(1, 1, COMMAND_THREAD_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), LogicManager::newCommandThread);
+        commandExecutor.allowCoreThreadTimeOut(true);
+        backgroundExecutor = new ThreadPoolExecutor(1, 1, COMMAND_THREAD_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), LogicManager::newBackgroundThread);
+        backgroundExecutor.allowCoreThreadTimeOut(true);
+        statisticsExecutor = new ScheduledThreadPoolExecutor(1, LogicManager::newStatisticsThread);
+    }
+
+    private static Thread newCommandThread(Runnable runnable) {
+        Thread thread = new Thread(runnable, COMMAND_THREAD_NAME);
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    private static Thread newBackgroundThread(Runnable runnable) {
+        Thread thread = new Thread(runnable, BACKGROUND_THREAD_NAME);
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    private static Thread newStatisticsThread(Runnable runnable) {
+        Thread thread = new Thread(runnable, STATISTICS_THREAD_NAME);
+        thread.setDaemon(true);
+        return thread;
     }
 
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
-        logger.info("----------------[USER COMMAND][" + commandText + "]");
+        // wait outside the lock, as the data may be loaded by a thread that takes it
+        dataLoaded.join();
+        synchronized (commandLock) {
+            return executeCommand(commandText);
+        }
+    }
+
+    @Override
+    public CompletableFuture<CommandResult> executeAsync(String commandText) {
+        CompletableFuture<CommandResult> result = new CompletableFuture<>();
+        try {
+            commandExecutor.execute(() -> {
+                try {
+                    CommandResult commandResult = execute(commandText);
+                    notificationExecutor.execute(() -> result.complete(commandResult));
+                } catch (CommandException | ParseException | RuntimeException e) {
+                    notificationExecutor.execute(() -> result.completeExceptionally(e));
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            result.completeExceptionally(e);
+        }
+        return result;
+    }
+
+    @Override
+    public CompletableFuture<Integer> loadAsync(Supplier<ReadOnlyInternship> loader) {
+        requireNonNull(loader);
+        CompletableFuture<Void> loaded = new CompletableFuture<>();
+        dataLoaded = loaded;
+        CompletableFuture<Integer> result = new CompletableFuture<>();
+        try {
+            commandExecutor.execute(() -> {
+                try {
+                    int count = load(loader.get());
+                    notificationExecutor.execute(() -> result.complete(count));
+                } catch (RuntimeException e) {
+                    notificationExecutor.execute(() -> result.completeExceptionally(e));
+                } finally {
+                    loaded.complete(null);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            loaded.complete(null);
+            result.completeExceptionally(e);
+        }
+        return result;
+    }
+
+    /**
+     * Adds the applications in {@code data} to the model in parts of increasing size, so that the first ones are
+     * shown quickly while the total work stays linear in the number of applications. Returns the number added.
+     */
+    private int load(ReadOnlyInternship data) {
+        InternshipSnapshot source = InternshipSnapshot.of(data);
+        int size = source.getApplications().size();
+        int loadedCount = 0;
+        while (loadedCount < size) {
+            int partSize = Math.max(LOAD_FIRST_PART_SIZE, loadedCount);
+            int end = Math.min(size, loadedCount + partSize);
+            model.loadApplications(source, loadedCount, end);
+            loadedCount = end;
+        }
+        return loadedCount;
+    }
+
+    @Override
+    public CompletableFuture<Void> filterAsync(String keywords) {
+        List<String> keywordList = keywords.isBlank() ? List.of() : List.of(keywords.trim().split("\\s+"));
+        return filterOnCommandThread(() -> model.updateFilteredApplicationListByKeywords(keywordList));
+    }
+
+    @Override
+    public CompletableFuture<Void> restoreFilterAsync() {
+        return filterOnCommandThread(model::restoreFilteredApplicationList);
+    }
+
+    private CompletableFuture<Void> filterOnCommandThread(Runnable filter) {
+        CompletableFuture<Void> result = new CompletableFuture<>();
+        try {
+            commandExecutor.execute(() -> {
+                try {
+                    filter.run();
+                    notificationExecutor.execute(() -> result.complete(null));
+                } catch (RuntimeException e) {
+                    notificationExecutor.execute(() -> result.completeExceptionally(e));
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            result.completeExceptionally(e);
+        }
+        return result;
+    }
 
+    @Override
+    public CommandStatistics getCommandStatistics() {
+        return statistics;
+    }
+
+    @Override
+    public long getCommandCount() {
+        return commandCount.sum();
+    }
+
+    @Override
+    public long getParseFailureCount() {
+        return parseFailureCount.sum();
+    }
+
+    @Override
+    public long getCommandFailureCount() {
+        return commandFailureCount.sum();
+    }
+
+    @Override
+    public Map<String, Long> getCommandCountsByWord() {
+        return statistics.getCounts(Phase.EXECUTE);
+    }
+
+    @Override
+    public void startStatisticsDump(Path file, long intervalSeconds) {
+        requireNonNull(file);
+        if (intervalSeconds <= 0) {
+            return;
+        }
+        statisticsExecutor.execute(() -> statisticsFile = file);
+        statisticsExecutor.scheduleWithFixedDelay(this::dumpStatistics, intervalSeconds, intervalSeconds,
+                TimeUnit.SECONDS);
+    }
+
+    /**
+     * Writes the command statistics to the statistics file if there is one and new commands have been recorded.
+     * Runs on the statistics thread only.
+     */
+    private void dumpStatistics() {
+        long recordCount = statistics.getRecordCount();
+        if (statisticsFile == null || recordCount == statisticsDumped) {
+            return;
+        }
+        try {
+            statistics.writeTo(statisticsFile);
+            statisticsDumped = recordCount;
+        } catch (IOException e) {
+            logger.warning("Could not write command statistics to " + statisticsFile + ": " + e);
+        }
+    }
+
+    @Override
+    public void startTraceRecording(Path file) throws IOException {
+        requireNonNull(file);
+        CommandTraceRecorder recorder = new CommandTraceRecorder(file);
+        synchronized (commandLock) {
+            stopTraceRecording();
+            traceRecorder = recorder;
+        }
+    }
+
+    /**
+     * Stops recording commands to the trace file, if they are being recorded.
+     * Must be called while holding {@code commandLock}.
+     */
+    private void stopTraceRecording() {
+        if (traceRecorder != null) {
+            traceRecorder.close();
+            traceRecorder = null;
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        commandExecutor.shutdown();
+        backgroundExecutor.shutdown();
+        try {
+            if (!commandExecutor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                logger.warning("Commands still running after " + SHUTDOWN_TIMEOUT_SECONDS + " seconds");
+            }
+            if (!backgroundExecutor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                logger.warning("Background tasks still running after " + SHUTDOWN_TIMEOUT_SECONDS + " seconds");
+            }
+            synchronized (commandLock) {
+                stopTraceRecording();
+            }
+            statisticsExecutor.execute(this::dumpStatistics);
+            statisticsExecutor.shutdown();
+            statisticsExecutor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private CommandResult executeCommand(String commandText) throws CommandException, ParseException {
+        logger.info(() -> "----------------[USER COMMAND][" + commandText + "]");
+        if (traceRecorder != null) {
+            traceRecorder.record(commandText);
+        }
+
+        commandCount.increment();
+        CommandParseEvent parseEvent = new CommandParseEvent();
+        parseEvent.begin();
+        long parseStart = System.nanoTime();
+        Command command;
+        try {
+            command = internshipParser.parseCommand(commandText);
+        } catch (ParseException e) {
+            parseFailureCount.increment();
+            statistics.record(CommandStatistics.INVALID_COMMAND_WORD, Phase.PARSE, System.nanoTime() - parseStart);
+            parseEvent.setCommandWord(CommandStatistics.INVALID_COMMAND_WORD);
+            parseEvent.commit();
+            throw e;
+        }
+        String commandWord = commandText.trim().split("\\s+", 2)[0];
+        long executeStart = System.nanoTime();
+        statistics.record(commandWord, Phase.PARSE, executeStart - parseStart);
+        parseEvent.setCommandWord(commandWord);
+        parseEvent.setSucceeded(true);
+        parseEvent.commit();
+
+        CommandExecuteEvent executeEvent = new CommandExecuteEvent();
+        executeEvent.begin();
+        executeEvent.setCommandWord(commandWord);
         CommandResult commandResult;
-        Command command = internshipParser.parseCommand(commandText);
-        commandResult = command.execute(model);
+        try {
+            commandResult = command.execute(model);
+            executeEvent.setSucceeded(true);
+        } catch (CommandException | RuntimeException e) {
+            commandFailureCount.increment();
+            throw e;
+        } finally {
+            model.commitInternship();
+            statistics.record(commandWord, Phase.EXECUTE, System.nanoTime() - executeStart);
+            executeEvent.commit();
+        }
 
+        long saveStart = System.nanoTime();
         try {
-            storage.saveInternship(model.getInternship());
+            storage.saveInternship(model.getInternshipSnapshot());
         } catch (IOException ioe) {
+            commandFailureCount.increment();
             throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
+        } finally {
+            statistics.record(commandWord, Phase.SAVE, System.nanoTime() - saveStart);
         }
 
+        commandResult.getBackgroundTask().ifPresent(this::runInBackground);
         return commandResult;
     }
 
+    /**
+     * Runs {@code task} on the background thread, passing its progress and result to the background task listeners.
+     */
+    private void runInBackground(BackgroundTask task) {
+        try {
+            backgroundExecutor.execute(() -> {
+                String message;
+                try {
+                    message = task.run(progress -> notify(backgroundTaskProgressListener, progress));
+                } catch (CommandException e) {
+                    message = e.getMessage();
+                } catch (RuntimeException e) {
+                    logger.severe("Background task failed: " + StringUtil.getDetails(e));
+                    message = String.valueOf(e);
+                }
+                notify(backgroundTaskResultListener, message);
+            });
+        } catch (RejectedExecutionException e) {
+            logger.warning("Background task not run as the logic has been shut down");
+        }
+    }
+
+    private void notify(Consumer<String> listener, String message) {
+        notificationExecutor.execute(() -> listener.accept(message));
+    }
+
+    @Override
+    public void setBackgroundTaskListeners(Consumer<String> progressListener, Consumer<String> resultListener) {
+        backgroundTaskProgressListener = requireNonNull(progressListener);
+        backgroundTaskResultListener = requireNonNull(resultListener);
+    }
+
     @Override
     public ReadOnlyInternship getInternship() {
         return model.getInternship();
@@ -61,7 +408,17 @@ public class LogicManager implements Logic {
 
     @Override
     public ObservableList<Application> getFilteredApplicationList() {
-        return model.getFilteredApplicationList();
+        return filteredApplications.asUnmodifiableObservableList();
+    }
+
+    @Override
+    public List<Application> getApplicationSnapshot() {
+        return model.getApplicationSnapshot();
+    }
+
+    @Override
+    public List<Application> getFilteredApplicationSnapshot() {
+        return model.getFilteredApplicationSnapshot();
     }
 
     @Override
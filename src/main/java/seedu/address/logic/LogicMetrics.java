@@ -0,0 +1,31 @@
+package seedu.address.logic;
+
+import java.util.Map;
+import javax.management.MXBean;
+
+/**
+ * Management interface exposing statistics of the {@code LogicManager} through JMX, e.g. to JConsole.
+ */
+@MXBean
+public interface LogicMetrics {
+
+    /**
+     * Returns the number of commands entered, including those that failed.
+     */
+    long getCommandCount();
+
+    /**
+     * Returns the number of commands that could not be parsed.
+     */
+    long getParseFailureCount();
+
+    /**
+     * Returns the number of commands that failed while executing or saving.
+     */
+    long getCommandFailureCount();
+
+    /**
+     * Returns the number of commands executed for each command word.
+     */
+    Map<String, Long> getCommandCountsByWord();
+}
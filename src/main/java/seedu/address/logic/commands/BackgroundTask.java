@@ -0,0 +1,21 @@
+package seedu.address.logic.commands;
+
+import java.util.function.Consumer;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+
+/**
+ * Work that a command leaves to run in the background after it has returned, such as writing a large file.
+ * It must not modify the model.
+ */
+@FunctionalInterface
+public interface BackgroundTask {
+
+    /**
+     * Runs the task, passing messages about its progress to {@code progress}.
+     *
+     * @return the message to show the user when the task has completed.
+     * @throws CommandException if the task fails.
+     */
+    String run(Consumer<String> progress) throws CommandException;
+}
@@ -3,6 +3,7 @@ package seedu.address.logic.commands;
 import static java.util.Objects.requireNonNull;
 
 import java.util.Objects;
+import java.util.Optional;
 
 /**
  * Represents the result of a command execution.
@@ -17,6 +18,9 @@ public class CommandResult {
     /** The application should exit. */
     private final boolean exit;
 
+    /** Work left to run in the background, if any. */
+    private final BackgroundTask backgroundTask;
+
     /**
      * Constructs a {@code CommandResult} with the specified fields.
      */
@@ -24,6 +28,18 @@ public class CommandResult {
         this.feedbackToUser = requireNonNull(feedbackToUser);
         this.showHelp = showHelp;
         this.exit = exit;
+        this.backgroundTask = null;
+    }
+
+    /**
+     * Constructs a {@code CommandResult} with the specified {@code feedbackToUser} that leaves
+     * {@code backgroundTask} to run in the background.
+     */
+    public CommandResult(String feedbackToUser, BackgroundTask backgroundTask) {
+        this.feedbackToUser = requireNonNull(feedbackToUser);
+        this.showHelp = false;
+        this.exit = false;
+        this.backgroundTask = requireNonNull(backgroundTask);
     }
 
     /**
@@ -46,6 +62,10 @@ public class CommandResult {
         return exit;
     }
 
+    public Optional<BackgroundTask> getBackgroundTask() {
+        return Optional.ofNullable(backgroundTask);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -57,6 +77,7 @@ public class CommandResult {
             return false;
         }
 
+        // the background task is not compared, as tasks cannot be compared
         CommandResult otherCommandResult = (CommandResult) other;
         return feedbackToUser.equals(otherCommandResult.feedbackToUser)
                 && showHelp == otherCommandResult.showHelp
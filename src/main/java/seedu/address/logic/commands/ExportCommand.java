@@ -0,0 +1,84 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.application.Application;
+import seedu.address.storage.ApplicationExporter;
+import seedu.address.storage.ApplicationExporter.Format;
+
+/**
+ * Exports the applications shown in the list, or all applications, to a CSV or newline-delimited JSON file.
+ * The file is written in the background from a snapshot of the applications taken when the command runs,
+ * so other commands can run in the meantime.
+ */
+public class ExportCommand extends Command {
+
+    public static final String COMMAND_WORD = "export";
+    public static final String ALL_KEYWORD = "all";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Exports the applications shown in the list, or all "
+            + "applications with '" + ALL_KEYWORD + "', to a CSV (.csv) or newline-delimited JSON (.ndjson or "
+            + ".jsonl) file.\n"
+            + "Parameters: [" + ALL_KEYWORD + "] FILE_PATH\n"
+            + "Example: " + COMMAND_WORD + " " + ALL_KEYWORD + " reports/applications.csv";
+
+    public static final String MESSAGE_STARTED = "Exporting %1$d applications to %2$s...";
+    public static final String MESSAGE_PROGRESS = "Exporting to %1$s: %2$d of %3$d applications written...";
+    public static final String MESSAGE_SUCCESS = "Exported %1$d applications to %2$s in %3$d ms";
+    public static final String MESSAGE_FAILURE = "Could not export to %1$s: %2$s";
+
+    private final Path filePath;
+    private final Format format;
+    private final boolean isAll;
+
+    /**
+     * Creates an ExportCommand to export the applications shown in the list, or all applications if
+     * {@code isAll}, to {@code filePath} in {@code format}.
+     */
+    public ExportCommand(Path filePath, Format format, boolean isAll) {
+        requireNonNull(filePath);
+        requireNonNull(format);
+        this.filePath = filePath;
+        this.format = format;
+        this.isAll = isAll;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        List<Application> applications = isAll
+                ? model.getApplicationSnapshot()
+                : model.getFilteredApplicationSnapshot();
+        BackgroundTask exportTask = progress -> export(applications, progress);
+        return new CommandResult(String.format(MESSAGE_STARTED, applications.size(), filePath), exportTask);
+    }
+
+    private String export(List<Application> applications, Consumer<String> progress) throws CommandException {
+        long start = System.nanoTime();
+        try {
+            long count = ApplicationExporter.export(applications.iterator(), filePath, format, written ->
+                    progress.accept(String.format(MESSAGE_PROGRESS, filePath, written, applications.size())));
+            return String.format(MESSAGE_SUCCESS, count, filePath,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        } catch (IOException e) {
+            throw new CommandException(String.format(MESSAGE_FAILURE, filePath, e.getMessage()), e);
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ExportCommand // instanceof handles nulls
+                && filePath.equals(((ExportCommand) other).filePath)
+                && format == ((ExportCommand) other).format
+                && isAll == ((ExportCommand) other).isAll);
+    }
+}
@@ -0,0 +1,207 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.CsvReader;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.ParserUtil;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.model.application.Application;
+import seedu.address.model.application.Company;
+import seedu.address.model.application.Completion;
+import seedu.address.model.application.Deadline;
+import seedu.address.model.application.Position;
+import seedu.address.model.application.Status;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Adds the applications in the rows of a CSV file, e.g. one exported from a spreadsheet.
+ * The file is read one row at a time, and all valid rows are added as one change with one save.
+ * Rows that are invalid or that duplicate an application already in InternSHIP or an earlier row are skipped.
+ */
+public class ImportCommand extends Command {
+
+    public static final String COMMAND_WORD = "import";
+
+    public static final String COLUMN_COMPANY = "company";
+    public static final String COLUMN_POSITION = "position";
+    public static final String COLUMN_DEADLINE = "deadline";
+    public static final String COLUMN_STATUS = "status";
+    public static final String COLUMN_COMPLETION = "completion";
+    public static final String COLUMN_TAGS = "tags";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Adds the applications in a CSV file to InternSHIP. "
+            + "The first row must name the columns: " + COLUMN_COMPANY + ", " + COLUMN_POSITION + " and "
+            + COLUMN_DEADLINE + ", and optionally " + COLUMN_STATUS + ", " + COLUMN_COMPLETION + " and "
+            + COLUMN_TAGS + ".\n"
+            + "Parameters: FILE_PATH\n"
+            + "Example: " + COMMAND_WORD + " data/applications.csv";
+
+    public static final String MESSAGE_SUCCESS = "Imported %1$d applications, skipped %2$d rows";
+    public static final String MESSAGE_REJECTED_ROW = "Line %1$d: %2$s";
+    public static final String MESSAGE_MORE_REJECTED_ROWS = "... and %1$d more";
+    public static final String MESSAGE_DUPLICATE_ROW = "This application already exists in InternSHIP";
+    public static final String MESSAGE_MISSING_FIELD = "The %1$s is missing";
+    public static final String MESSAGE_FILE_NOT_FOUND = "There is no file at %1$s";
+    public static final String MESSAGE_READ_FAILURE = "Could not read %1$s: %2$s";
+    public static final String MESSAGE_EMPTY_FILE = "The file is empty";
+    public static final String MESSAGE_MISSING_COLUMNS = "The first row must name the columns "
+            + COLUMN_COMPANY + ", " + COLUMN_POSITION + " and " + COLUMN_DEADLINE;
+
+    /** Number of skipped rows whose reason is shown to the user. */
+    static final int MAX_REJECTED_ROWS_SHOWN = 10;
+
+    private static final String TAG_SEPARATORS = "[\\s,;]+";
+
+    private final Path filePath;
+
+    /**
+     * Creates an ImportCommand to add the applications in the CSV file at {@code filePath}.
+     */
+    public ImportCommand(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        Set<Object> identities = new HashSet<>();
+        for (Application application : model.getApplicationSnapshot()) {
+            identities.add(application.getIdentity());
+        }
+        List<Application> toAdd = new ArrayList<>();
+        List<String> rejectedRows = new ArrayList<>();
+        long rejectedCount = 0;
+
+        try (CsvReader reader = new CsvReader(Files.newBufferedReader(filePath, StandardCharsets.UTF_8))) {
+            Map<String, Integer> columns = readColumns(reader);
+            Optional<List<String>> record;
+            while ((record = reader.readRecord()).isPresent()) {
+                List<String> fields = record.get();
+                if (isBlank(fields)) {
+                    continue;
+                }
+                String rejection;
+                try {
+                    Application application = parseApplication(fields, columns);
+                    if (identities.add(application.getIdentity())) {
+                        toAdd.add(application);
+                        continue;
+                    }
+                    rejection = MESSAGE_DUPLICATE_ROW;
+                } catch (ParseException e) {
+                    rejection = e.getMessage();
+                }
+                rejectedCount++;
+                if (rejectedRows.size() < MAX_REJECTED_ROWS_SHOWN) {
+                    rejectedRows.add(String.format(MESSAGE_REJECTED_ROW, reader.getRecordLineNumber(), rejection));
+                }
+            }
+        } catch (NoSuchFileException e) {
+            throw new CommandException(String.format(MESSAGE_FILE_NOT_FOUND, filePath));
+        } catch (IOException | DataConversionException e) {
+            throw new CommandException(String.format(MESSAGE_READ_FAILURE, filePath, e.getMessage()));
+        }
+
+        if (!toAdd.isEmpty()) {
+            model.addApplications(toAdd);
+        }
+        return new CommandResult(formatSummary(toAdd.size(), rejectedCount, rejectedRows));
+    }
+
+    /**
+     * Reads the first row of the file, and returns the index of each column by its lower case name.
+     */
+    private static Map<String, Integer> readColumns(CsvReader reader)
+            throws IOException, DataConversionException, CommandException {
+        List<String> header = reader.readRecord().orElseThrow(() -> new CommandException(MESSAGE_EMPTY_FILE));
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            columns.putIfAbsent(header.get(i).trim().toLowerCase(Locale.ROOT), i);
+        }
+        if (!columns.keySet().containsAll(List.of(COLUMN_COMPANY, COLUMN_POSITION, COLUMN_DEADLINE))) {
+            throw new CommandException(MESSAGE_MISSING_COLUMNS);
+        }
+        return columns;
+    }
+
+    /**
+     * Returns the application in {@code fields}, validated as the fields of the {@code add} and {@code edit}
+     * commands are. Status and completion default to those of a newly added application.
+     */
+    private static Application parseApplication(List<String> fields, Map<String, Integer> columns)
+            throws ParseException {
+        Company company = ParserUtil.parseCompany(getRequiredField(fields, columns, COLUMN_COMPANY));
+        Position position = ParserUtil.parsePosition(getRequiredField(fields, columns, COLUMN_POSITION));
+        Deadline deadline = ParserUtil.parseDeadline(getRequiredField(fields, columns, COLUMN_DEADLINE));
+        Optional<String> status = getField(fields, columns, COLUMN_STATUS);
+        Status parsedStatus = status.isPresent() ? ParserUtil.parseStatus(status.get()) : new Status("Pending");
+        Optional<String> completion = getField(fields, columns, COLUMN_COMPLETION);
+        Completion parsedCompletion = completion.isPresent()
+                ? ParserUtil.parseCompletion(completion.get())
+                : new Completion("Uncompleted");
+        Optional<String> tags = getField(fields, columns, COLUMN_TAGS);
+        Set<Tag> parsedTags = tags.isPresent()
+                ? ParserUtil.parseTags(Arrays.asList(tags.get().trim().split(TAG_SEPARATORS)))
+                : Set.of();
+        return new Application(company, position, deadline, parsedCompletion, parsedStatus, parsedTags);
+    }
+
+    /**
+     * Returns the value of the column {@code name} in {@code fields}, if the file has that column and the value
+     * is not blank.
+     */
+    private static Optional<String> getField(List<String> fields, Map<String, Integer> columns, String name) {
+        Integer index = columns.get(name);
+        if (index == null || index >= fields.size() || fields.get(index).isBlank()) {
+            return Optional.empty();
+        }
+        return Optional.of(fields.get(index));
+    }
+
+    private static String getRequiredField(List<String> fields, Map<String, Integer> columns, String name)
+            throws ParseException {
+        return getField(fields, columns, name)
+                .orElseThrow(() -> new ParseException(String.format(MESSAGE_MISSING_FIELD, name)));
+    }
+
+    private static boolean isBlank(List<String> fields) {
+        return fields.stream().allMatch(String::isBlank);
+    }
+
+    private static String formatSummary(int importedCount, long rejectedCount, List<String> rejectedRows) {
+        StringBuilder summary = new StringBuilder(String.format(MESSAGE_SUCCESS, importedCount, rejectedCount));
+        rejectedRows.forEach(row -> summary.append('\n').append(row));
+        if (rejectedCount > rejectedRows.size()) {
+            summary.append('\n').append(String.format(MESSAGE_MORE_REJECTED_ROWS,
+                    rejectedCount - rejectedRows.size()));
+        }
+        return summary.toString();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ImportCommand // instanceof handles nulls
+                && filePath.equals(((ImportCommand) other).filePath));
+    }
+}
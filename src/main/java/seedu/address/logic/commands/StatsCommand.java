@@ -0,0 +1,41 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.logic.CommandStatistics;
+import seedu.address.model.Model;
+
+/**
+ * Shows how long the commands executed so far took to parse, execute and save.
+ */
+public class StatsCommand extends Command {
+
+    public static final String COMMAND_WORD = "stats";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Shows the median, 99th percentile and maximum time "
+            + "taken by each phase of each command executed since the app started.\n"
+            + "Example: " + COMMAND_WORD;
+
+    private final CommandStatistics statistics;
+
+    /**
+     * Creates a StatsCommand that shows {@code statistics}.
+     */
+    public StatsCommand(CommandStatistics statistics) {
+        requireNonNull(statistics);
+        this.statistics = statistics;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        return new CommandResult(statistics.format());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof StatsCommand // instanceof handles nulls
+                && statistics == ((StatsCommand) other).statistics); // state check
+    }
+}
@@ -0,0 +1,93 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+
+import seedu.address.commons.util.Compression;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.storage.ApplicationExporter.Format;
+import seedu.address.storage.DataFileVerifier;
+
+/**
+ * Checks the data file for corruption against the checksums stored in it, without loading it.
+ * The file is read in the background, so other commands can run in the meantime.
+ */
+public class VerifyCommand extends Command {
+
+    public static final String COMMAND_WORD = "verify";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Checks that the data file has not been changed or "
+            + "corrupted since InternSHIP saved it.\n"
+            + "Example: " + COMMAND_WORD;
+
+    public static final String MESSAGE_STARTED = "Verifying %1$s...";
+    public static final String MESSAGE_PROGRESS = "Verifying %1$s: %2$d MB checked...";
+    public static final String MESSAGE_INTACT = "%1$s is intact: %2$d applications checked in %3$d ms";
+    public static final String MESSAGE_DAMAGED = "%1$s has %2$d problems:";
+    public static final String MESSAGE_MORE_PROBLEMS = "... and %1$d more";
+    public static final String MESSAGE_CHANGED = "%1$s was saved while it was verified. Please verify it again.";
+    public static final String MESSAGE_NO_CHECKSUMS =
+            "Only data files ending with .ndjson or .jsonl, or those followed by .gz, have checksums to verify";
+    public static final String MESSAGE_FILE_NOT_FOUND = "There is no data file at %1$s yet";
+    public static final String MESSAGE_FAILURE = "Could not verify %1$s: %2$s";
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        Path filePath = model.getInternshipFilePath();
+        Optional<Format> format = Format.fromFileName(Compression.getUncompressedName(filePath));
+        if (format.isEmpty() || format.get() != Format.NDJSON) {
+            throw new CommandException(MESSAGE_NO_CHECKSUMS);
+        }
+        if (!Files.exists(filePath)) {
+            throw new CommandException(String.format(MESSAGE_FILE_NOT_FOUND, filePath));
+        }
+        BackgroundTask verifyTask = progress -> verify(filePath, progress);
+        return new CommandResult(String.format(MESSAGE_STARTED, filePath), verifyTask);
+    }
+
+    private static String verify(Path filePath, Consumer<String> progress) throws CommandException {
+        long start = System.nanoTime();
+        try {
+            FileTime lastModified = Files.getLastModifiedTime(filePath);
+            LongConsumer reportProgress = bytesRead ->
+                    progress.accept(String.format(MESSAGE_PROGRESS, filePath, bytesRead >> 20));
+            DataFileVerifier.Result result = DataFileVerifier.verify(filePath, reportProgress);
+            if (!Files.getLastModifiedTime(filePath).equals(lastModified)) {
+                throw new CommandException(String.format(MESSAGE_CHANGED, filePath));
+            }
+            if (result.isIntact()) {
+                return String.format(MESSAGE_INTACT, filePath, result.getRecordCount(),
+                        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            }
+            return formatProblems(filePath, result);
+        } catch (NoSuchFileException e) {
+            throw new CommandException(String.format(MESSAGE_FILE_NOT_FOUND, filePath), e);
+        } catch (IOException e) {
+            throw new CommandException(String.format(MESSAGE_FAILURE, filePath, e.getMessage()), e);
+        }
+    }
+
+    private static String formatProblems(Path filePath, DataFileVerifier.Result result) {
+        List<String> problems = result.getProblems();
+        StringBuilder summary = new StringBuilder(String.format(MESSAGE_DAMAGED, filePath,
+                result.getProblemCount()));
+        problems.forEach(problem -> summary.append('\n').append(problem));
+        if (result.getProblemCount() > problems.size()) {
+            summary.append('\n').append(String.format(MESSAGE_MORE_PROBLEMS,
+                    result.getProblemCount() - problems.size()));
+        }
+        return summary.toString();
+    }
+}
@@ -0,0 +1,41 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.nio.file.Paths;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.logic.commands.ExportCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.storage.ApplicationExporter.Format;
+
+/**
+ * Parses input arguments and creates a new ExportCommand object
+ */
+public class ExportCommandParser implements Parser<ExportCommand> {
+
+    public static final String MESSAGE_UNKNOWN_FORMAT =
+            "The file name must end with .csv for CSV, or .ndjson or .jsonl for newline-delimited JSON";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ExportCommand
+     * and returns an ExportCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ExportCommand parse(String args) throws ParseException {
+        String filePath = args.trim();
+        boolean isAll = false;
+        String[] words = filePath.split("\\s+", 2);
+        if (words.length == 2 && words[0].equals(ExportCommand.ALL_KEYWORD)) {
+            isAll = true;
+            filePath = words[1];
+        }
+        if (filePath.isEmpty() || !FileUtil.isValidPath(filePath)) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE));
+        }
+        Format format = Format.fromFileName(filePath)
+                .orElseThrow(() -> new ParseException(MESSAGE_UNKNOWN_FORMAT));
+        return new ExportCommand(Paths.get(filePath), format, isAll);
+    }
+
+}
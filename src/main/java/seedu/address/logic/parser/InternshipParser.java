@@ -1,11 +1,13 @@
 package seedu.address.logic.parser;
 
+import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+import seedu.address.logic.CommandStatistics;
 import seedu.address.logic.commands.AcceptCommand;
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.ClearCommand;
@@ -14,10 +16,16 @@ import seedu.address.logic.commands.CompleteCommand;
 import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.ExportCommand;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.ImportCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.RedoCommand;
 import seedu.address.logic.commands.RejectCommand;
+import seedu.address.logic.commands.StatsCommand;
+import seedu.address.logic.commands.UndoCommand;
+import seedu.address.logic.commands.VerifyCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
@@ -30,6 +38,23 @@ public class InternshipParser {
      */
     private static final Pattern BASIC_COMMAND_FORMAT = Pattern.compile("(?<commandWord>\\S+)(?<arguments>.*)");
 
+    private final CommandStatistics statistics;
+
+    /**
+     * Creates an {@code InternshipParser} whose {@code stats} command shows an empty {@code CommandStatistics}.
+     */
+    public InternshipParser() {
+        this(new CommandStatistics());
+    }
+
+    /**
+     * Creates an {@code InternshipParser} whose {@code stats} command shows {@code statistics}.
+     */
+    public InternshipParser(CommandStatistics statistics) {
+        requireNonNull(statistics);
+        this.statistics = statistics;
+    }
+
     /**
      * Parses user input into command for execution.
      *
@@ -80,6 +105,24 @@ public class InternshipParser {
         case CompleteCommand.COMMAND_WORD:
             return new CompleteCommandParser().parse(arguments);
 
+        case UndoCommand.COMMAND_WORD:
+            return new UndoCommand();
+
+        case RedoCommand.COMMAND_WORD:
+            return new RedoCommand();
+
+        case StatsCommand.COMMAND_WORD:
+            return new StatsCommand(statistics);
+
+        case ImportCommand.COMMAND_WORD:
+            return new ImportCommandParser().parse(arguments);
+
+        case ExportCommand.COMMAND_WORD:
+            return new ExportCommandParser().parse(arguments);
+
+        case VerifyCommand.COMMAND_WORD:
+            return new VerifyCommand();
+
         default:
             throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
         }
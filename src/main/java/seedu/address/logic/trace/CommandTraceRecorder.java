@@ -0,0 +1,86 @@
+package seedu.address.logic.trace;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.FileUtil;
+
+/**
+ * Appends the commands entered, with the instant they were entered, to a command trace file, which
+ * {@link TraceReplayer} can replay later.
+ * If the file cannot be written to, a warning is logged and no more commands are recorded.
+ * Safe to record to from several threads.
+ */
+public class CommandTraceRecorder implements AutoCloseable {
+
+    private static final Logger logger = LogsCenter.getLogger(CommandTraceRecorder.class);
+
+    private final Path file;
+    private final Clock clock;
+    private BufferedWriter writer;
+
+    /**
+     * Creates a {@code CommandTraceRecorder} that appends to {@code file}, creating it if it does not exist.
+     * @throws IOException if the file cannot be opened.
+     */
+    public CommandTraceRecorder(Path file) throws IOException {
+        this(file, Clock.systemUTC());
+    }
+
+    /**
+     * Creates a {@code CommandTraceRecorder} that appends to {@code file}, taking the time from {@code clock}.
+     * @throws IOException if the file cannot be opened.
+     */
+    CommandTraceRecorder(Path file, Clock clock) throws IOException {
+        requireNonNull(file);
+        requireNonNull(clock);
+        this.file = file;
+        this.clock = clock;
+        FileUtil.createIfMissing(file);
+        writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+    }
+
+    /**
+     * Records that {@code commandText} was entered now. The entry is written out before this method returns,
+     * so that it is not lost if the app is killed.
+     */
+    public synchronized void record(String commandText) {
+        requireNonNull(commandText);
+        if (writer == null) {
+            return;
+        }
+        try {
+            writer.write(new TraceEntry(clock.instant(), commandText).toLine());
+            writer.newLine();
+            writer.flush();
+        } catch (IOException e) {
+            logger.warning("Stopped recording commands, could not write to " + file + ": " + e);
+            close();
+        }
+    }
+
+    /**
+     * Stops recording and closes the trace file. Closing more than once has no further effect.
+     */
+    @Override
+    public synchronized void close() {
+        if (writer == null) {
+            return;
+        }
+        try {
+            writer.close();
+        } catch (IOException e) {
+            logger.warning("Could not close command trace " + file + ": " + e);
+        }
+        writer = null;
+    }
+}
@@ -0,0 +1,77 @@
+package seedu.address.logic.trace;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.concurrent.TimeUnit;
+
+import seedu.address.commons.util.LatencyHistogram;
+import seedu.address.logic.CommandStatistics;
+
+/**
+ * The latency and throughput of the commands replayed from a command trace by {@link TraceReplayer}.
+ */
+public class ReplayReport {
+
+    private final long failureCount;
+    private final long elapsedNanos;
+    private final LatencyHistogram latencies;
+    private final CommandStatistics statistics;
+
+    /**
+     * Creates a report of replaying commands that took {@code elapsedNanos} nanoseconds in total, of which
+     * {@code failureCount} failed. {@code latencies} holds the latency of each command, from entering it to
+     * having saved its changes, and {@code statistics} the latency of each phase per command word.
+     */
+    public ReplayReport(long failureCount, long elapsedNanos, LatencyHistogram latencies,
+            CommandStatistics statistics) {
+        requireNonNull(latencies);
+        requireNonNull(statistics);
+        this.failureCount = failureCount;
+        this.elapsedNanos = elapsedNanos;
+        this.latencies = latencies;
+        this.statistics = statistics;
+    }
+
+    public long getCommandCount() {
+        return latencies.getCount();
+    }
+
+    public long getFailureCount() {
+        return failureCount;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    public LatencyHistogram getLatencies() {
+        return latencies;
+    }
+
+    public CommandStatistics getStatistics() {
+        return statistics;
+    }
+
+    /**
+     * Returns the number of commands replayed per second, or 0 if none were replayed.
+     */
+    public double getThroughput() {
+        return elapsedNanos == 0 ? 0 : getCommandCount() / (elapsedNanos / (double) TimeUnit.SECONDS.toNanos(1));
+    }
+
+    /**
+     * Returns the throughput, the overall latency percentiles and the latency table of {@code CommandStatistics}.
+     */
+    public String format() {
+        return String.format("Replayed %d commands (%d failed) in %.3f s: %.1f commands/s%n",
+                getCommandCount(), failureCount, elapsedNanos / (double) TimeUnit.SECONDS.toNanos(1),
+                getThroughput())
+                + String.format("Latency (ms): p50 %s, p99 %s, max %s%n%n", toMillis(latencies.getPercentile(50)),
+                        toMillis(latencies.getPercentile(99)), toMillis(latencies.getMax()))
+                + statistics.format();
+    }
+
+    private static String toMillis(long nanos) {
+        return String.format("%.3f", nanos / (double) TimeUnit.MILLISECONDS.toNanos(1));
+    }
+}
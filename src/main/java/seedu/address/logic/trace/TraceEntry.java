@@ -0,0 +1,131 @@
+package seedu.address.logic.trace;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Objects;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+/**
+ * A command entered at some instant, as recorded in a command trace.
+ * In a trace file, each entry is a line with the instant in ISO-8601 format, a tab and the command text, in which
+ * backslashes, tabs and line breaks are escaped as in Java string literals.
+ */
+public class TraceEntry {
+
+    public static final String MESSAGE_INVALID_LINE = "Invalid command trace line: %s";
+
+    private static final char SEPARATOR = '\t';
+
+    private final Instant instant;
+    private final String commandText;
+
+    /**
+     * Every field must be present and not null.
+     */
+    public TraceEntry(Instant instant, String commandText) {
+        requireAllNonNull(instant, commandText);
+        this.instant = instant;
+        this.commandText = commandText;
+    }
+
+    public Instant getInstant() {
+        return instant;
+    }
+
+    public String getCommandText() {
+        return commandText;
+    }
+
+    /**
+     * Returns this entry as a line of a trace file, without the line break.
+     */
+    public String toLine() {
+        StringBuilder line = new StringBuilder(instant.toString()).append(SEPARATOR);
+        for (char c : commandText.toCharArray()) {
+            switch (c) {
+            case '\\':
+                line.append("\\\\");
+                break;
+            case '\t':
+                line.append("\\t");
+                break;
+            case '\n':
+                line.append("\\n");
+                break;
+            case '\r':
+                line.append("\\r");
+                break;
+            default:
+                line.append(c);
+            }
+        }
+        return line.toString();
+    }
+
+    /**
+     * Returns the entry written as {@code line} by {@link #toLine()}.
+     * @throws IllegalValueException if {@code line} is not a valid trace line.
+     */
+    public static TraceEntry fromLine(String line) throws IllegalValueException {
+        int separatorIndex = line.indexOf(SEPARATOR);
+        if (separatorIndex == -1) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_LINE, line));
+        }
+        Instant instant;
+        try {
+            instant = Instant.parse(line.substring(0, separatorIndex));
+        } catch (DateTimeParseException e) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_LINE, line), e);
+        }
+
+        StringBuilder commandText = new StringBuilder();
+        for (int i = separatorIndex + 1; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (c != '\\') {
+                commandText.append(c);
+                continue;
+            }
+            if (++i == line.length()) {
+                throw new IllegalValueException(String.format(MESSAGE_INVALID_LINE, line));
+            }
+            switch (line.charAt(i)) {
+            case '\\':
+                commandText.append('\\');
+                break;
+            case 't':
+                commandText.append('\t');
+                break;
+            case 'n':
+                commandText.append('\n');
+                break;
+            case 'r':
+                commandText.append('\r');
+                break;
+            default:
+                throw new IllegalValueException(String.format(MESSAGE_INVALID_LINE, line));
+            }
+        }
+        return new TraceEntry(instant, commandText.toString());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof TraceEntry // instanceof handles nulls
+                && instant.equals(((TraceEntry) other).instant)
+                && commandText.equals(((TraceEntry) other).commandText));
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(instant, commandText);
+    }
+
+    @Override
+    public String toString() {
+        return toLine();
+    }
+}
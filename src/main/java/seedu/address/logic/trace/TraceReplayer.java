@@ -0,0 +1,98 @@
+package seedu.address.logic.trace;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.LatencyHistogram;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyInternship;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.JsonInternshipStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+
+/**
+ * Replays a command trace recorded by {@link CommandTraceRecorder} without a UI, against a fresh model that starts
+ * with the given data and storage in the given directory, and reports the latency and throughput of the commands.
+ * The commands are executed one after another as fast as possible, ignoring the time between them in the trace.
+ * Commands that fail, e.g. because they refer to applications that do not exist, are counted and skipped.
+ */
+public class TraceReplayer {
+
+    public static final String DATA_FILE_NAME = "internship.json";
+    public static final String PREFS_FILE_NAME = "preferences.json";
+
+    private final ReadOnlyInternship initialData;
+    private final Path workingDirectory;
+
+    /**
+     * Creates a {@code TraceReplayer} that replays traces starting from {@code initialData} and saves the data
+     * to the files named {@link #DATA_FILE_NAME} and {@link #PREFS_FILE_NAME} in {@code workingDirectory}.
+     */
+    public TraceReplayer(ReadOnlyInternship initialData, Path workingDirectory) {
+        requireAllNonNull(initialData, workingDirectory);
+        this.initialData = initialData;
+        this.workingDirectory = workingDirectory;
+    }
+
+    /**
+     * Returns the entries of the trace file {@code file}, ignoring blank lines.
+     * @throws DataConversionException if the file is not a valid trace file.
+     */
+    public static List<TraceEntry> readTrace(Path file) throws IOException, DataConversionException {
+        List<TraceEntry> trace = new ArrayList<>();
+        for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+            if (line.isBlank()) {
+                continue;
+            }
+            try {
+                trace.add(TraceEntry.fromLine(line));
+            } catch (IllegalValueException e) {
+                throw new DataConversionException(e);
+            }
+        }
+        return trace;
+    }
+
+    /**
+     * Executes the commands of {@code trace} in order against a fresh model and returns their latencies.
+     */
+    public ReplayReport replay(List<TraceEntry> trace) {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setInternshipFilePath(workingDirectory.resolve(DATA_FILE_NAME));
+        Model model = new ModelManager(initialData, userPrefs);
+        StorageManager storage = new StorageManager(new JsonInternshipStorage(userPrefs.getInternshipFilePath()),
+                new JsonUserPrefsStorage(workingDirectory.resolve(PREFS_FILE_NAME)));
+        LogicManager logic = new LogicManager(model, storage);
+
+        LatencyHistogram latencies = new LatencyHistogram();
+        long failureCount = 0;
+        long start = System.nanoTime();
+        try {
+            for (TraceEntry entry : trace) {
+                long commandStart = System.nanoTime();
+                try {
+                    logic.execute(entry.getCommandText());
+                } catch (CommandException | ParseException e) {
+                    failureCount++;
+                }
+                latencies.record(System.nanoTime() - commandStart);
+            }
+        } finally {
+            logic.shutdown();
+        }
+        return new ReplayReport(failureCount, System.nanoTime() - start, latencies, logic.getCommandStatistics());
+    }
+}
@@ -0,0 +1,118 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_APPLICATIONS;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.model.application.Application;
+import seedu.address.model.application.RefinablePredicate;
+
+/**
+ * Evaluates filter predicates over the applications of an {@code InternshipSnapshot}, remembering the results.
+ * The matches of the most recently used predicates are cached for the current version of the applications, so
+ * repeating a recent search costs no predicate evaluations at all. A {@link RefinablePredicate} that narrows the
+ * previous predicate, e.g. a search with fewer keywords, is evaluated only on the previous matches.
+ * The predicates returned can be given to a {@code FilteredList}: they look up the cached result for the
+ * applications of the snapshot and evaluate the original predicate for applications added afterwards.
+ * Not thread-safe.
+ */
+public class FilterEngine {
+
+    public static final int DEFAULT_CACHE_CAPACITY = 8;
+
+    private final Map<Predicate<? super Application>, Set<Application>> cache;
+    private long version = -1;
+    /** The applications of the snapshot at {@code version}, or null if not needed yet. */
+    private Set<Application> members;
+    private Predicate<? super Application> lastPredicate;
+    private Set<Application> lastMatches;
+
+    /**
+     * Creates a {@code FilterEngine} that caches the results of the {@code cacheCapacity} most recently used
+     * predicates.
+     */
+    public FilterEngine(int cacheCapacity) {
+        if (cacheCapacity < 1) {
+            throw new IllegalArgumentException("Cache capacity must be positive: " + cacheCapacity);
+        }
+        cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Predicate<? super Application>, Set<Application>> eldest) {
+                return size() > cacheCapacity;
+            }
+        };
+    }
+
+    public FilterEngine() {
+        this(DEFAULT_CACHE_CAPACITY);
+    }
+
+    /**
+     * Returns a predicate equivalent to {@code predicate} that answers from the precomputed matches for the
+     * applications in {@code snapshot}.
+     */
+    public Predicate<Application> filter(InternshipSnapshot snapshot, Predicate<? super Application> predicate) {
+        requireNonNull(snapshot);
+        requireNonNull(predicate);
+        if (predicate == PREDICATE_SHOW_ALL_APPLICATIONS) {
+            return PREDICATE_SHOW_ALL_APPLICATIONS;
+        }
+        if (snapshot.getVersion() != version) {
+            cache.clear();
+            members = null;
+            lastPredicate = null;
+            lastMatches = null;
+            version = snapshot.getVersion();
+        }
+
+        Set<Application> matches = cache.get(predicate);
+        if (matches == null) {
+            matches = evaluate(snapshot, predicate);
+            cache.put(predicate, matches);
+        }
+        lastPredicate = predicate;
+        lastMatches = matches;
+
+        Set<Application> knownMatches = matches;
+        Set<Application> knownApplications = getMembers(snapshot);
+        return application -> knownMatches.contains(application)
+                || (!knownApplications.contains(application) && predicate.test(application));
+    }
+
+    private Set<Application> evaluate(InternshipSnapshot snapshot, Predicate<? super Application> predicate) {
+        Iterable<Application> candidates = snapshot.getApplications();
+        if (lastMatches != null && predicate instanceof RefinablePredicate
+                && ((RefinablePredicate<?>) predicate).refines(lastPredicate)) {
+            candidates = lastMatches;
+        }
+        Set<Application> matches = newIdentitySet();
+        for (Application application : candidates) {
+            if (predicate.test(application)) {
+                matches.add(application);
+            }
+        }
+        return matches;
+    }
+
+    private Set<Application> getMembers(InternshipSnapshot snapshot) {
+        if (members == null) {
+            members = newIdentitySet();
+            snapshot.getApplications().forEach(members::add);
+        }
+        return members;
+    }
+
+    /**
+     * Returns a set comparing applications by identity, which is cheaper than comparing all their fields and
+     * tells apart equal applications that are stored separately.
+     */
+    private static Set<Application> newIdentitySet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+}
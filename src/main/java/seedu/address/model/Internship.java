@@ -6,18 +6,27 @@ import java.util.List;
 
 import javafx.collections.ObservableList;
 import seedu.address.model.application.Application;
+import seedu.address.model.application.ApplicationListChange;
 import seedu.address.model.application.UniqueApplicationList;
 
 /**
  * Wraps all data at the address-book level
  * Duplicates are not allowed (by .isSameApplication comparison)
+ * Not thread-safe; concurrent access is coordinated by {@link ModelManager}.
  */
 public class Internship implements ReadOnlyInternship {
 
     private final UniqueApplicationList applications;
+    private long version;
+    private volatile InternshipSnapshot snapshot;
+    /** Lineage of the snapshots, which changes with every modification other than adding to the end. */
+    private Object lineage = new Object();
+    private Object sourceLineage;
+    private int sourceSize;
 
     {
         applications = new UniqueApplicationList();
+        snapshot = new InternshipSnapshot(version, applications.asPersistentVector(), lineage, null, 0);
     }
 
     public Internship() {}
@@ -37,7 +46,7 @@ public class Internship implements ReadOnlyInternship {
      * {@code applications} must not contain duplicate applications.
      */
     public void setApplications(List<Application> applications) {
-        this.applications.setApplications(applications);
+        changed(this.applications.setApplications(applications));
     }
 
     /**
@@ -46,7 +55,12 @@ public class Internship implements ReadOnlyInternship {
     public void resetData(ReadOnlyInternship newData) {
         requireNonNull(newData);
 
-        setApplications(newData.getApplicationList());
+        InternshipSnapshot source = InternshipSnapshot.of(newData);
+        ApplicationListChange change = applications.setApplications(source.getApplicationList());
+        recordChange(change);
+        // the snapshots are appended to the source's from now on, until they are changed otherwise
+        startLineage(source.getLineage(), source.getApplications().size());
+        publishSnapshot();
     }
 
     //// application-level operations
@@ -64,7 +78,34 @@ public class Internship implements ReadOnlyInternship {
      * The application must not already exist in the address book.
      */
     public void addApplication(Application p) {
-        applications.add(p);
+        changed(applications.add(p));
+    }
+
+    /**
+     * Adds {@code applications} to the end of the address book as one change.
+     * None of them may already exist in the address book, and they must not contain duplicate applications.
+     */
+    public void addApplications(List<Application> applications) {
+        changed(this.applications.addAll(applications));
+    }
+
+    /**
+     * Adds the applications of {@code source} from index {@code from} to {@code to} to the end of the address book
+     * as one change, as when it is loaded in parts. If the address book held exactly the applications of
+     * {@code source} before {@code from}, as after loading the earlier parts into an empty address book, its
+     * snapshots are known to be appended to {@code source} from now on.
+     */
+    public void addApplications(InternshipSnapshot source, int from, int to) {
+        requireNonNull(source);
+        int sizeBefore = applications.asPersistentVector().size();
+        ApplicationListChange change = applications.addAll(source.getApplications().asList().subList(from, to));
+        recordChange(change);
+        if (from == 0 && sizeBefore == 0) {
+            startLineage(source.getLineage(), to);
+        } else if (sourceLineage == source.getLineage() && sourceSize == from && sizeBefore == from) {
+            sourceSize = to;
+        }
+        publishSnapshot();
     }
 
     /**
@@ -76,7 +117,7 @@ public class Internship implements ReadOnlyInternship {
     public void setApplication(Application target, Application editedApplication) {
         requireNonNull(editedApplication);
 
-        applications.setApplication(target, editedApplication);
+        changed(applications.setApplication(target, editedApplication));
     }
 
     /**
@@ -84,7 +125,91 @@ public class Internship implements ReadOnlyInternship {
      * {@code key} must exist in the address book.
      */
     public void removeApplication(Application key) {
-        applications.remove(key);
+        changed(applications.remove(key));
+    }
+
+    //// transactions
+
+    /**
+     * Starts a transaction. Until the matching {@link #commitTransaction()}, modifications are still applied
+     * and recorded as usual, but the list returned by {@link #getApplicationList()} is not updated, so that its
+     * observers are notified only once, when the transaction is committed.
+     * Transactions may be nested.
+     */
+    public void beginTransaction() {
+        applications.beginBatch();
+    }
+
+    /**
+     * Ends the transaction started by the matching {@link #beginTransaction()}, updating the list returned by
+     * {@link #getApplicationList()} with all its modifications in a single change if it is the outermost one.
+     * @throws IllegalStateException if no transaction has been started.
+     */
+    public void commitTransaction() {
+        applications.endBatch();
+    }
+
+    //// change tracking
+
+    /**
+     * Called after every modification of this {@code Internship} with a description of the change.
+     * Does nothing by default; subclasses may override this to keep a history of changes.
+     */
+    protected void recordChange(ApplicationListChange change) {}
+
+    /**
+     * Applies {@code change} without recording it, e.g. to revert a previously recorded change.
+     * @see UniqueApplicationList#applyChange(ApplicationListChange)
+     */
+    protected void applyChange(ApplicationListChange change) {
+        applications.applyChange(change);
+        publishSnapshot(change);
+    }
+
+    private void changed(ApplicationListChange change) {
+        recordChange(change);
+        publishSnapshot(change);
+    }
+
+    //// snapshots
+
+    /**
+     * Returns an immutable snapshot of the current applications, in O(1) time.
+     * May be called from any thread; the snapshot is unaffected by later changes to this {@code Internship}.
+     */
+    public InternshipSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Returns the current version, which increases with every modification of this {@code Internship}.
+     */
+    public long getVersion() {
+        return snapshot.getVersion();
+    }
+
+    /**
+     * Publishes a snapshot after {@code change}, in a new lineage unless the change only added applications to
+     * the end.
+     */
+    private void publishSnapshot(ApplicationListChange change) {
+        boolean isAppend = change.getRemoved().isEmpty()
+                && change.getFrom() + change.getAdded().size() == applications.asPersistentVector().size();
+        if (!isAppend) {
+            startLineage(null, 0);
+        }
+        publishSnapshot();
+    }
+
+    private void publishSnapshot() {
+        snapshot = new InternshipSnapshot(++version, applications.asPersistentVector(), lineage, sourceLineage,
+                sourceSize);
+    }
+
+    private void startLineage(Object sourceLineage, int sourceSize) {
+        lineage = new Object();
+        this.sourceLineage = sourceLineage;
+        this.sourceSize = sourceSize;
     }
 
     //// util methods
@@ -0,0 +1,134 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.util.PersistentVector;
+import seedu.address.model.application.Application;
+
+/**
+ * An immutable, versioned view of the applications in an {@link Internship} at one point in time.
+ * Snapshots share structure with the Internship they were taken from, so taking one costs O(1) regardless of
+ * the number of applications, and they can be read from any thread while the Internship keeps changing.
+ */
+public class InternshipSnapshot implements ReadOnlyInternship {
+
+    private final long version;
+    private final PersistentVector<Application> applications;
+    private final ObservableList<Application> applicationList;
+
+    /**
+     * Identifies the snapshots that only differ from this one by applications appended at the end, and whose
+     * smaller one has all the applications of the larger one before them.
+     */
+    private final Object lineage;
+    /**
+     * The lineage of the snapshots whose first {@code sourceSize} applications this lineage started with a copy of,
+     * if any.
+     */
+    private final Object sourceLineage;
+    private final int sourceSize;
+
+    /**
+     * Creates a snapshot of {@code applications} taken at {@code version}, which is not known to be appended to
+     * any other snapshot.
+     */
+    public InternshipSnapshot(long version, PersistentVector<Application> applications) {
+        this(version, applications, new Object(), null, 0);
+    }
+
+    /**
+     * Creates a snapshot of {@code applications} taken at {@code version}, in {@code lineage}.
+     * {@code sourceLineage} and {@code sourceSize} are those of the snapshot whose applications {@code lineage}
+     * started with, or null and 0 if it started with other applications.
+     */
+    InternshipSnapshot(long version, PersistentVector<Application> applications, Object lineage,
+            Object sourceLineage, int sourceSize) {
+        requireNonNull(applications);
+        requireNonNull(lineage);
+        this.version = version;
+        this.applications = applications;
+        this.lineage = lineage;
+        this.sourceLineage = sourceLineage;
+        this.sourceSize = sourceSize;
+        applicationList = FXCollections.unmodifiableObservableList(
+                FXCollections.observableList(applications.asList()));
+    }
+
+    /**
+     * Returns the version of the Internship this snapshot was taken at.
+     * The version increases with every modification of the Internship.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns {@code data} if it is a snapshot, the current snapshot of {@code data} if it is an Internship, or a new
+     * snapshot of its applications otherwise.
+     */
+    public static InternshipSnapshot of(ReadOnlyInternship data) {
+        requireNonNull(data);
+        if (data instanceof InternshipSnapshot) {
+            return (InternshipSnapshot) data;
+        }
+        if (data instanceof Internship) {
+            return ((Internship) data).getSnapshot();
+        }
+        return new InternshipSnapshot(0, PersistentVector.of(data.getApplicationList()));
+    }
+
+    /**
+     * Returns true if this snapshot has the same applications as {@code previous}, in the same order, followed by
+     * any number of others, as when applications were only added to the end of an Internship since
+     * {@code previous} was taken. May return false if that is only true by coincidence, e.g. if an application was
+     * deleted and added back. Takes O(1) time.
+     */
+    public boolean isAppendedTo(InternshipSnapshot previous) {
+        requireNonNull(previous);
+        int previousSize = previous.applications.size();
+        if (lineage == previous.lineage) {
+            return applications.size() >= previousSize;
+        }
+        // copied from a snapshot appended to previous, and only appended to since
+        return sourceLineage == previous.lineage && sourceSize >= previousSize;
+    }
+
+    Object getLineage() {
+        return lineage;
+    }
+
+    /**
+     * Returns the applications in this snapshot as an immutable {@code PersistentVector}.
+     */
+    public PersistentVector<Application> getApplications() {
+        return applications;
+    }
+
+    /**
+     * Returns the applications in this snapshot. The list never changes, so no change events are fired.
+     */
+    @Override
+    public ObservableList<Application> getApplicationList() {
+        return applicationList;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof InternshipSnapshot // instanceof handles nulls
+                && version == ((InternshipSnapshot) other).version
+                && applications.equals(((InternshipSnapshot) other).applications));
+    }
+
+    @Override
+    public int hashCode() {
+        return applications.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return applications.size() + " applications (version " + version + ")";
+    }
+}
@@ -1,6 +1,7 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.util.List;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
@@ -49,9 +50,29 @@ public interface Model {
      */
     void setInternship(ReadOnlyInternship internship);
 
+    /**
+     * Appends the applications of {@code source} read from storage, from index {@code from} to {@code to}, to the
+     * Internship as one change, which cannot be undone, and clears the undo history. None of them may already exist
+     * in the Internship.
+     * @see Internship#addApplications(InternshipSnapshot, int, int)
+     */
+    void loadApplications(InternshipSnapshot source, int from, int to);
+
     /** Returns the Internship */
     ReadOnlyInternship getInternship();
 
+    /**
+     * Returns an immutable, versioned snapshot of the Internship in O(1) time.
+     * Safe to call and read from any thread while the model is being modified.
+     */
+    InternshipSnapshot getInternshipSnapshot();
+
+    /**
+     * Returns an immutable snapshot of all applications in the Internship.
+     * Safe to call and iterate from any thread while the model is being modified.
+     */
+    List<Application> getApplicationSnapshot();
+
     /**
      * Returns true if a application with the same identity as {@code application} exists in the Internship.
      */
@@ -69,6 +90,12 @@ public interface Model {
      */
     void addApplication(Application application);
 
+    /**
+     * Adds the given applications as one change, which is undone as a whole.
+     * None of them may already exist in the Internship, and {@code applications} must not contain duplicates.
+     */
+    void addApplications(List<Application> applications);
+
     /**
      * Replaces the given application {@code target} with {@code editedApplication}.
      * {@code target} must exist in the Internship.
@@ -77,12 +104,74 @@ public interface Model {
      */
     void setApplication(Application target, Application editedApplication);
 
+    /**
+     * Returns true if the model has previous Internship states to restore.
+     */
+    boolean canUndoInternship();
+
+    /**
+     * Returns true if the model has undone Internship states to restore.
+     */
+    boolean canRedoInternship();
+
+    /**
+     * Restores the model's Internship to its previous state.
+     */
+    void undoInternship();
+
+    /**
+     * Restores the model's previously undone Internship state.
+     */
+    void redoInternship();
+
+    /**
+     * Saves the current Internship state for undo/redo.
+     */
+    void commitInternship();
+
+    /**
+     * Starts a transaction for a bulk modification. The modifications made until the matching
+     * {@link #commitTransaction()} are applied and can be undone as usual, but the filtered application list
+     * and its observers see them only when the transaction is committed, as a single change.
+     * Callers should commit the transaction in a {@code finally} block.
+     */
+    void beginTransaction();
+
+    /**
+     * Commits the transaction started by the matching {@link #beginTransaction()}.
+     * @throws IllegalStateException if no transaction has been started.
+     */
+    void commitTransaction();
+
     /** Returns an unmodifiable view of the filtered application list */
     ObservableList<Application> getFilteredApplicationList();
 
+    /**
+     * Returns an immutable snapshot of the filtered application list.
+     * Safe to call and iterate from any thread while the model is being modified.
+     */
+    List<Application> getFilteredApplicationSnapshot();
+
     /**
      * Updates the filter of the filtered application list to filter by the given {@code predicate}.
      * @throws NullPointerException if {@code predicate} is null.
      */
     void updateFilteredApplicationList(Predicate<Application> predicate);
+
+    /**
+     * Updates the filter of the filtered application list to show the applications whose company name contains
+     * any of {@code keywords} as a whole word, ignoring case, as the {@code find} command does, or all applications
+     * if there are none. Meant to be called repeatedly as the user types; dropping some of the previous keywords
+     * only filters the previous results.
+     * The filter used before the first of these calls is remembered until the list is filtered in any other way.
+     * @throws NullPointerException if {@code keywords} is null.
+     * @see #restoreFilteredApplicationList()
+     */
+    void updateFilteredApplicationListByKeywords(List<String> keywords);
+
+    /**
+     * Restores the filter used before the list was filtered by {@link #updateFilteredApplicationListByKeywords},
+     * e.g. the results of an earlier {@code find} command. Does nothing if the list is not filtered by keywords.
+     */
+    void restoreFilteredApplicationList();
 }
@@ -4,7 +4,10 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.locks.StampedLock;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -12,16 +15,29 @@ import javafx.collections.transformation.FilteredList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.model.application.Application;
+import seedu.address.model.application.CompanyKeywordSearch;
 
 /**
  * Represents the in-memory model of the address book data.
+ * Mutations of the Internship and the filtered list are serialized by a write lock, while
+ * {@link #getInternshipSnapshot()}, {@link #getApplicationSnapshot()} and {@link #getFilteredApplicationSnapshot()}
+ * let other threads read a consistent view without blocking writers.
+ * Statistics of the model are exposed through JMX by {@link ModelMetrics}.
  */
-public class ModelManager implements Model {
+public class ModelManager implements Model, ModelMetrics {
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
 
-    private final Internship internship;
+    private final VersionedInternship internship;
     private final UserPrefs userPrefs;
     private final FilteredList<Application> filteredApplications;
+    private final FilterEngine filterEngine = new FilterEngine();
+    private final CompanyKeywordSearch companyKeywordSearch = new CompanyKeywordSearch();
+    /** The filter used before the list was filtered by keywords, or null if it is not filtered by keywords. */
+    private Predicate<? super Application> predicateBeforeKeywords;
+
+    private final StampedLock lock = new StampedLock();
+    /** Immutable copy of the filtered list, or null if it has been invalidated by a mutation. */
+    private volatile List<Application> filteredApplicationSnapshot;
 
     /**
      * Initializes a ModelManager with the given internship and userPrefs.
@@ -30,10 +46,11 @@ public class ModelManager implements Model {
         super();
         requireAllNonNull(internship, userPrefs);
 
-        logger.fine("Initializing with InternSHIP: " + internship + " and user preferences " + userPrefs);
+        logger.fine(() -> "Initializing with InternSHIP: " + internship + " and user preferences " + userPrefs);
 
-        this.internship = new Internship(internship);
         this.userPrefs = new UserPrefs(userPrefs);
+        this.internship = new VersionedInternship(internship, userPrefs.getUndoHistoryDepth(),
+                userPrefs.getUndoHistoryMaxApplications());
         filteredApplications = new FilteredList<>(this.internship.getApplicationList());
     }
 
@@ -80,36 +97,107 @@ public class ModelManager implements Model {
 
     @Override
     public void setInternship(ReadOnlyInternship internship) {
-        this.internship.resetData(internship);
+        write(() -> this.internship.resetData(internship));
+    }
+
+    @Override
+    public void loadApplications(InternshipSnapshot source, int from, int to) {
+        requireNonNull(source);
+        write(() -> {
+            internship.addApplications(source, from, to);
+            internship.clearHistory();
+        });
     }
 
+    /**
+     * Returns the live Internship, which must only be read by the thread modifying the model.
+     * Other threads should use {@link #getApplicationSnapshot()} instead.
+     */
     @Override
     public ReadOnlyInternship getInternship() {
         return internship;
     }
 
+    @Override
+    public InternshipSnapshot getInternshipSnapshot() {
+        return internship.getSnapshot();
+    }
+
+    @Override
+    public List<Application> getApplicationSnapshot() {
+        return internship.getSnapshot().getApplications().asList();
+    }
+
     @Override
     public boolean hasApplication(Application application) {
         requireNonNull(application);
-        return internship.hasApplication(application);
+        return read(() -> internship.hasApplication(application));
     }
 
     @Override
     public void deleteApplication(Application target) {
-        internship.removeApplication(target);
+        write(() -> internship.removeApplication(target));
     }
 
     @Override
     public void addApplication(Application application) {
-        internship.addApplication(application);
-        updateFilteredApplicationList(PREDICATE_SHOW_ALL_APPLICATIONS);
+        write(() -> {
+            internship.addApplication(application);
+            setPredicate(PREDICATE_SHOW_ALL_APPLICATIONS);
+        });
+    }
+
+    @Override
+    public void addApplications(List<Application> applications) {
+        requireNonNull(applications);
+        write(() -> {
+            internship.addApplications(applications);
+            setPredicate(PREDICATE_SHOW_ALL_APPLICATIONS);
+        });
     }
 
     @Override
     public void setApplication(Application target, Application editedApplication) {
         requireAllNonNull(target, editedApplication);
 
-        internship.setApplication(target, editedApplication);
+        write(() -> internship.setApplication(target, editedApplication));
+    }
+
+    //=========== Undo/Redo =================================================================================
+
+    @Override
+    public boolean canUndoInternship() {
+        return read(internship::canUndo);
+    }
+
+    @Override
+    public boolean canRedoInternship() {
+        return read(internship::canRedo);
+    }
+
+    @Override
+    public void undoInternship() {
+        write(internship::undo);
+    }
+
+    @Override
+    public void redoInternship() {
+        write(internship::redo);
+    }
+
+    @Override
+    public void commitInternship() {
+        write(internship::commit);
+    }
+
+    @Override
+    public void beginTransaction() {
+        write(internship::beginTransaction);
+    }
+
+    @Override
+    public void commitTransaction() {
+        write(internship::commitTransaction);
     }
 
     //=========== Filtered Application List Accessors =============================================================
@@ -123,12 +211,131 @@ public class ModelManager implements Model {
         return filteredApplications;
     }
 
+    @Override
+    public List<Application> getFilteredApplicationSnapshot() {
+        long stamp = lock.tryOptimisticRead();
+        List<Application> snapshot = filteredApplicationSnapshot;
+        if (snapshot != null && lock.validate(stamp)) {
+            return snapshot;
+        }
+        return read(() -> {
+            if (filteredApplicationSnapshot == null) {
+                filteredApplicationSnapshot = List.copyOf(filteredApplications);
+            }
+            return filteredApplicationSnapshot;
+        });
+    }
+
     @Override
     public void updateFilteredApplicationList(Predicate<Application> predicate) {
         requireNonNull(predicate);
+        write(() -> setPredicate(filterEngine.filter(internship.getSnapshot(), predicate)));
+    }
+
+    @Override
+    public void updateFilteredApplicationListByKeywords(List<String> keywords) {
+        requireNonNull(keywords);
+        write(() -> {
+            if (predicateBeforeKeywords == null) {
+                Predicate<? super Application> predicate = filteredApplications.getPredicate();
+                predicateBeforeKeywords = predicate == null ? PREDICATE_SHOW_ALL_APPLICATIONS : predicate;
+            }
+            filteredApplications.setPredicate(companyKeywordSearch.search(internship.getSnapshot(), keywords));
+        });
+    }
+
+    @Override
+    public void restoreFilteredApplicationList() {
+        write(() -> {
+            if (predicateBeforeKeywords != null) {
+                setPredicate(predicateBeforeKeywords);
+            }
+        });
+    }
+
+    /**
+     * Filters the list by {@code predicate}, which replaces any filter by keywords for good.
+     */
+    private void setPredicate(Predicate<? super Application> predicate) {
+        predicateBeforeKeywords = null;
         filteredApplications.setPredicate(predicate);
     }
 
+    //=========== Management ================================================================================
+
+    @Override
+    public int getApplicationCount() {
+        return getInternshipSnapshot().getApplications().size();
+    }
+
+    @Override
+    public int getFilteredApplicationCount() {
+        return getFilteredApplicationSnapshot().size();
+    }
+
+    @Override
+    public int getPendingCount() {
+        return countApplications(application -> application.getStatus().value.equals("Pending"));
+    }
+
+    @Override
+    public int getAcceptedCount() {
+        return countApplications(application -> application.getStatus().value.equals("Accepted"));
+    }
+
+    @Override
+    public int getRejectedCount() {
+        return countApplications(application -> application.getStatus().value.equals("Rejected"));
+    }
+
+    @Override
+    public int getCompletedCount() {
+        return countApplications(application -> application.getCompletion().value.equals("Completed"));
+    }
+
+    @Override
+    public long getInternshipVersion() {
+        return getInternshipSnapshot().getVersion();
+    }
+
+    private int countApplications(Predicate<Application> predicate) {
+        int count = 0;
+        for (Application application : getInternshipSnapshot().getApplications()) {
+            if (predicate.test(application)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    //=========== Locking ===================================================================================
+
+    /**
+     * Runs {@code mutation} while holding the write lock, then invalidates the snapshots held for readers.
+     * The lock is not reentrant, so {@code mutation} must not call other locking methods of this class.
+     */
+    private void write(Runnable mutation) {
+        long stamp = lock.writeLock();
+        try {
+            mutation.run();
+        } finally {
+            filteredApplicationSnapshot = null;
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Returns the result of {@code reader} computed while holding the read lock.
+     */
+    private <T> T read(Supplier<T> reader) {
+        long stamp = lock.readLock();
+        try {
+            return reader.get();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
     @Override
     public boolean equals(Object obj) {
         // short circuit if same object
@@ -0,0 +1,27 @@
+package seedu.address.model;
+
+import javax.management.MXBean;
+
+/**
+ * Management interface exposing statistics of the {@code ModelManager} through JMX, e.g. to JConsole.
+ */
+@MXBean
+public interface ModelMetrics {
+
+    int getApplicationCount();
+
+    int getFilteredApplicationCount();
+
+    int getPendingCount();
+
+    int getAcceptedCount();
+
+    int getRejectedCount();
+
+    int getCompletedCount();
+
+    /**
+     * Returns the current version of the Internship, which increases with every modification.
+     */
+    long getInternshipVersion();
+}
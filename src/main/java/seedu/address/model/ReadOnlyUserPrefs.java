@@ -13,4 +13,24 @@ public interface ReadOnlyUserPrefs {
 
     Path getInternshipFilePath();
 
+    /**
+     * Returns the maximum number of commands that can be undone.
+     */
+    int getUndoHistoryDepth();
+
+    /**
+     * Returns the maximum total number of applications the undo history may hold on to, which bounds its memory.
+     */
+    long getUndoHistoryMaxApplications();
+
+    /**
+     * Returns true if the data file should be GZIP compressed, whatever its name.
+     */
+    boolean isDataFileCompressed();
+
+    /**
+     * Returns the level the data file is compressed at, from 0 (fastest) to 9 (smallest), if it is compressed.
+     */
+    int getDataFileCompressionLevel();
+
 }
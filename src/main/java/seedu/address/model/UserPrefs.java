@@ -5,16 +5,28 @@ import static java.util.Objects.requireNonNull;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Objects;
+import java.util.logging.Logger;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.Compression;
 
 /**
  * Represents User's preferences.
  */
 public class UserPrefs implements ReadOnlyUserPrefs {
 
+    public static final int DEFAULT_UNDO_HISTORY_DEPTH = 50;
+    public static final long DEFAULT_UNDO_HISTORY_MAX_APPLICATIONS = 100_000;
+
+    private static final Logger logger = LogsCenter.getLogger(UserPrefs.class);
+
     private GuiSettings guiSettings = new GuiSettings();
     private Path internshipFilePath = Paths.get("data" , "internship.json");
+    private int undoHistoryDepth = DEFAULT_UNDO_HISTORY_DEPTH;
+    private long undoHistoryMaxApplications = DEFAULT_UNDO_HISTORY_MAX_APPLICATIONS;
+    private boolean dataFileCompressed = false;
+    private int dataFileCompressionLevel = Compression.DEFAULT_LEVEL;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -36,6 +48,10 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setInternshipFilePath(newUserPrefs.getInternshipFilePath());
+        setUndoHistoryDepth(newUserPrefs.getUndoHistoryDepth());
+        setUndoHistoryMaxApplications(newUserPrefs.getUndoHistoryMaxApplications());
+        setDataFileCompressed(newUserPrefs.isDataFileCompressed());
+        setDataFileCompressionLevel(newUserPrefs.getDataFileCompressionLevel());
     }
 
     public GuiSettings getGuiSettings() {
@@ -56,6 +72,66 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.internshipFilePath = internshipFilePath;
     }
 
+    /**
+     * Returns the maximum number of commands that can be undone, or {@link #DEFAULT_UNDO_HISTORY_DEPTH} if the
+     * number in the preferences file is negative.
+     */
+    public int getUndoHistoryDepth() {
+        if (undoHistoryDepth < 0) {
+            logger.warning("Invalid undo history depth " + undoHistoryDepth + ". Using "
+                    + DEFAULT_UNDO_HISTORY_DEPTH + " instead");
+            return DEFAULT_UNDO_HISTORY_DEPTH;
+        }
+        return undoHistoryDepth;
+    }
+
+    public void setUndoHistoryDepth(int undoHistoryDepth) {
+        this.undoHistoryDepth = undoHistoryDepth;
+    }
+
+    /**
+     * Returns the maximum number of applications the undo history may reference, or
+     * {@link #DEFAULT_UNDO_HISTORY_MAX_APPLICATIONS} if the number in the preferences file is negative.
+     */
+    public long getUndoHistoryMaxApplications() {
+        if (undoHistoryMaxApplications < 0) {
+            logger.warning("Invalid undo history limit of " + undoHistoryMaxApplications + " applications. Using "
+                    + DEFAULT_UNDO_HISTORY_MAX_APPLICATIONS + " instead");
+            return DEFAULT_UNDO_HISTORY_MAX_APPLICATIONS;
+        }
+        return undoHistoryMaxApplications;
+    }
+
+    public void setUndoHistoryMaxApplications(long undoHistoryMaxApplications) {
+        this.undoHistoryMaxApplications = undoHistoryMaxApplications;
+    }
+
+    public boolean isDataFileCompressed() {
+        return dataFileCompressed;
+    }
+
+    public void setDataFileCompressed(boolean dataFileCompressed) {
+        this.dataFileCompressed = dataFileCompressed;
+    }
+
+    /**
+     * Returns the compression level of the data file, or {@link Compression#DEFAULT_LEVEL} if the level in the
+     * preferences file is not valid. The preferences file is read into the fields directly, so the level is
+     * validated here rather than in {@link #setDataFileCompressionLevel(int)}.
+     */
+    public int getDataFileCompressionLevel() {
+        if (!Compression.isValidLevel(dataFileCompressionLevel)) {
+            logger.warning("Invalid data file compression level " + dataFileCompressionLevel + ". "
+                    + Compression.MESSAGE_CONSTRAINTS + ". Using level " + Compression.DEFAULT_LEVEL + " instead");
+            return Compression.DEFAULT_LEVEL;
+        }
+        return dataFileCompressionLevel;
+    }
+
+    public void setDataFileCompressionLevel(int dataFileCompressionLevel) {
+        this.dataFileCompressionLevel = dataFileCompressionLevel;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -68,12 +144,17 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         UserPrefs o = (UserPrefs) other;
 
         return guiSettings.equals(o.guiSettings)
-                && internshipFilePath.equals(o.internshipFilePath);
+                && internshipFilePath.equals(o.internshipFilePath)
+                && undoHistoryDepth == o.undoHistoryDepth
+                && undoHistoryMaxApplications == o.undoHistoryMaxApplications
+                && dataFileCompressed == o.dataFileCompressed
+                && dataFileCompressionLevel == o.dataFileCompressionLevel;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, internshipFilePath);
+        return Objects.hash(guiSettings, internshipFilePath, undoHistoryDepth, undoHistoryMaxApplications,
+                dataFileCompressed, dataFileCompressionLevel);
     }
 
     @Override
@@ -81,6 +162,9 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + internshipFilePath);
+        sb.append("\nUndo history : " + undoHistoryDepth + " commands, " + undoHistoryMaxApplications
+                + " applications");
+        sb.append("\nData file compression : " + (dataFileCompressed ? "level " + dataFileCompressionLevel : "off"));
         return sb.toString();
     }
 
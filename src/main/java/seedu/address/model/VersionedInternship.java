@@ -0,0 +1,156 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.application.ApplicationListChange;
+
+/**
+ * An {@code Internship} that remembers its past states so that modifications can be undone and redone.
+ * Instead of copying the whole Internship, every modification is recorded as the {@code ApplicationListChange}
+ * that describes it, and all changes made between two calls of {@link #commit()} form one revision.
+ * Undoing or redoing a revision therefore costs O(size of change) rather than O(number of applications).
+ * The history is bounded by a maximum number of revisions and by the total number of applications its changes
+ * may reference; the oldest revisions are forgotten first when either limit is exceeded. The most recent revision
+ * is kept even if it alone references more applications than allowed, so that the last command can always be
+ * undone unless no revisions are allowed at all.
+ */
+public class VersionedInternship extends Internship {
+
+    private static final Logger logger = LogsCenter.getLogger(VersionedInternship.class);
+
+    /** Revisions that can be undone, most recent first. */
+    private final Deque<Revision> undoStack = new ArrayDeque<>();
+    /** Revisions that can be redone, most recently undone first. */
+    private final Deque<Revision> redoStack = new ArrayDeque<>();
+    private final List<ApplicationListChange> pendingChanges = new ArrayList<>();
+
+    private final int maxRevisions;
+    private final long maxRetainedApplications;
+    private long retainedApplications;
+
+    /**
+     * Creates a {@code VersionedInternship} holding the applications in {@code initialState}, with an empty history.
+     *
+     * @param maxRevisions maximum number of revisions that can be undone.
+     * @param maxRetainedApplications maximum number of applications the history may reference.
+     */
+    public VersionedInternship(ReadOnlyInternship initialState, int maxRevisions, long maxRetainedApplications) {
+        requireNonNull(initialState);
+        if (maxRevisions < 0 || maxRetainedApplications < 0) {
+            throw new IllegalArgumentException("History limits must not be negative");
+        }
+        this.maxRevisions = maxRevisions;
+        this.maxRetainedApplications = maxRetainedApplications;
+        resetData(initialState);
+        pendingChanges.clear();
+    }
+
+    @Override
+    protected void recordChange(ApplicationListChange change) {
+        pendingChanges.add(change);
+    }
+
+    /**
+     * Saves the changes made since the last commit as one revision, which becomes the next one to be undone.
+     * Does nothing if there are no such changes. Otherwise, the revisions that could be redone are discarded.
+     */
+    public void commit() {
+        if (pendingChanges.isEmpty()) {
+            return;
+        }
+        Revision revision = new Revision(new ArrayList<>(pendingChanges));
+        pendingChanges.clear();
+
+        redoStack.forEach(this::forget);
+        redoStack.clear();
+        undoStack.push(revision);
+        retainedApplications += revision.weight;
+
+        while (undoStack.size() > maxRevisions
+                || (undoStack.size() > 1 && retainedApplications > maxRetainedApplications)) {
+            forget(undoStack.removeLast());
+        }
+        if (retainedApplications > maxRetainedApplications) {
+            logger.info(() -> "Keeping change of " + revision.weight + " applications in the undo history "
+                    + "although it exceeds the limit of " + maxRetainedApplications);
+        }
+    }
+
+    /**
+     * Returns true if there is a revision to undo.
+     */
+    public boolean canUndo() {
+        return !undoStack.isEmpty() || !pendingChanges.isEmpty();
+    }
+
+    /**
+     * Returns true if there is a revision to redo.
+     */
+    public boolean canRedo() {
+        return !redoStack.isEmpty() && pendingChanges.isEmpty();
+    }
+
+    /**
+     * Restores the state before the most recent revision, committing any uncommitted changes first.
+     * @throws IllegalStateException if there is nothing to undo.
+     */
+    public void undo() {
+        commit();
+        if (undoStack.isEmpty()) {
+            throw new IllegalStateException("No revision to undo");
+        }
+        Revision revision = undoStack.pop();
+        for (int i = revision.changes.size() - 1; i >= 0; i--) {
+            applyChange(revision.changes.get(i).inverse());
+        }
+        redoStack.push(revision);
+    }
+
+    /**
+     * Reapplies the most recently undone revision.
+     * @throws IllegalStateException if there is nothing to redo.
+     */
+    public void redo() {
+        if (!canRedo()) {
+            throw new IllegalStateException("No revision to redo");
+        }
+        Revision revision = redoStack.pop();
+        revision.changes.forEach(this::applyChange);
+        undoStack.push(revision);
+    }
+
+    /**
+     * Forgets all revisions and uncommitted changes, so that the current state cannot be undone, e.g. after
+     * loading it from storage.
+     */
+    public void clearHistory() {
+        pendingChanges.clear();
+        undoStack.clear();
+        redoStack.clear();
+        retainedApplications = 0;
+    }
+
+    private void forget(Revision revision) {
+        retainedApplications -= revision.weight;
+    }
+
+    /**
+     * The changes made by one command, in the order they were made.
+     */
+    private static class Revision {
+        private final List<ApplicationListChange> changes;
+        private final long weight;
+
+        Revision(List<ApplicationListChange> changes) {
+            this.changes = changes;
+            this.weight = changes.stream().mapToLong(ApplicationListChange::getWeight).sum();
+        }
+    }
+}
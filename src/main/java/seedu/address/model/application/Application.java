@@ -4,6 +4,7 @@ import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 
@@ -94,8 +95,15 @@ public class Application {
         }
 
         return otherApplication != null
-                && otherApplication.getCompany().equals(getCompany())
-                && otherApplication.getPosition().equals(getPosition());
+                && otherApplication.getIdentity().equals(getIdentity());
+    }
+
+    /**
+     * Returns a key that is equal for two applications if and only if they are the same application as defined by
+     * {@link #isSameApplication(Application)}, to find duplicates with a hash set.
+     */
+    public Object getIdentity() {
+        return List.of(company, position);
     }
 
     /**
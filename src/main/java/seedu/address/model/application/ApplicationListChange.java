@@ -0,0 +1,78 @@
+package seedu.address.model.application;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+/**
+ * An immutable record of one change to a {@code UniqueApplicationList}: the applications in {@code removed}
+ * starting at position {@code from} were replaced by the applications in {@code added}.
+ * A change holds only the applications it touched, so keeping it costs O(size of change), and it can be
+ * reverted by applying its {@link #inverse()}.
+ */
+public final class ApplicationListChange {
+
+    private final int from;
+    private final List<Application> removed;
+    private final List<Application> added;
+
+    /**
+     * Creates a change replacing {@code removed} at position {@code from} with {@code added}.
+     * Both lists must be immutable.
+     */
+    public ApplicationListChange(int from, List<Application> removed, List<Application> added) {
+        requireNonNull(removed);
+        requireNonNull(added);
+        if (from < 0) {
+            throw new IllegalArgumentException("Position must not be negative: " + from);
+        }
+        this.from = from;
+        this.removed = removed;
+        this.added = added;
+    }
+
+    public int getFrom() {
+        return from;
+    }
+
+    public List<Application> getRemoved() {
+        return removed;
+    }
+
+    public List<Application> getAdded() {
+        return added;
+    }
+
+    /**
+     * Returns the change that reverts this one.
+     */
+    public ApplicationListChange inverse() {
+        return new ApplicationListChange(from, added, removed);
+    }
+
+    /**
+     * Returns the number of applications referenced by this change, as an estimate of the memory it retains.
+     */
+    public int getWeight() {
+        return removed.size() + added.size();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ApplicationListChange // instanceof handles nulls
+                && from == ((ApplicationListChange) other).from
+                && removed.equals(((ApplicationListChange) other).removed)
+                && added.equals(((ApplicationListChange) other).added));
+    }
+
+    @Override
+    public int hashCode() {
+        return (31 * from + removed.hashCode()) * 31 + added.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "at " + from + ": -" + removed.size() + " +" + added.size();
+    }
+}
@@ -3,11 +3,13 @@ package seedu.address.model.application;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.Locale;
+
 /**
  * Represents an Application's name in InternSHIP.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}
  */
-public class Company {
+public class Company implements Comparable<Company> {
 
     public static final String MESSAGE_CONSTRAINTS =
             "Company name should only contain alphanumeric characters and spaces, and it should not be blank";
@@ -20,6 +22,9 @@ public class Company {
 
     public final String fullCompanyName;
 
+    /** Case-insensitive sort key, computed once so that comparisons do not convert the name again. */
+    private final String sortKey;
+
     /**
      * Constructs a {@code Company}.
      *
@@ -29,6 +34,7 @@ public class Company {
         requireNonNull(company);
         checkArgument(isValidCompanyName(company), MESSAGE_CONSTRAINTS);
         fullCompanyName = company;
+        sortKey = company.toLowerCase(Locale.ROOT);
     }
 
     /**
@@ -39,6 +45,15 @@ public class Company {
     }
 
 
+    /**
+     * Orders company names alphabetically, ignoring case.
+     */
+    @Override
+    public int compareTo(Company other) {
+        int result = sortKey.compareTo(other.sortKey);
+        return result != 0 ? result : fullCompanyName.compareTo(other.fullCompanyName);
+    }
+
     @Override
     public String toString() {
         return fullCompanyName;
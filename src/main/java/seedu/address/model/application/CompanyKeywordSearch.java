@@ -0,0 +1,105 @@
+package seedu.address.model.application;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.model.InternshipSnapshot;
+
+/**
+ * Finds applications whose company name contains any of the given keywords as a whole word, ignoring case, like
+ * the {@code find} command does with {@link NameContainsKeywordsPredicate}.
+ * Meant for searching as the user types: the words of all company names are kept in an index, which is rebuilt
+ * only when the applications change, so a search costs O(number of matches) rather than O(number of
+ * applications). When a query only drops keywords of the previous one, e.g. "google" after "google grab" as the
+ * user deletes the last word, the previous results are filtered instead of searching the index again. Typing a
+ * word does not narrow the results, as keywords only match whole words, so every other query searches the index.
+ * Not thread-safe.
+ */
+public class CompanyKeywordSearch {
+
+    private static final String WORD_SEPARATOR = "\\s+";
+
+    /** Lower-case words of company names, mapped to the applications whose company name contains them. */
+    private final Map<String, List<Application>> index = new HashMap<>();
+    /** The applications in {@link #index}, replaced rather than cleared so earlier predicates stay valid. */
+    private Set<Application> indexedApplications = Set.of();
+    private long indexedVersion = -1;
+
+    private NameContainsKeywordsPredicate lastPredicate;
+    private Set<Application> lastResult;
+    private boolean isLastSearchRefined;
+
+    /**
+     * Returns a predicate that is true for the applications whose company name contains any of {@code keywords} as
+     * a whole word, or for every application if {@code keywords} is empty.
+     * The index of {@code snapshot} only speeds up testing its applications; applications added or edited after
+     * it are tested against their company names.
+     */
+    public Predicate<Application> search(InternshipSnapshot snapshot, List<String> keywords) {
+        requireNonNull(snapshot);
+        requireNonNull(keywords);
+        if (keywords.isEmpty()) {
+            lastPredicate = null;
+            lastResult = null;
+            isLastSearchRefined = false;
+            return unused -> true;
+        }
+
+        NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(keywords);
+        boolean isRefinement = lastResult != null && indexedVersion == snapshot.getVersion()
+                && predicate.refines(lastPredicate);
+        Set<Application> result = Collections.newSetFromMap(new IdentityHashMap<>());
+        if (isRefinement) {
+            for (Application application : lastResult) {
+                if (predicate.test(application)) {
+                    result.add(application);
+                }
+            }
+        } else {
+            updateIndex(snapshot);
+            for (String keyword : keywords) {
+                result.addAll(index.getOrDefault(keyword.toLowerCase(Locale.ROOT), List.of()));
+            }
+        }
+
+        lastPredicate = predicate;
+        lastResult = result;
+        isLastSearchRefined = isRefinement;
+        Set<Application> indexed = indexedApplications;
+        return application -> indexed.contains(application)
+                ? result.contains(application)
+                : predicate.test(application);
+    }
+
+    /**
+     * Returns true if the last search filtered the results of the one before it instead of searching the index.
+     */
+    boolean isLastSearchRefined() {
+        return isLastSearchRefined;
+    }
+
+    private void updateIndex(InternshipSnapshot snapshot) {
+        if (indexedVersion == snapshot.getVersion()) {
+            return;
+        }
+        index.clear();
+        Set<Application> applications = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Application application : snapshot.getApplications()) {
+            applications.add(application);
+            for (String word : application.getCompany().fullCompanyName.split(WORD_SEPARATOR)) {
+                index.computeIfAbsent(word.toLowerCase(Locale.ROOT), unused -> new ArrayList<>()).add(application);
+            }
+        }
+        indexedApplications = applications;
+        indexedVersion = snapshot.getVersion();
+    }
+}
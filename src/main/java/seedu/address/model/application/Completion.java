@@ -3,17 +3,24 @@ package seedu.address.model.application;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.List;
+
 /**
  * Represents an Application's completion status in InternSHIP.
  * ADD THE GUARANTEE LATER
  */
-public class Completion {
+public class Completion implements Comparable<Completion> {
 
     public static final String MESSAGE_CONSTRAINTS = "Completion can be 'Completed' or 'Uncompleted'."
             + "It will be 'Uncompleted' by default for a new Application that is added.";
 
+    private static final List<String> SORT_ORDER = List.of("Uncompleted", "Completed");
+
     public final String value;
 
+    /** Position of the value in the sort order, computed once so that comparisons are cheap. */
+    private final int sortKey;
+
     /**
      * Constructs a {@code Completion}.
      *
@@ -22,6 +29,7 @@ public class Completion {
         requireNonNull(status);
         checkArgument(isValidCompletion(status), MESSAGE_CONSTRAINTS);
         value = status;
+        sortKey = SORT_ORDER.indexOf(status);
     }
 
     /**
@@ -31,6 +39,14 @@ public class Completion {
         return test.equals("Completed") || test.equals("Uncompleted");
     }
 
+    /**
+     * Orders uncompleted applications before completed ones.
+     */
+    @Override
+    public int compareTo(Completion other) {
+        return Integer.compare(sortKey, other.sortKey);
+    }
+
     @Override
     public String toString() {
         return value;
@@ -7,7 +7,7 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
  * Represents an Application's deadline in InternSHIP.
  * Guarantees: immutable; is valid as declared in {@link #isValidDeadline(String)}
  */
-public class Deadline {
+public class Deadline implements Comparable<Deadline> {
 
 
     public static final String MESSAGE_CONSTRAINTS =
@@ -15,6 +15,9 @@ public class Deadline {
     public static final String VALIDATION_REGEX = "^\\d{4}\\-(0[1-9]|1[012])\\-(0[1-9]|[12][0-9]|3[01])$";
     public final String value;
 
+    /** The deadline as the number YYYYMMDD, so that deadlines are compared without parsing them again. */
+    private final int sortKey;
+
     /**
      * Constructs a {@code Deadline}.
      *
@@ -24,6 +27,7 @@ public class Deadline {
         requireNonNull(deadline);
         checkArgument(isValidDeadline(deadline), MESSAGE_CONSTRAINTS);
         value = deadline;
+        sortKey = Integer.parseInt(deadline.replace("-", ""));
     }
 
     /**
@@ -33,6 +37,14 @@ public class Deadline {
         return test.matches(VALIDATION_REGEX);
     }
 
+    /**
+     * Orders deadlines chronologically.
+     */
+    @Override
+    public int compareTo(Deadline other) {
+        return Integer.compare(sortKey, other.sortKey);
+    }
+
     @Override
     public String toString() {
         return value;
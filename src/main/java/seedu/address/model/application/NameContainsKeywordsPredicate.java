@@ -1,14 +1,17 @@
 package seedu.address.model.application;
 
 import java.util.List;
+import java.util.Locale;
+import java.util.Set;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import seedu.address.commons.util.StringUtil;
 
 /**
  * Tests that a {@code Application}'s {@code Name} matches any of the keywords given.
  */
-public class NameContainsKeywordsPredicate implements Predicate<Application> {
+public class NameContainsKeywordsPredicate implements RefinablePredicate<Application> {
     private final List<String> keywords;
 
     public NameContainsKeywordsPredicate(List<String> keywords) {
@@ -22,6 +25,22 @@ public class NameContainsKeywordsPredicate implements Predicate<Application> {
                         application.getCompany().fullCompanyName, keyword));
     }
 
+    /**
+     * Returns true if {@code other} is a {@code NameContainsKeywordsPredicate} with all of this predicate's
+     * keywords, as matching fewer keywords can only match fewer applications.
+     */
+    @Override
+    public boolean refines(Predicate<?> other) {
+        if (!(other instanceof NameContainsKeywordsPredicate)) {
+            return false;
+        }
+        return toLowerCase(((NameContainsKeywordsPredicate) other).keywords).containsAll(toLowerCase(keywords));
+    }
+
+    private static Set<String> toLowerCase(List<String> keywords) {
+        return keywords.stream().map(keyword -> keyword.toLowerCase(Locale.ROOT)).collect(Collectors.toSet());
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
@@ -29,4 +48,9 @@ public class NameContainsKeywordsPredicate implements Predicate<Application> {
                 && keywords.equals(((NameContainsKeywordsPredicate) other).keywords)); // state check
     }
 
+    @Override
+    public int hashCode() {
+        return keywords.hashCode();
+    }
+
 }
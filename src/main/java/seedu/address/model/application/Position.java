@@ -3,11 +3,13 @@ package seedu.address.model.application;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.Locale;
+
 /**
  * Represents an Application's position in InternSHIP.
  * Guarantees: immutable; is valid as declared in {@link #isValidPosition(String)}
  */
-public class Position {
+public class Position implements Comparable<Position> {
 
     public static final String MESSAGE_CONSTRAINTS = "Positions can take any values, and it should not be blank";
 
@@ -19,6 +21,9 @@ public class Position {
 
     public final String value;
 
+    /** Case-insensitive sort key, computed once so that comparisons do not convert the position again. */
+    private final String sortKey;
+
     /**
      * Constructs a {@code Position}.
      *
@@ -28,6 +33,7 @@ public class Position {
         requireNonNull(position);
         checkArgument(isValidPosition(position), MESSAGE_CONSTRAINTS);
         value = position;
+        sortKey = position.toLowerCase(Locale.ROOT);
     }
 
     /**
@@ -37,6 +43,15 @@ public class Position {
         return test.matches(VALIDATION_REGEX);
     }
 
+    /**
+     * Orders positions alphabetically, ignoring case.
+     */
+    @Override
+    public int compareTo(Position other) {
+        int result = sortKey.compareTo(other.sortKey);
+        return result != 0 ? result : value.compareTo(other.value);
+    }
+
     @Override
     public String toString() {
         return value;
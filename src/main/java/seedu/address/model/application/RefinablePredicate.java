@@ -0,0 +1,16 @@
+package seedu.address.model.application;
+
+import java.util.function.Predicate;
+
+/**
+ * A {@code Predicate} that can tell when it only accepts values that another predicate also accepts.
+ * Its matches can then be found among the matches of that predicate instead of among all values.
+ */
+public interface RefinablePredicate<T> extends Predicate<T> {
+
+    /**
+     * Returns true if every value accepted by this predicate is also accepted by {@code other}.
+     * May return false when this cannot be determined cheaply.
+     */
+    boolean refines(Predicate<?> other);
+}
@@ -3,7 +3,9 @@ package seedu.address.model.application;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
-public class Status {
+import java.util.List;
+
+public class Status implements Comparable<Status> {
     public static final String MESSAGE_CONSTRAINTS = "Status can be 'Pending', 'Accepted' or 'Rejected'."
             + "It will be 'Pending' by default for a new Application that is added.";
 
@@ -16,8 +18,13 @@ public class Status {
      */
     public static final String VALIDATION_REGEX = "[^\\s].*";
 
+    private static final List<String> SORT_ORDER = List.of("Pending", "Accepted", "Rejected");
+
     public final String value;
 
+    /** Position of the value in the sort order, computed once so that comparisons are cheap. */
+    private final int sortKey;
+
     /**
      * Constructs a {@code Position}.
      *
@@ -27,6 +34,7 @@ public class Status {
         requireNonNull(status);
         checkArgument(isValidStatus(status), MESSAGE_CONSTRAINTS);
         value = status;
+        sortKey = SORT_ORDER.indexOf(status);
     }
 
     /**
@@ -36,6 +44,14 @@ public class Status {
         return test.equals("Pending") || test.equals("Accepted") || test.equals("Rejected");
     }
 
+    /**
+     * Orders statuses as Pending, Accepted, Rejected.
+     */
+    @Override
+    public int compareTo(Status other) {
+        return Integer.compare(sortKey, other.sortKey);
+    }
+
     @Override
     public String toString() {
         return value;
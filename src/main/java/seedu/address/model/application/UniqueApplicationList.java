@@ -3,11 +3,14 @@ package seedu.address.model.application;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.commons.util.PersistentVector;
 import seedu.address.model.application.exceptions.ApplicationNotFoundException;
 import seedu.address.model.application.exceptions.DuplicateApplicationException;
 
@@ -20,33 +23,82 @@ import seedu.address.model.application.exceptions.DuplicateApplicationException;
  * as to ensure that the application with exactly the same fields will be removed.
  *
  * Supports a minimal set of list operations.
+ * The applications are held in a {@code PersistentVector}, so the current contents can be handed out in O(1)
+ * through {@link #asPersistentVector()}. An {@code ObservableList} copy is kept in step for observers.
+ * Every modification returns an {@code ApplicationListChange} describing it, which can later be reverted with
+ * {@link #applyChange(ApplicationListChange)}.
+ * Between {@link #beginBatch()} and {@link #endBatch()}, only the {@code PersistentVector} is modified and the
+ * {@code ObservableList} is brought up to date at the end in a single change, so that observers such as the UI
+ * react once to a bulk modification rather than once per application.
+ * Not thread-safe; concurrent access is coordinated by {@code ModelManager}.
  *
  * @see Application#isSameApplication(Application)
  */
 public class UniqueApplicationList implements Iterable<Application> {
 
+    private PersistentVector<Application> applications = PersistentVector.empty();
     private final ObservableList<Application> internalList = FXCollections.observableArrayList();
     private final ObservableList<Application> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private int batchDepth;
 
     /**
      * Returns true if the list contains an equivalent application as the given argument.
      */
     public boolean contains(Application toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameApplication);
+        for (Application application : applications) {
+            if (toCheck.isSameApplication(application)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     /**
      * Adds a application to the list.
      * The application must not already exist in the list.
      */
-    public void add(Application toAdd) {
+    public ApplicationListChange add(Application toAdd) {
         requireNonNull(toAdd);
         if (contains(toAdd)) {
             throw new DuplicateApplicationException();
         }
-        internalList.add(toAdd);
+        ApplicationListChange change = new ApplicationListChange(applications.size(), List.of(), List.of(toAdd));
+        applications = applications.append(toAdd);
+        if (!isBatching()) {
+            internalList.add(toAdd);
+        }
+        return change;
+    }
+
+    /**
+     * Adds {@code toAdd} to the end of the list as one change.
+     * None of them may already exist in the list, and {@code toAdd} must not contain duplicate applications.
+     * Runs in O(n + k log n) time for k applications added to a list of n applications.
+     */
+    public ApplicationListChange addAll(List<Application> toAdd) {
+        requireAllNonNull(toAdd);
+        Set<Object> identities = new HashSet<>();
+        for (Application application : applications) {
+            identities.add(application.getIdentity());
+        }
+        for (Application application : toAdd) {
+            if (!identities.add(application.getIdentity())) {
+                throw new DuplicateApplicationException();
+            }
+        }
+
+        ApplicationListChange change = new ApplicationListChange(applications.size(), List.of(), List.copyOf(toAdd));
+        PersistentVector<Application> updated = applications;
+        for (Application application : toAdd) {
+            updated = updated.append(application);
+        }
+        applications = updated;
+        if (!isBatching()) {
+            internalList.addAll(toAdd);
+        }
+        return change;
     }
 
     /**
@@ -55,10 +107,10 @@ public class UniqueApplicationList implements Iterable<Application> {
      * The application identity of {@code editedApplication} must not be the same as
      * another existing application in the list.
      */
-    public void setApplication(Application target, Application editedApplication) {
+    public ApplicationListChange setApplication(Application target, Application editedApplication) {
         requireAllNonNull(target, editedApplication);
 
-        int index = internalList.indexOf(target);
+        int index = applications.indexOf(target);
         if (index == -1) {
             throw new ApplicationNotFoundException();
         }
@@ -67,36 +119,125 @@ public class UniqueApplicationList implements Iterable<Application> {
             throw new DuplicateApplicationException();
         }
 
-        internalList.set(index, editedApplication);
+        ApplicationListChange change =
+                new ApplicationListChange(index, List.of(applications.get(index)), List.of(editedApplication));
+        applications = applications.set(index, editedApplication);
+        if (!isBatching()) {
+            internalList.set(index, editedApplication);
+        }
+        return change;
     }
 
     /**
      * Removes the equivalent application from the list.
      * The application must exist in the list.
      */
-    public void remove(Application toRemove) {
+    public ApplicationListChange remove(Application toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = applications.indexOf(toRemove);
+        if (index == -1) {
             throw new ApplicationNotFoundException();
         }
+        ApplicationListChange change = new ApplicationListChange(index, List.of(applications.get(index)), List.of());
+        applications = applications.remove(index);
+        if (!isBatching()) {
+            internalList.remove(index);
+        }
+        return change;
     }
 
-    public void setApplications(UniqueApplicationList replacement) {
+    /**
+     * Replaces the contents of this list with the contents of {@code replacement}.
+     */
+    public ApplicationListChange setApplications(UniqueApplicationList replacement) {
         requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
+        return replaceAll(replacement.applications);
     }
 
     /**
      * Replaces the contents of this list with {@code applications}.
      * {@code applications} must not contain duplicate applications.
      */
-    public void setApplications(List<Application> applications) {
+    public ApplicationListChange setApplications(List<Application> applications) {
         requireAllNonNull(applications);
         if (!applicationsAreUnique(applications)) {
             throw new DuplicateApplicationException();
         }
 
-        internalList.setAll(applications);
+        return replaceAll(PersistentVector.of(applications));
+    }
+
+    /**
+     * Applies {@code change}, which must have been returned by a modification of this list, or be the inverse
+     * of one, with the list in the state that modification left it in (or found it in, respectively).
+     * Runs in O(k log n) time for a change touching k of n applications.
+     */
+    public void applyChange(ApplicationListChange change) {
+        requireNonNull(change);
+        int from = change.getFrom();
+        List<Application> removed = change.getRemoved();
+        List<Application> added = change.getAdded();
+        assert from + removed.size() <= applications.size();
+        assert removed.equals(applications.asList().subList(from, from + removed.size()));
+
+        if (from == 0 && removed.size() == applications.size()) {
+            replaceAll(PersistentVector.of(added));
+            return;
+        }
+
+        PersistentVector<Application> updated = applications;
+        int common = Math.min(removed.size(), added.size());
+        for (int i = 0; i < common; i++) {
+            updated = updated.set(from + i, added.get(i));
+        }
+        for (int i = common; i < removed.size(); i++) {
+            updated = updated.remove(from + common);
+        }
+        for (int i = common; i < added.size(); i++) {
+            updated = updated.insert(from + i, added.get(i));
+        }
+        applications = updated;
+
+        if (isBatching()) {
+            return;
+        }
+        if (removed.size() == 1 && added.size() == 1) {
+            internalList.set(from, added.get(0));
+            return;
+        }
+        if (!removed.isEmpty()) {
+            internalList.remove(from, from + removed.size());
+        }
+        if (!added.isEmpty()) {
+            internalList.addAll(from, added);
+        }
+    }
+
+    /**
+     * Starts a batch of modifications, during which the {@code ObservableList} is not updated.
+     * Batches may be nested; the list is updated when the outermost batch ends.
+     */
+    public void beginBatch() {
+        batchDepth++;
+    }
+
+    /**
+     * Ends the batch started by the matching call of {@link #beginBatch()}. If it is the outermost batch,
+     * updates the {@code ObservableList} with all modifications made during the batch as one change.
+     * @throws IllegalStateException if no batch has been started.
+     */
+    public void endBatch() {
+        if (batchDepth == 0) {
+            throw new IllegalStateException("No batch to end");
+        }
+        batchDepth--;
+        if (batchDepth == 0 && !applications.asList().equals(internalList)) {
+            internalList.setAll(applications.asList());
+        }
+    }
+
+    public boolean isBatching() {
+        return batchDepth > 0;
     }
 
     /**
@@ -106,9 +247,26 @@ public class UniqueApplicationList implements Iterable<Application> {
         return internalUnmodifiableList;
     }
 
+    /**
+     * Returns the current contents as an immutable {@code PersistentVector}, in O(1) time.
+     * Later changes to this list do not affect the returned vector.
+     */
+    public PersistentVector<Application> asPersistentVector() {
+        return applications;
+    }
+
+    private ApplicationListChange replaceAll(PersistentVector<Application> replacement) {
+        ApplicationListChange change = new ApplicationListChange(0, applications.asList(), replacement.asList());
+        applications = replacement;
+        if (!isBatching()) {
+            internalList.setAll(replacement.asList());
+        }
+        return change;
+    }
+
     @Override
     public Iterator<Application> iterator() {
-        return internalList.iterator();
+        return applications.iterator();
     }
 
     @Override
@@ -122,23 +280,22 @@ public class UniqueApplicationList implements Iterable<Application> {
         }
 
         UniqueApplicationList uniqueApplicationList = (UniqueApplicationList) other;
-        return internalList.toString().equals(uniqueApplicationList.internalList.toString());
+        return applications.toString().equals(uniqueApplicationList.applications.toString());
     }
 
     @Override
     public int hashCode() {
-        return internalList.hashCode();
+        return applications.hashCode();
     }
 
     /**
      * Returns true if {@code applications} contains only unique applications.
      */
     private boolean applicationsAreUnique(List<Application> applications) {
-        for (int i = 0; i < applications.size() - 1; i++) {
-            for (int j = i + 1; j < applications.size(); j++) {
-                if (applications.get(i).isSameApplication(applications.get(j))) {
-                    return false;
-                }
+        Set<Object> identities = new HashSet<>();
+        for (Application application : applications) {
+            if (!identities.add(application.getIdentity())) {
+                return false;
             }
         }
         return true;
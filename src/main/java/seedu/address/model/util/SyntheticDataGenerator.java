@@ -0,0 +1,185 @@
+package seedu.address.model.util;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+import seedu.address.model.application.Application;
+import seedu.address.model.application.Company;
+import seedu.address.model.application.Completion;
+import seedu.address.model.application.Deadline;
+import seedu.address.model.application.Position;
+import seedu.address.model.application.Status;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Generates realistic applications in any number for load and stress tests.
+ * Like real data, a few companies and tags account for most applications, deadlines cluster around the spring
+ * and autumn hiring seasons, and most applications are pending.
+ * Every application is derived only from the seed and its index, so the same seed always gives the same
+ * applications, they can be generated one at a time without keeping the earlier ones, and no two of them
+ * are the same application, as each position ends with a requisition number unique to it.
+ */
+public class SyntheticDataGenerator {
+
+    /** Companies, from the most to the least applied to. */
+    static final String[] COMPANIES = {
+        "Google", "Shopee", "Grab", "Amazon", "Meta", "Bytedance", "Microsoft", "Apple", "Sea", "Gojek",
+        "Stripe", "Lazada", "DBS", "Netflix", "Tiktok", "Huawei", "Deutsche Bank", "Goldman Sachs", "JP Morgan",
+        "Jane Street", "Citadel", "Palantir", "Spotify", "Airbnb", "Uber", "Oracle", "IBM", "Salesforce",
+        "Twitter", "Carousell", "Ninja Van", "Razer", "Visa", "Mastercard", "Agoda", "Traveloka", "Tokopedia",
+        "Indeed", "Dyson", "GovTech"
+    };
+    private static final String[] ROLES = {
+        "Software Engineer", "Backend Engineer", "Frontend Developer", "Full Stack Developer", "Data Scientist",
+        "Data Analyst", "Machine Learning Engineer", "Product Manager", "UI Designer", "DevOps Engineer",
+        "Site Reliability Engineer", "Security Engineer", "Quantitative Analyst", "Mobile Developer"
+    };
+    /** Tags, from the most to the least used. */
+    private static final String[] TAGS = {
+        "paid", "remote", "summer", "referral", "winter", "overseas", "startup", "fulltime", "returnOffer",
+        "parttime"
+    };
+    /** Probabilities of an application having 0, 1, 2 and 3 tags. */
+    private static final double[] TAG_COUNT_WEIGHTS = {0.40, 0.35, 0.20, 0.05};
+    private static final double COMPANY_SKEW = 1.1;
+    private static final double TAG_SKEW = 1.0;
+
+    private static final LocalDate FIRST_DEADLINE = LocalDate.of(2022, 1, 1);
+    private static final int DEADLINE_SPREAD_DAYS = 365;
+    private static final int[] HIRING_SEASON_PEAKS = {75, 258}; // mid-March and mid-September
+    private static final double HIRING_SEASON_DAYS = 20;
+    private static final double IN_HIRING_SEASON_PROBABILITY = 0.7;
+
+    private static final double PENDING_PROBABILITY = 0.6;
+    private static final double REJECTED_PROBABILITY = 0.3;
+    private static final double PENDING_COMPLETED_PROBABILITY = 0.2;
+
+    /** Spreads the seeds of consecutive indexes apart. */
+    private static final long INDEX_MULTIPLIER = 0x9E3779B97F4A7C15L;
+
+    private static final double[] COMPANY_CUMULATIVE_WEIGHTS = zipfCumulativeWeights(COMPANIES.length, COMPANY_SKEW);
+    private static final double[] TAG_CUMULATIVE_WEIGHTS = zipfCumulativeWeights(TAGS.length, TAG_SKEW);
+    private static final double[] TAG_COUNT_CUMULATIVE_WEIGHTS = cumulative(TAG_COUNT_WEIGHTS);
+
+    private final long seed;
+
+    public SyntheticDataGenerator(long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * Returns the {@code index}th application generated from the seed.
+     */
+    public Application generateApplication(long index) {
+        if (index < 0) {
+            throw new IllegalArgumentException("Index must not be negative: " + index);
+        }
+        SplittableRandom random = new SplittableRandom(seed + index * INDEX_MULTIPLIER);
+        String company = COMPANIES[pick(random, COMPANY_CUMULATIVE_WEIGHTS)];
+        String position = ROLES[random.nextInt(ROLES.length)] + " R" + (index + 1);
+
+        double statusDraw = random.nextDouble();
+        String status = statusDraw < PENDING_PROBABILITY ? "Pending"
+                : statusDraw < PENDING_PROBABILITY + REJECTED_PROBABILITY ? "Rejected"
+                : "Accepted";
+        boolean isCompleted = !status.equals("Pending") || random.nextDouble() < PENDING_COMPLETED_PROBABILITY;
+
+        return new Application(new Company(company), new Position(position), generateDeadline(random),
+                new Completion(isCompleted ? "Completed" : "Uncompleted"), new Status(status),
+                generateTags(random));
+    }
+
+    /**
+     * Returns an iterator over the first {@code count} applications generated from the seed, which generates
+     * each of them only when it is requested.
+     */
+    public Iterator<Application> generate(int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Count must not be negative: " + count);
+        }
+        return new Iterator<>() {
+            private int next = 0;
+
+            @Override
+            public boolean hasNext() {
+                return next < count;
+            }
+
+            @Override
+            public Application next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return generateApplication(next++);
+            }
+        };
+    }
+
+    private static Deadline generateDeadline(SplittableRandom random) {
+        int day;
+        if (random.nextDouble() < IN_HIRING_SEASON_PROBABILITY) {
+            int peak = HIRING_SEASON_PEAKS[random.nextInt(HIRING_SEASON_PEAKS.length)];
+            day = (int) Math.round(peak + nextGaussian(random) * HIRING_SEASON_DAYS);
+            day = Math.floorMod(day, DEADLINE_SPREAD_DAYS);
+        } else {
+            day = random.nextInt(DEADLINE_SPREAD_DAYS);
+        }
+        return new Deadline(FIRST_DEADLINE.plusDays(day).toString());
+    }
+
+    private static Set<Tag> generateTags(SplittableRandom random) {
+        int count = pick(random, TAG_COUNT_CUMULATIVE_WEIGHTS);
+        Set<Tag> tags = new LinkedHashSet<>();
+        while (tags.size() < count) {
+            tags.add(new Tag(TAGS[pick(random, TAG_CUMULATIVE_WEIGHTS)]));
+        }
+        return tags;
+    }
+
+    /**
+     * Returns an index drawn with the probabilities given by {@code cumulativeWeights}, which must increase to 1.
+     */
+    private static int pick(SplittableRandom random, double[] cumulativeWeights) {
+        int index = Arrays.binarySearch(cumulativeWeights, random.nextDouble());
+        return Math.min(index >= 0 ? index + 1 : -index - 1, cumulativeWeights.length - 1);
+    }
+
+    /**
+     * Returns a normally distributed value with mean 0 and standard deviation 1, using the Box-Muller transform.
+     */
+    private static double nextGaussian(SplittableRandom random) {
+        double u = 1 - random.nextDouble(); // in (0, 1], so that the logarithm is finite
+        return Math.sqrt(-2 * Math.log(u)) * Math.cos(2 * Math.PI * random.nextDouble());
+    }
+
+    /**
+     * Returns the cumulative weights of a Zipf distribution over {@code n} items, in which the weight of the
+     * {@code k}th most frequent item is proportional to {@code 1 / k^skew}.
+     */
+    private static double[] zipfCumulativeWeights(int n, double skew) {
+        double[] weights = new double[n];
+        for (int k = 0; k < n; k++) {
+            weights[k] = 1 / Math.pow(k + 1, skew);
+        }
+        return cumulative(weights);
+    }
+
+    /**
+     * Returns the running totals of {@code weights}, scaled so that the last one is 1.
+     */
+    private static double[] cumulative(double[] weights) {
+        double[] cumulativeWeights = new double[weights.length];
+        double total = Arrays.stream(weights).sum();
+        double sum = 0;
+        for (int i = 0; i < weights.length; i++) {
+            sum += weights[i];
+            cumulativeWeights[i] = sum / total;
+        }
+        return cumulativeWeights;
+    }
+}
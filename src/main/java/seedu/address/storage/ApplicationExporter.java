@@ -0,0 +1,142 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.function.LongConsumer;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.CsvWriter;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.application.Application;
+import seedu.address.storage.JsonInternshipStorage.AdaptingIterator;
+
+/**
+ * Exports applications to a CSV or newline-delimited JSON file for use in other programs.
+ * Applications are written one at a time through a buffered writer, so the output is never held in memory.
+ */
+public class ApplicationExporter {
+
+    /** Columns of an exported CSV file, which the {@code import} command reads back. */
+    public static final List<String> CSV_COLUMNS =
+            List.of("company", "position", "deadline", "status", "completion", "tags");
+
+    /** Number of applications written between two reports of progress. */
+    public static final int PROGRESS_INTERVAL = 10_000;
+
+    /**
+     * Formats applications can be exported to.
+     */
+    public enum Format {
+        /** Comma-separated values, one application per row after a header row. */
+        CSV(".csv"),
+        /** Newline-delimited JSON, one application per line in the format of the data file. */
+        NDJSON(".ndjson", ".jsonl");
+
+        private final List<String> extensions;
+
+        Format(String... extensions) {
+            this.extensions = List.of(extensions);
+        }
+
+        /**
+         * Returns the format of a file named {@code fileName}, given by its extension.
+         */
+        public static Optional<Format> fromFileName(String fileName) {
+            String lowerCaseName = fileName.toLowerCase(Locale.ROOT);
+            for (Format format : values()) {
+                if (format.extensions.stream().anyMatch(lowerCaseName::endsWith)) {
+                    return Optional.of(format);
+                }
+            }
+            return Optional.empty();
+        }
+    }
+
+    private ApplicationExporter() {} // prevents instantiation
+
+    /**
+     * Writes {@code applications} to {@code filePath} in {@code format}, overwriting the file if it exists.
+     * {@code progress} is given the number of applications written after every {@link #PROGRESS_INTERVAL} of them.
+     *
+     * @return the number of applications written.
+     * @throws IOException if there was an error writing to the file.
+     */
+    public static long export(Iterator<Application> applications, Path filePath, Format format,
+            LongConsumer progress) throws IOException {
+        requireNonNull(applications);
+        requireNonNull(filePath);
+        requireNonNull(format);
+        requireNonNull(progress);
+
+        FileUtil.createParentDirsOfFile(filePath);
+        ProgressIterator reported = new ProgressIterator(applications, progress);
+        switch (format) {
+        case CSV:
+            exportCsv(reported, filePath);
+            break;
+        case NDJSON:
+            JsonUtil.saveJsonLinesFile(filePath, new AdaptingIterator(reported));
+            break;
+        default:
+            throw new AssertionError("Unknown export format " + format);
+        }
+        return reported.count;
+    }
+
+    private static void exportCsv(Iterator<Application> applications, Path filePath) throws IOException {
+        try (CsvWriter writer = new CsvWriter(Files.newBufferedWriter(filePath, StandardCharsets.UTF_8))) {
+            writer.writeRecord(CSV_COLUMNS);
+            while (applications.hasNext()) {
+                writer.writeRecord(toCsvRecord(applications.next()));
+            }
+        }
+    }
+
+    private static List<String> toCsvRecord(Application application) {
+        String tags = application.getTags().stream()
+                .map(tag -> tag.tagName)
+                .sorted()
+                .collect(Collectors.joining(" "));
+        return List.of(application.getCompany().fullCompanyName, application.getPosition().value,
+                application.getDeadline().value, application.getStatus().value, application.getCompletion().value,
+                tags);
+    }
+
+    /**
+     * Passes on applications, counting them and reporting the count every {@link #PROGRESS_INTERVAL} of them.
+     */
+    private static class ProgressIterator implements Iterator<Application> {
+        private final Iterator<Application> applications;
+        private final LongConsumer progress;
+        private long count;
+
+        ProgressIterator(Iterator<Application> applications, LongConsumer progress) {
+            this.applications = applications;
+            this.progress = progress;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return applications.hasNext();
+        }
+
+        @Override
+        public Application next() {
+            Application next = applications.next();
+            count++;
+            if (count % PROGRESS_INTERVAL == 0) {
+                progress.accept(count);
+            }
+            return next;
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+import seedu.address.commons.util.Compression;
+
+/**
+ * Reads the lines of a file one at a time as bytes, without decoding them, through a buffer that is reused
+ * for every line. A line is only valid until the next one is read. GZIP compressed files are decompressed as they
+ * are read.
+ */
+class ByteLineReader implements Closeable {
+
+    private static final int BUFFER_SIZE = 1 << 20;
+
+    private static final VarHandle LONG_VIEW =
+            MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final long ONES = 0x0101010101010101L;
+    private static final long HIGH_BITS = 0x8080808080808080L;
+    private static final long LINE_BREAKS = ONES * '\n';
+
+    private final ReadableByteChannel channel;
+    private final boolean isCompressed;
+    private byte[] buffer = new byte[BUFFER_SIZE];
+    /** Start of the unread bytes in {@code buffer}. */
+    private int position;
+    /** End of the bytes read into {@code buffer}. */
+    private int limit;
+    private boolean isEndOfFile;
+
+    private int lineStart;
+    private int lineLength;
+    private boolean hasLineBreak;
+    private long lineOffset;
+    private long lineNumber;
+    private long nextLineOffset;
+
+    /**
+     * Opens the file at {@code filePath} to read its lines.
+     */
+    ByteLineReader(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        isCompressed = Compression.isCompressed(filePath);
+        channel = isCompressed
+                ? Channels.newChannel(Compression.newInputStream(filePath))
+                : FileChannel.open(filePath, StandardOpenOption.READ);
+    }
+
+    /**
+     * Reads the next line, returning false at the end of the file.
+     */
+    boolean readLine() throws IOException {
+        int searchFrom = position;
+        while (true) {
+            int lineBreak = indexOfLineBreak(buffer, searchFrom, limit);
+            if (lineBreak >= 0) {
+                setLine(lineBreak - position, true);
+                return true;
+            }
+            searchFrom = limit;
+            if (isEndOfFile) {
+                if (position == limit) {
+                    return false;
+                }
+                setLine(limit - position, false); // the last line has no line break
+                return true;
+            }
+            searchFrom -= position;
+            fill();
+        }
+    }
+
+    /**
+     * Returns the index of the first line break in {@code bytes} from {@code from} to {@code to}, or -1 if there is
+     * none. Eight bytes are checked at a time, as lines are usually long.
+     */
+    static int indexOfLineBreak(byte[] bytes, int from, int to) {
+        int i = from;
+        for (; i + Long.BYTES <= to; i += Long.BYTES) {
+            long word = (long) LONG_VIEW.get(bytes, i) ^ LINE_BREAKS;
+            long zeroBytes = (word - ONES) & ~word & HIGH_BITS;
+            if (zeroBytes != 0) {
+                return i + (Long.numberOfTrailingZeros(zeroBytes) >>> 3);
+            }
+        }
+        for (; i < to; i++) {
+            if (bytes[i] == '\n') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private void setLine(int length, boolean hasLineBreak) {
+        lineStart = position;
+        lineLength = length;
+        this.hasLineBreak = hasLineBreak;
+        lineOffset = nextLineOffset;
+        lineNumber++;
+        int fullLength = hasLineBreak ? length + 1 : length;
+        position += fullLength;
+        nextLineOffset += fullLength;
+    }
+
+    /**
+     * Moves the unread bytes to the start of the buffer, growing it if they fill it, and reads more after them.
+     */
+    private void fill() throws IOException {
+        int unread = limit - position;
+        if (unread == buffer.length) {
+            buffer = Arrays.copyOf(buffer, buffer.length * 2);
+        } else {
+            System.arraycopy(buffer, position, buffer, 0, unread);
+        }
+        position = 0;
+        limit = unread;
+        int read = channel.read(ByteBuffer.wrap(buffer, limit, buffer.length - limit));
+        if (read < 0) {
+            isEndOfFile = true;
+        } else {
+            limit += read;
+        }
+    }
+
+    /** Returns the buffer holding the line. Its bytes start at {@link #getLineStart()}. */
+    byte[] getBuffer() {
+        return buffer;
+    }
+
+    int getLineStart() {
+        return lineStart;
+    }
+
+    /** Returns the length of the line, not counting its line break. */
+    int getLineLength() {
+        return lineLength;
+    }
+
+    /** Returns true if the line ends with a line break, which only the last line of a file may not. */
+    boolean hasLineBreak() {
+        return hasLineBreak;
+    }
+
+    /** Returns the number of bytes in the file before the line. */
+    long getLineOffset() {
+        return lineOffset;
+    }
+
+    /** Returns the line number of the line, counting from 1. */
+    long getLineNumber() {
+        return lineNumber;
+    }
+
+    /** Returns true if the file is GZIP compressed. Offsets and counts of bytes are then of its content. */
+    boolean isCompressed() {
+        return isCompressed;
+    }
+
+    /** Returns the number of bytes read up to the end of the line. */
+    long getBytesRead() {
+        return nextLineOffset;
+    }
+
+    boolean isBlank() {
+        for (int i = lineStart; i < lineStart + lineLength; i++) {
+            byte b = buffer[i];
+            if (b != ' ' && b != '\t' && b != '\r') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
@@ -0,0 +1,118 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.CRC32C;
+import java.util.zip.Checksum;
+
+/**
+ * The format of the lines of a newline-delimited JSON data file with checksums.
+ * Each application is on a line of its own, followed by a tab and the CRC32C of its JSON as 8 hex digits.
+ * The last line is a digest line: {@code #digest}, the number of application lines and the CRC32C of all the
+ * other lines before it, separated by tabs. Checksums are written in lower case hex digits.
+ */
+final class ChecksummedLines {
+
+    static final byte CHECKSUM_SEPARATOR = '\t';
+    static final int CHECKSUM_DIGITS = 8;
+    static final String DIGEST_KEYWORD = "#digest";
+
+    /** A checksum that is not the CRC32C of any bytes, for lines that have none. */
+    static final long NO_CHECKSUM = -1;
+
+    private static final byte[] HEX_DIGITS = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+
+    private ChecksummedLines() {} // prevents instantiation
+
+    /**
+     * Writes {@code json} as a record line with its checksum to {@code out}, and adds the line to {@code digest}.
+     *
+     * @return the number of bytes written.
+     */
+    static int writeRecord(OutputStream out, byte[] json, Checksum digest) throws IOException {
+        CRC32C checksum = new CRC32C();
+        checksum.update(json, 0, json.length);
+        byte[] suffix = new byte[CHECKSUM_DIGITS + 2];
+        suffix[0] = CHECKSUM_SEPARATOR;
+        writeHex(checksum.getValue(), suffix, 1);
+        suffix[suffix.length - 1] = '\n';
+
+        out.write(json);
+        out.write(suffix);
+        digest.update(json, 0, json.length);
+        digest.update(suffix, 0, suffix.length);
+        return json.length + suffix.length;
+    }
+
+    /**
+     * Writes the digest line of a file of {@code recordCount} records whose lines are in {@code digest}.
+     */
+    static void writeDigest(OutputStream out, long recordCount, Checksum digest) throws IOException {
+        out.write(formatDigest(recordCount, digest.getValue()).getBytes(StandardCharsets.US_ASCII));
+    }
+
+    static String formatDigest(long recordCount, long digest) {
+        return String.format("%s\t%d\t%08x\n", DIGEST_KEYWORD, recordCount, digest);
+    }
+
+    /**
+     * Returns true if the line of {@code length} bytes at {@code start} of {@code bytes} is a digest line.
+     */
+    static boolean isDigestLine(byte[] bytes, int start, int length) {
+        return length > 0 && bytes[start] == '#';
+    }
+
+    /**
+     * Returns true if the line of {@code length} bytes at {@code start} of {@code bytes} is the digest line of a
+     * file of {@code recordCount} records before it, whose lines have the CRC32C {@code digest}.
+     */
+    static boolean isDigestOf(byte[] bytes, int start, int length, long recordCount, long digest) {
+        String expected = formatDigest(recordCount, digest);
+        return new String(bytes, start, length, StandardCharsets.US_ASCII)
+                .equals(expected.substring(0, expected.length() - 1));
+    }
+
+    /**
+     * Returns the checksum at the end of the record line of {@code length} bytes at {@code start} of
+     * {@code bytes}, or {@link #NO_CHECKSUM} if it does not end with one.
+     */
+    static long parseChecksum(byte[] bytes, int start, int length) {
+        int separator = start + length - CHECKSUM_DIGITS - 1;
+        if (length <= CHECKSUM_DIGITS || bytes[separator] != CHECKSUM_SEPARATOR) {
+            return NO_CHECKSUM;
+        }
+        long checksum = 0;
+        for (int i = separator + 1; i < start + length; i++) {
+            int digit = Character.digit(bytes[i], 16);
+            if (digit < 0) {
+                return NO_CHECKSUM;
+            }
+            checksum = checksum << 4 | digit;
+        }
+        return checksum;
+    }
+
+    /**
+     * Returns the length of the JSON of the record line of {@code length} bytes, given its checksum.
+     */
+    static int getJsonLength(int length, long checksum) {
+        return checksum == NO_CHECKSUM ? length : length - CHECKSUM_DIGITS - 1;
+    }
+
+    /**
+     * Returns the CRC32C of {@code length} bytes at {@code start} of {@code bytes}.
+     */
+    static long checksumOf(byte[] bytes, int start, int length) {
+        CRC32C checksum = new CRC32C();
+        checksum.update(bytes, start, length);
+        return checksum.getValue();
+    }
+
+    private static void writeHex(long value, byte[] bytes, int start) {
+        for (int i = CHECKSUM_DIGITS - 1; i >= 0; i--) {
+            bytes[start + i] = HEX_DIGITS[(int) (value & 0xf)];
+            value >>>= 4;
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.LongConsumer;
+import java.util.zip.CRC32C;
+
+/**
+ * Checks the integrity of a newline-delimited JSON data file against its checksums, as described in
+ * {@link ChecksummedLines}. The file is read once as bytes without parsing its JSON, so verifying it is about as
+ * fast as reading it.
+ */
+public class DataFileVerifier {
+
+    /** Number of bytes read between two reports of progress. */
+    public static final long PROGRESS_INTERVAL_BYTES = 64L << 20;
+
+    /** Number of problems whose line and reason are kept. */
+    public static final int MAX_PROBLEMS_KEPT = 10;
+
+    public static final String MESSAGE_NO_CHECKSUM = "The line has no checksum";
+    public static final String MESSAGE_NO_DIGEST = "The file does not end with a digest line";
+
+    private DataFileVerifier() {} // prevents instantiation
+
+    /**
+     * Verifies the checksums of the lines of the file at {@code filePath} and its digest.
+     * {@code progress} is given the number of bytes read after every {@link #PROGRESS_INTERVAL_BYTES} of them.
+     *
+     * @throws IOException if there was an error reading the file.
+     */
+    public static Result verify(Path filePath, LongConsumer progress) throws IOException {
+        requireNonNull(filePath);
+        requireNonNull(progress);
+
+        CRC32C digest = new CRC32C();
+        long recordCount = 0;
+        boolean endsWithDigest = false;
+        long nextProgress = PROGRESS_INTERVAL_BYTES;
+        Result result = new Result();
+        try (ByteLineReader reader = new ByteLineReader(filePath)) {
+            while (reader.readLine()) {
+                byte[] bytes = reader.getBuffer();
+                int start = reader.getLineStart();
+                int length = reader.getLineLength();
+                if (ChecksummedLines.isDigestLine(bytes, start, length)) {
+                    endsWithDigest = true;
+                    if (!ChecksummedLines.isDigestOf(bytes, start, length, recordCount, digest.getValue())) {
+                        result.addProblem(reader.getLineNumber(), NdjsonInternshipStorage.MESSAGE_DIGEST_MISMATCH);
+                    }
+                } else {
+                    digest.update(bytes, start, reader.hasLineBreak() ? length + 1 : length);
+                    endsWithDigest = false;
+                    if (!reader.isBlank()) {
+                        recordCount++;
+                        verifyRecord(bytes, start, length, reader.getLineNumber(), result);
+                    }
+                }
+                if (reader.getBytesRead() >= nextProgress) {
+                    progress.accept(reader.getBytesRead());
+                    nextProgress += PROGRESS_INTERVAL_BYTES;
+                }
+            }
+            result.byteCount = reader.getBytesRead();
+        }
+        result.recordCount = recordCount;
+        result.hasDigest = endsWithDigest;
+        return result;
+    }
+
+    private static void verifyRecord(byte[] bytes, int start, int length, long lineNumber, Result result) {
+        long checksum = ChecksummedLines.parseChecksum(bytes, start, length);
+        if (checksum == ChecksummedLines.NO_CHECKSUM) {
+            result.addProblem(lineNumber, MESSAGE_NO_CHECKSUM);
+        } else if (ChecksummedLines.checksumOf(bytes, start, ChecksummedLines.getJsonLength(length, checksum))
+                != checksum) {
+            result.addProblem(lineNumber, NdjsonInternshipStorage.MESSAGE_CHECKSUM_MISMATCH);
+        }
+    }
+
+    /**
+     * The outcome of verifying a data file.
+     */
+    public static class Result {
+        private final List<String> problems = new ArrayList<>();
+        private long problemCount;
+        private long recordCount;
+        private long byteCount;
+        private boolean hasDigest;
+
+        private void addProblem(long lineNumber, String problem) {
+            problemCount++;
+            if (problems.size() < MAX_PROBLEMS_KEPT) {
+                problems.add(String.format(NdjsonInternshipStorage.MESSAGE_INVALID_LINE, lineNumber, problem));
+            }
+        }
+
+        /** Returns true if no lines have problems and the file ends with a digest line. */
+        public boolean isIntact() {
+            return getProblemCount() == 0;
+        }
+
+        /**
+         * Returns the first {@link #MAX_PROBLEMS_KEPT} problems found, each with its line number, followed by
+         * {@link #MESSAGE_NO_DIGEST} if the file does not end with a digest line.
+         */
+        public List<String> getProblems() {
+            List<String> allProblems = new ArrayList<>(problems);
+            if (!hasDigest) {
+                allProblems.add(MESSAGE_NO_DIGEST);
+            }
+            return allProblems;
+        }
+
+        /** Returns the number of problems found, some of which may not be in {@link #getProblems()}. */
+        public long getProblemCount() {
+            return hasDigest ? problemCount : problemCount + 1;
+        }
+
+        public long getRecordCount() {
+            return recordCount;
+        }
+
+        public long getByteCount() {
+            return byteCount;
+        }
+    }
+}
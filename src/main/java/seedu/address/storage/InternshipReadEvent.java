@@ -0,0 +1,39 @@
+package seedu.address.storage;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event spanning the reading of an Internship data file.
+ */
+@Name("seedu.address.InternshipRead")
+@Label("Internship Read")
+@Category({"InternSHIP", "Storage"})
+@Description("Reading and converting an Internship data file")
+@StackTrace(false)
+class InternshipReadEvent extends Event {
+
+    @Label("Path")
+    private String path;
+
+    @Label("Applications")
+    private int applicationCount;
+
+    @Label("Size")
+    @DataAmount
+    private long bytes;
+
+    /**
+     * Sets the details of the file read.
+     */
+    void setDetails(String path, int applicationCount, long bytes) {
+        this.path = path;
+        this.applicationCount = applicationCount;
+        this.bytes = bytes;
+    }
+}
@@ -3,28 +3,45 @@ package seedu.address.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Iterator;
 import java.util.Optional;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.Compression;
 import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.ReadOnlyInternship;
+import seedu.address.model.application.Application;
 
 /**
- * A class to access AddressBook data stored as a json file on the hard disk.
+ * A class to access AddressBook data stored as a json file on the hard disk, which may be GZIP compressed.
+ * The file is parsed as it is read and written as it is converted, so the json document is never held in memory.
  */
 public class JsonInternshipStorage implements InternshipStorage {
 
     private static final Logger logger = LogsCenter.getLogger(JsonInternshipStorage.class);
 
     private Path filePath;
+    private final Compression compression;
 
     public JsonInternshipStorage(Path filePath) {
+        this(filePath, Compression.NONE);
+    }
+
+    /**
+     * Creates a {@code JsonInternshipStorage} for the file at {@code filePath}, which is written with
+     * {@code compression}. Files are read whether they are compressed or not.
+     */
+    public JsonInternshipStorage(Path filePath, Compression compression) {
+        requireNonNull(compression);
         this.filePath = filePath;
+        this.compression = compression;
     }
 
     public Path getInternshipFilePath() {
@@ -45,14 +62,29 @@ public class JsonInternshipStorage implements InternshipStorage {
     public Optional<ReadOnlyInternship> readInternship(Path filePath) throws DataConversionException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableInternship> jsonInternship = JsonUtil.readJsonFile(
-                filePath, JsonSerializableInternship.class);
-        if (!jsonInternship.isPresent()) {
+        if (!Files.exists(filePath)) {
+            logger.info("Json file " + filePath + " not found");
             return Optional.empty();
         }
 
+        InternshipReadEvent event = new InternshipReadEvent();
+        event.begin();
+        JsonSerializableInternship jsonInternship;
+        try (InputStream in = Compression.newInputStream(filePath)) {
+            jsonInternship = JsonUtil.fromJsonStream(in, JsonSerializableInternship.class);
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        }
+
         try {
-            return Optional.of(jsonInternship.get().toModelType());
+            ReadOnlyInternship internship = jsonInternship.toModelType();
+            event.end();
+            if (event.shouldCommit()) {
+                event.setDetails(filePath.toString(), internship.getApplicationList().size(), sizeOf(filePath));
+                event.commit();
+            }
+            return Optional.of(internship);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataConversionException(ive);
@@ -73,8 +105,67 @@ public class JsonInternshipStorage implements InternshipStorage {
         requireNonNull(internship);
         requireNonNull(filePath);
 
+        saveApplications(internship.getApplicationList().iterator(), filePath);
+    }
+
+    /**
+     * Saves the applications given by {@code applications} to {@code filePath} in the same format as
+     * {@link #saveInternship(ReadOnlyInternship, Path)}, converting and writing each one as soon as it is given,
+     * so that large data files can be written without holding all the applications in memory.
+     * The applications must not contain duplicate applications.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @return the number of applications saved.
+     */
+    public long saveApplications(Iterator<Application> applications, Path filePath) throws IOException {
+        requireNonNull(applications);
+        requireNonNull(filePath);
+
+        InternshipWriteEvent event = new InternshipWriteEvent();
+        event.begin();
         FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableInternship(internship), filePath);
+        AdaptingIterator adaptedApplications = new AdaptingIterator(applications);
+        JsonUtil.writeJsonArray(compression.newOutputStream(filePath), JsonSerializableInternship.APPLICATIONS_FIELD,
+                adaptedApplications);
+        event.end();
+        if (event.shouldCommit()) {
+            event.setDetails(filePath.toString(), (int) adaptedApplications.count, sizeOf(filePath));
+            event.commit();
+        }
+        return adaptedApplications.count;
     }
 
+    /**
+     * Returns the size of {@code file} in bytes, or 0 if it cannot be determined.
+     */
+    private static long sizeOf(Path file) {
+        try {
+            return Files.size(file);
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * Converts applications for Jackson use one at a time, as they are requested, counting them.
+     */
+    static class AdaptingIterator implements Iterator<JsonAdaptedApplication> {
+        private final Iterator<Application> applications;
+        private long count;
+
+        AdaptingIterator(Iterator<Application> applications) {
+            this.applications = applications;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return applications.hasNext();
+        }
+
+        @Override
+        public JsonAdaptedApplication next() {
+            count++;
+            return new JsonAdaptedApplication(applications.next());
+        }
+    }
 }
@@ -12,6 +12,7 @@ import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.Internship;
 import seedu.address.model.ReadOnlyInternship;
 import seedu.address.model.application.Application;
+import seedu.address.model.application.exceptions.DuplicateApplicationException;
 
 /**
  * An Immutable Internship that is serializable to JSON format.
@@ -20,6 +21,8 @@ import seedu.address.model.application.Application;
 class JsonSerializableInternship {
 
     public static final String MESSAGE_DUPLICATE_APPLICATION = "Applications list contains duplicate application(s).";
+    /** Name of the field holding the applications in the data file. */
+    public static final String APPLICATIONS_FIELD = "applications";
 
     private final List<JsonAdaptedApplication> applications = new ArrayList<>();
 
@@ -27,7 +30,7 @@ class JsonSerializableInternship {
      * Constructs a {@code JsonSerializableInternship} with the given applications.
      */
     @JsonCreator
-    public JsonSerializableInternship(@JsonProperty("applications") List<JsonAdaptedApplication> applications) {
+    public JsonSerializableInternship(@JsonProperty(APPLICATIONS_FIELD) List<JsonAdaptedApplication> applications) {
         this.applications.addAll(applications);
     }
 
@@ -47,13 +50,15 @@ class JsonSerializableInternship {
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public Internship toModelType() throws IllegalValueException {
-        Internship internship = new Internship();
+        List<Application> modelApplications = new ArrayList<>(applications.size());
         for (JsonAdaptedApplication jsonAdaptedApplication : applications) {
-            Application application = jsonAdaptedApplication.toModelType();
-            if (internship.hasApplication(application)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_APPLICATION);
-            }
-            internship.addApplication(application);
+            modelApplications.add(jsonAdaptedApplication.toModelType());
+        }
+        Internship internship = new Internship();
+        try {
+            internship.setApplications(modelApplications);
+        } catch (DuplicateApplicationException e) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_APPLICATION);
         }
         return internship;
     }
@@ -0,0 +1,348 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.zip.CRC32C;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.Compression;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.commons.util.PersistentVector;
+import seedu.address.model.Internship;
+import seedu.address.model.InternshipSnapshot;
+import seedu.address.model.ReadOnlyInternship;
+import seedu.address.model.application.Application;
+
+/**
+ * A class to access Internship data stored as newline-delimited JSON (NDJSON) on the hard disk: one application
+ * per line, in the format of the applications in a json data file, with checksums as described in
+ * {@link ChecksummedLines}. Files without checksums, such as exported ones, are read too, and so are GZIP
+ * compressed files.
+ * The file is read one line at a time. When the only change since the last save is that applications were added
+ * at the end, as by {@code add} or {@code import}, they are appended to the file instead of rewriting it.
+ * In salvage mode, lines that cannot be read or do not match their checksums are skipped and reported instead of
+ * failing the whole file, and the file is first backed up so that the skipped lines are not lost when it is next
+ * saved.
+ */
+public class NdjsonInternshipStorage implements InternshipStorage {
+
+    public static final String MESSAGE_INVALID_LINE = "Line %1$d: %2$s";
+    public static final String MESSAGE_CHECKSUM_MISMATCH = "The line does not match its checksum";
+    public static final String MESSAGE_DIGEST_MISMATCH = "The digest does not match the lines before it: "
+            + "lines were changed, removed, added or reordered";
+    public static final String BACKUP_FILE_SUFFIX = ".bak";
+
+    private static final Logger logger = LogsCenter.getLogger(NdjsonInternshipStorage.class);
+
+    private final Path filePath;
+    private final boolean isSalvaging;
+    private final Compression compression;
+    private List<String> readProblems = List.of();
+
+    /**
+     * A snapshot of the applications known to be in the file at {@code filePath} before its digest line, if they
+     * are known, the CRC32C of their lines, and the offset of the digest line.
+     */
+    private InternshipSnapshot savedSnapshot;
+    private CRC32C savedDigest;
+    private long savedDigestLineOffset;
+
+    /**
+     * Creates a {@code NdjsonInternshipStorage} for the file at {@code filePath}. If {@code isSalvaging}, lines
+     * that cannot be read are skipped instead of failing the whole file.
+     */
+    public NdjsonInternshipStorage(Path filePath, boolean isSalvaging) {
+        this(filePath, isSalvaging, Compression.NONE);
+    }
+
+    /**
+     * Creates a {@code NdjsonInternshipStorage} for the file at {@code filePath}, which is written with
+     * {@code compression}. Compressed files are rewritten instead of appended to.
+     */
+    public NdjsonInternshipStorage(Path filePath, boolean isSalvaging, Compression compression) {
+        requireNonNull(filePath);
+        requireNonNull(compression);
+        this.filePath = filePath;
+        this.isSalvaging = isSalvaging;
+        this.compression = compression;
+    }
+
+    @Override
+    public Path getInternshipFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyInternship> readInternship() throws DataConversionException, IOException {
+        return readInternship(filePath);
+    }
+
+    /**
+     * Similar to {@link #readInternship()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if a line is not in the correct format and this storage is not salvaging.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyInternship> readInternship(Path filePath)
+            throws DataConversionException, IOException {
+        requireNonNull(filePath);
+        if (!Files.exists(filePath)) {
+            logger.info("Data file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        InternshipReadEvent event = new InternshipReadEvent();
+        event.begin();
+        List<Application> applications = new ArrayList<>();
+        Set<Object> seen = new HashSet<>();
+        List<String> problems = new ArrayList<>();
+        CRC32C digest = new CRC32C();
+        long recordCount = 0;
+        boolean hasUncheckedLines = false;
+        boolean hasCheckedLines = false;
+        boolean endsWithDigest = false;
+        long digestLineOffset = -1;
+        boolean isCompressed;
+        try (ByteLineReader reader = new ByteLineReader(filePath)) {
+            isCompressed = reader.isCompressed();
+            while (reader.readLine()) {
+                byte[] bytes = reader.getBuffer();
+                int start = reader.getLineStart();
+                int length = reader.getLineLength();
+                String problem = null;
+                if (ChecksummedLines.isDigestLine(bytes, start, length)) {
+                    if (!ChecksummedLines.isDigestOf(bytes, start, length, recordCount, digest.getValue())) {
+                        problem = MESSAGE_DIGEST_MISMATCH;
+                    }
+                    endsWithDigest = true;
+                    digestLineOffset = reader.hasLineBreak() ? reader.getLineOffset() : -1;
+                } else {
+                    digest.update(bytes, start, reader.hasLineBreak() ? length + 1 : length);
+                    endsWithDigest = false;
+                    digestLineOffset = -1;
+                    if (reader.isBlank()) {
+                        continue;
+                    }
+                    recordCount++;
+                    long checksum = ChecksummedLines.parseChecksum(bytes, start, length);
+                    hasUncheckedLines |= checksum == ChecksummedLines.NO_CHECKSUM;
+                    hasCheckedLines |= checksum != ChecksummedLines.NO_CHECKSUM;
+                    try {
+                        applications.add(parseRecord(bytes, start, length, checksum, seen));
+                    } catch (IllegalValueException e) {
+                        problem = e.getMessage();
+                    }
+                }
+                if (problem != null) {
+                    addProblem(problems, String.format(MESSAGE_INVALID_LINE, reader.getLineNumber(), problem),
+                            filePath);
+                }
+            }
+        }
+        // a file saved with checksums that no longer ends with its digest line has lost the lines at its end
+        if (hasCheckedLines && !endsWithDigest) {
+            addProblem(problems, DataFileVerifier.MESSAGE_NO_DIGEST, filePath);
+        }
+
+        Internship internship = new Internship();
+        internship.setApplications(applications);
+        event.end();
+        if (event.shouldCommit()) {
+            event.setDetails(filePath.toString(), applications.size(), Files.size(filePath));
+            event.commit();
+        }
+
+        readProblems = List.copyOf(problems);
+        if (!problems.isEmpty()) {
+            backUp(filePath);
+        }
+        // appending is only safe if the uncompressed file holds exactly these applications, all with checksums,
+        // followed by a digest line at its end
+        savedSnapshot = null;
+        if (isAppendable(filePath) && !isCompressed && problems.isEmpty() && !hasUncheckedLines
+                && digestLineOffset >= 0) {
+            savedSnapshot = internship.getSnapshot();
+            savedDigest = digest;
+            savedDigestLineOffset = digestLineOffset;
+        }
+        return Optional.of(internship);
+    }
+
+    /**
+     * Adds {@code message} to {@code problems} if this storage is salvaging.
+     *
+     * @throws DataConversionException if this storage is not salvaging.
+     */
+    private void addProblem(List<String> problems, String message, Path filePath) throws DataConversionException {
+        if (!isSalvaging) {
+            logger.info("Illegal values found in " + filePath + ": " + message);
+            throw new DataConversionException(new IllegalValueException(message));
+        }
+        problems.add(message);
+    }
+
+    /**
+     * Returns the application in the record line of {@code length} bytes at {@code start} of {@code bytes},
+     * adding its company and position to {@code seen}, which must not already contain them.
+     *
+     * @param checksum the checksum at the end of the line, or {@link ChecksummedLines#NO_CHECKSUM}.
+     */
+    private static Application parseRecord(byte[] bytes, int start, int length, long checksum,
+            Set<Object> seen) throws IllegalValueException {
+        int jsonLength = ChecksummedLines.getJsonLength(length, checksum);
+        if (checksum != ChecksummedLines.NO_CHECKSUM
+                && ChecksummedLines.checksumOf(bytes, start, jsonLength) != checksum) {
+            throw new IllegalValueException(MESSAGE_CHECKSUM_MISMATCH);
+        }
+        JsonAdaptedApplication adaptedApplication;
+        try {
+            adaptedApplication = JsonUtil.fromJsonBytes(bytes, start, jsonLength, JsonAdaptedApplication.class);
+        } catch (IOException e) {
+            throw new IllegalValueException("Not a valid application: " + e.getMessage().split("\n", 2)[0]);
+        }
+        Application application = adaptedApplication.toModelType();
+        if (!seen.add(application.getIdentity())) {
+            throw new IllegalValueException(JsonSerializableInternship.MESSAGE_DUPLICATE_APPLICATION);
+        }
+        return application;
+    }
+
+    /**
+     * Copies the file at {@code filePath}, which has problems, to a backup file next to it, and logs the problems.
+     */
+    private void backUp(Path filePath) {
+        Path backupPath = filePath.resolveSibling(filePath.getFileName() + BACKUP_FILE_SUFFIX);
+        try {
+            Files.copy(filePath, backupPath, StandardCopyOption.REPLACE_EXISTING);
+            logger.warning("Found " + readProblems.size() + " problems in " + filePath + ". "
+                    + "The file was backed up to " + backupPath + ": " + String.join("; ", readProblems));
+        } catch (IOException e) {
+            logger.warning("Found " + readProblems.size() + " problems in " + filePath + ", "
+                    + "and could not back it up: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Returns the problems found by the last read: the lines that were skipped because they could not be read,
+     * and digest lines that do not match the lines before them, each with its line number, and
+     * {@link DataFileVerifier#MESSAGE_NO_DIGEST} if a file with checksums does not end with a digest line.
+     */
+    public synchronized List<String> getReadProblems() {
+        return readProblems;
+    }
+
+    @Override
+    public void saveInternship(ReadOnlyInternship internship) throws IOException {
+        saveInternship(internship, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveInternship(ReadOnlyInternship)}.
+     * Appends to the file instead of rewriting it if the applications only differ from those last saved by
+     * applications added at the end.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public synchronized void saveInternship(ReadOnlyInternship internship, Path filePath) throws IOException {
+        requireNonNull(internship);
+        requireNonNull(filePath);
+
+        InternshipWriteEvent event = new InternshipWriteEvent();
+        event.begin();
+        InternshipSnapshot snapshot = internship instanceof InternshipSnapshot ? (InternshipSnapshot) internship : null;
+        boolean isAppendable = isAppendable(filePath);
+        InternshipSnapshot previous = savedSnapshot;
+        savedSnapshot = null; // unknown if writing fails
+        CRC32C digest;
+        long digestLineOffset;
+        if (isAppendable && snapshot != null && previous != null && snapshot.isAppendedTo(previous)) {
+            digest = savedDigest;
+            digestLineOffset = appendRecords(snapshot.getApplications(), previous.getApplications().size(), digest,
+                    savedDigestLineOffset);
+        } else {
+            FileUtil.createParentDirsOfFile(filePath);
+            digest = new CRC32C();
+            digestLineOffset = writeRecords(internship.getApplicationList(), filePath, digest);
+        }
+        if (isAppendable && snapshot != null) {
+            savedSnapshot = snapshot;
+            savedDigest = digest;
+            savedDigestLineOffset = digestLineOffset;
+        }
+        event.end();
+        if (event.shouldCommit()) {
+            event.setDetails(filePath.toString(), internship.getApplicationList().size(), Files.size(filePath));
+            event.commit();
+        }
+    }
+
+    /**
+     * Returns true if the file at {@code filePath} can be appended to after it is read or saved: if it is the file
+     * of this storage, and is not compressed.
+     */
+    private boolean isAppendable(Path filePath) {
+        return filePath.equals(this.filePath) && !compression.isEnabled();
+    }
+
+    /**
+     * Writes {@code applications} with a digest line to {@code filePath}, replacing the file if it exists.
+     *
+     * @return the offset of the digest line in the uncompressed file.
+     */
+    private long writeRecords(List<Application> applications, Path filePath, CRC32C digest) throws IOException {
+        long digestLineOffset = 0;
+        try (OutputStream out = compression.newOutputStream(filePath)) {
+            for (Application application : applications) {
+                digestLineOffset += writeRecord(out, application, digest);
+            }
+            ChecksummedLines.writeDigest(out, applications.size(), digest);
+        }
+        return digestLineOffset;
+    }
+
+    /**
+     * Replaces the digest line of the file at {@link #filePath} with the applications from index {@code from}
+     * of {@code applications} and a new digest line.
+     *
+     * @return the offset of the new digest line in the file.
+     */
+    private long appendRecords(PersistentVector<Application> applications, int from, CRC32C digest,
+            long digestLineOffset) throws IOException {
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.WRITE)) {
+            channel.truncate(digestLineOffset);
+            channel.position(digestLineOffset);
+            OutputStream out = new BufferedOutputStream(Channels.newOutputStream(channel));
+            for (Application application : applications.asList().subList(from, applications.size())) {
+                digestLineOffset += writeRecord(out, application, digest);
+            }
+            ChecksummedLines.writeDigest(out, applications.size(), digest);
+            out.flush();
+        }
+        return digestLineOffset;
+    }
+
+    private static int writeRecord(OutputStream out, Application application, CRC32C digest) throws IOException {
+        return ChecksummedLines.writeRecord(out, JsonUtil.toJsonBytes(new JsonAdaptedApplication(application)),
+                digest);
+    }
+}
@@ -1,8 +1,11 @@
 package seedu.address.storage;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
@@ -13,13 +16,20 @@ import seedu.address.model.UserPrefs;
 
 /**
  * Manages storage of Internship data in local storage.
+ * How long reading and saving the Internship data takes is exposed through JMX by {@link StorageMetrics}.
  */
-public class StorageManager implements Storage {
+public class StorageManager implements Storage, StorageMetrics {
 
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
     private InternshipStorage internshipStorage;
     private UserPrefsStorage userPrefsStorage;
 
+    private volatile long lastLoadNanos;
+    private volatile long lastSaveNanos;
+    private volatile long lastSaveBytes;
+    private final LongAdder saveCount = new LongAdder();
+    private final LongAdder saveFailureCount = new LongAdder();
+
     /**
      * Creates a {@code StorageManager} with the given {@code InternshipStorage} and {@code UserPrefStorage}.
      */
@@ -61,8 +71,13 @@ public class StorageManager implements Storage {
 
     @Override
     public Optional<ReadOnlyInternship> readInternship(Path filePath) throws DataConversionException, IOException {
-        logger.fine("Attempting to read data from file: " + filePath);
-        return internshipStorage.readInternship(filePath);
+        logger.fine(() -> "Attempting to read data from file: " + filePath);
+        long start = System.nanoTime();
+        try {
+            return internshipStorage.readInternship(filePath);
+        } finally {
+            lastLoadNanos = System.nanoTime() - start;
+        }
     }
 
     @Override
@@ -72,8 +87,59 @@ public class StorageManager implements Storage {
 
     @Override
     public void saveInternship(ReadOnlyInternship internship, Path filePath) throws IOException {
-        logger.fine("Attempting to write to data file: " + filePath);
-        internshipStorage.saveInternship(internship, filePath);
+        logger.fine(() -> "Attempting to write to data file: " + filePath);
+        long start = System.nanoTime();
+        try {
+            internshipStorage.saveInternship(internship, filePath);
+        } catch (IOException | RuntimeException e) {
+            saveFailureCount.increment();
+            throw e;
+        }
+        lastSaveNanos = System.nanoTime() - start;
+        lastSaveBytes = sizeOf(filePath);
+        saveCount.increment();
+    }
+
+    // ================ Management methods ==============================
+
+    @Override
+    public double getLastLoadMillis() {
+        return toMillis(lastLoadNanos);
+    }
+
+    @Override
+    public double getLastSaveMillis() {
+        return toMillis(lastSaveNanos);
+    }
+
+    @Override
+    public long getLastSaveBytes() {
+        return lastSaveBytes;
+    }
+
+    @Override
+    public long getSaveCount() {
+        return saveCount.sum();
+    }
+
+    @Override
+    public long getSaveFailureCount() {
+        return saveFailureCount.sum();
+    }
+
+    /**
+     * Returns the size of {@code file} in bytes, or 0 if it cannot be determined.
+     */
+    private static long sizeOf(Path file) {
+        try {
+            return Files.size(file);
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
     }
 
 }
@@ -0,0 +1,29 @@
+package seedu.address.storage;
+
+import javax.management.MXBean;
+
+/**
+ * Management interface exposing statistics of the {@code StorageManager} through JMX, e.g. to JConsole.
+ */
+@MXBean
+public interface StorageMetrics {
+
+    /**
+     * Returns how long the Internship data took to read when it was last read, or 0 if it has not been read.
+     */
+    double getLastLoadMillis();
+
+    /**
+     * Returns how long the Internship data took to save when it was last saved, or 0 if it has not been saved.
+     */
+    double getLastSaveMillis();
+
+    /**
+     * Returns the size in bytes of the data file after the Internship data was last saved.
+     */
+    long getLastSaveBytes();
+
+    long getSaveCount();
+
+    long getSaveFailureCount();
+}
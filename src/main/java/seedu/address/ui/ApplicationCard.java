@@ -1,8 +1,14 @@
 package seedu.address.ui;
 
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
 
 import javafx.fxml.FXML;
+import javafx.scene.Node;
 import javafx.scene.control.Label;
 import javafx.scene.layout.FlowPane;
 import javafx.scene.layout.HBox;
@@ -11,6 +17,8 @@ import seedu.address.model.application.Application;
 
 /**
  * An UI component that displays information of an {@code Application}.
+ * A card can be rebound to another application with {@link #setApplication(Application, int)}, so that a list
+ * cell only needs to load the FXML for its card once.
  */
 public class ApplicationCard extends UiPart<Region> {
 
@@ -25,7 +33,9 @@ public class ApplicationCard extends UiPart<Region> {
      * TODO Delete this later on?
      */
 
-    public final Application application;
+    private final TagLabelPool tagLabelPool;
+    private Application application;
+    private int displayedIndex;
 
     @FXML
     private HBox cardPane;
@@ -44,23 +54,57 @@ public class ApplicationCard extends UiPart<Region> {
     @FXML
     private Label completion;
 
-
-
     /**
      * Creates an {@code ApplicationCode} with the given {@code Application} and index to display.
      */
     public ApplicationCard(Application application, int displayedIndex) {
+        this(new TagLabelPool());
+        setApplication(application, displayedIndex);
+    }
+
+    /**
+     * Creates an empty {@code ApplicationCard} that takes its tag labels from {@code tagLabelPool}.
+     */
+    public ApplicationCard(TagLabelPool tagLabelPool) {
         super(FXML);
+        this.tagLabelPool = tagLabelPool;
+    }
+
+    public Application getApplication() {
+        return application;
+    }
+
+    /**
+     * Displays {@code application} with the given index on this card, replacing what was displayed before.
+     * Tag labels are only recreated if the tags differ from those of the previously displayed application.
+     */
+    public void setApplication(Application application, int displayedIndex) {
+        requireNonNull(application);
+        if (application == this.application && displayedIndex == this.displayedIndex) {
+            return;
+        }
+
+        Application previous = this.application;
         this.application = application;
+        this.displayedIndex = displayedIndex;
         id.setText(displayedIndex + ". ");
         name.setText(application.getCompany().fullCompanyName);
         position.setText(application.getPosition().value);
         deadline.setText(application.getDeadline().value);
         status.setText(application.getStatus().value);
+        completion.setText(application.getCompletion().value);
+        if (previous == null || !previous.getTags().equals(application.getTags())) {
+            setTags(application);
+        }
+    }
+
+    private void setTags(Application application) {
+        List<Node> oldLabels = new ArrayList<>(tags.getChildren());
+        tags.getChildren().clear();
+        tagLabelPool.release(oldLabels);
         application.getTags().stream()
                 .sorted(Comparator.comparing(tag -> tag.tagName))
-                .forEach(tag -> tags.getChildren().add(new Label(tag.tagName)));
-        completion.setText(application.getCompletion().value);
+                .forEach(tag -> tags.getChildren().add(tagLabelPool.acquire(tag.tagName)));
     }
 
     @Override
@@ -78,6 +122,6 @@ public class ApplicationCard extends UiPart<Region> {
         // state check
         ApplicationCard card = (ApplicationCard) other;
         return id.getText().equals(card.id.getText())
-                && application.equals(card.application);
+                && Objects.equals(application, card.application);
     }
 }
@@ -17,6 +17,8 @@ public class ApplicationListPanel extends UiPart<Region> {
     private static final String FXML = "ApplicationListPanel.fxml";
     private final Logger logger = LogsCenter.getLogger(ApplicationListPanel.class);
 
+    private final TagLabelPool tagLabelPool = new TagLabelPool();
+
     @FXML
     private ListView<Application> personListView;
 
@@ -31,8 +33,11 @@ public class ApplicationListPanel extends UiPart<Region> {
 
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code Application} using a {@code ApplicationCard}.
+     * Each cell loads its card once and rebinds it whenever the cell is reused for another application.
      */
     class ApplicationListViewCell extends ListCell<Application> {
+        private ApplicationCard card;
+
         @Override
         protected void updateItem(Application application, boolean empty) {
             super.updateItem(application, empty);
@@ -41,7 +46,11 @@ public class ApplicationListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new ApplicationCard(application, getIndex() + 1).getRoot());
+                if (card == null) {
+                    card = new ApplicationCard(tagLabelPool);
+                }
+                card.setApplication(application, getIndex() + 1);
+                setGraphic(card.getRoot());
             }
         }
     }
@@ -0,0 +1,106 @@
+package seedu.address.ui;
+
+import java.util.Comparator;
+import java.util.function.Function;
+
+import javafx.beans.InvalidationListener;
+import javafx.beans.WeakInvalidationListener;
+import javafx.beans.property.ReadOnlyObjectWrapper;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.SortedList;
+import javafx.fxml.FXML;
+import javafx.scene.control.TableCell;
+import javafx.scene.control.TableColumn;
+import javafx.scene.control.TableView;
+import javafx.scene.layout.Region;
+import seedu.address.model.application.Application;
+import seedu.address.model.application.Company;
+import seedu.address.model.application.Completion;
+import seedu.address.model.application.Deadline;
+import seedu.address.model.application.Position;
+import seedu.address.model.application.Status;
+
+/**
+ * Panel showing the applications as a table that can be sorted by clicking on the column headers.
+ * The table only sorts what it displays: the applications are wrapped in a {@code SortedList} ordered by the
+ * table's comparator, and the model is left untouched. The field types compare by precomputed keys,
+ * so sorting does no parsing or string conversion per comparison.
+ * The "#" column shows the index of each application in the underlying list, which commands refer to.
+ */
+public class ApplicationTablePanel extends UiPart<Region> {
+    private static final String FXML = "ApplicationTablePanel.fxml";
+
+    private final SortedList<Application> sortedApplications;
+
+    @FXML
+    private TableView<Application> applicationTableView;
+    @FXML
+    private TableColumn<Application, Application> indexColumn;
+    @FXML
+    private TableColumn<Application, Company> companyColumn;
+    @FXML
+    private TableColumn<Application, Position> positionColumn;
+    @FXML
+    private TableColumn<Application, Deadline> deadlineColumn;
+    @FXML
+    private TableColumn<Application, Status> statusColumn;
+    @FXML
+    private TableColumn<Application, Completion> completionColumn;
+
+    /**
+     * Creates an {@code ApplicationTablePanel} with the given {@code ObservableList}.
+     */
+    public ApplicationTablePanel(ObservableList<Application> applicationList) {
+        super(FXML);
+        sortedApplications = new SortedList<>(applicationList);
+        sortedApplications.comparatorProperty().bind(applicationTableView.comparatorProperty());
+        applicationTableView.setItems(sortedApplications);
+
+        indexColumn.setCellValueFactory(cell -> new ReadOnlyObjectWrapper<>(cell.getValue()));
+        indexColumn.setCellFactory(column -> new IndexCell());
+        bind(companyColumn, Application::getCompany);
+        bind(positionColumn, Application::getPosition);
+        bind(deadlineColumn, Application::getDeadline);
+        bind(statusColumn, Application::getStatus);
+        bind(completionColumn, Application::getCompletion);
+    }
+
+    /**
+     * Makes {@code column} display the field extracted by {@code field} and sort by its natural order.
+     */
+    private static <F extends Comparable<? super F>> void bind(TableColumn<Application, F> column,
+            Function<Application, F> field) {
+        column.setCellValueFactory(cell -> new ReadOnlyObjectWrapper<>(field.apply(cell.getValue())));
+        column.setComparator(Comparator.naturalOrder());
+    }
+
+    /**
+     * Shows the one-based index of the row's application in the unsorted list.
+     * The index is updated whenever the row or the list changes, as the source index of a row shifts when
+     * applications before it in the unsorted list are added or removed, without its item changing.
+     */
+    private class IndexCell extends TableCell<Application, Application> {
+        private final InvalidationListener indexUpdater = unused -> updateIndex();
+
+        IndexCell() {
+            indexProperty().addListener(indexUpdater);
+            // the list must not keep the cells that the table has discarded alive
+            sortedApplications.addListener(new WeakInvalidationListener(indexUpdater));
+        }
+
+        @Override
+        protected void updateItem(Application application, boolean empty) {
+            super.updateItem(application, empty);
+            updateIndex();
+        }
+
+        private void updateIndex() {
+            int index = getIndex();
+            if (isEmpty() || getItem() == null || index < 0 || index >= sortedApplications.size()) {
+                setText(null);
+            } else {
+                setText(String.valueOf(sortedApplications.getSourceIndex(index) + 1));
+            }
+        }
+    }
+}
@@ -1,38 +1,92 @@
 package seedu.address.ui;
 
+import java.util.concurrent.CompletableFuture;
+
+import javafx.animation.PauseTransition;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
+import javafx.scene.control.ProgressIndicator;
 import javafx.scene.control.TextField;
 import javafx.scene.layout.Region;
+import javafx.util.Duration;
 import seedu.address.logic.commands.CommandResult;
-import seedu.address.logic.commands.exceptions.CommandException;
-import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.logic.commands.FindCommand;
 
 /**
  * The UI component that is responsible for receiving user command inputs.
+ * Commands are executed asynchronously, so the user can keep typing while they run; an indicator is shown
+ * while any command is still in flight.
+ * While the user is typing a {@code find} command, the application list is filtered by the keywords typed so far
+ * once typing pauses for {@link #SEARCH_DEBOUNCE}. The list is filtered as before once the {@code find} command
+ * is erased.
  */
 public class CommandBox extends UiPart<Region> {
 
     public static final String ERROR_STYLE_CLASS = "error";
+    public static final Duration SEARCH_DEBOUNCE = Duration.millis(120);
     private static final String FXML = "CommandBox.fxml";
+    private static final String SEARCH_PREFIX = FindCommand.COMMAND_WORD + " ";
 
     private final CommandExecutor commandExecutor;
+    private final SearchHandler searchHandler;
+    private final PauseTransition searchDebounce = new PauseTransition(SEARCH_DEBOUNCE);
+    private int commandsInFlight;
+    /** True if the list is currently filtered by a search that has not been entered as a command. */
+    private boolean isSearchPreviewShown;
 
     @FXML
     private TextField commandTextField;
 
+    @FXML
+    private ProgressIndicator inFlightIndicator;
+
     /**
      * Creates a {@code CommandBox} with the given {@code CommandExecutor}.
      */
     public CommandBox(CommandExecutor commandExecutor) {
+        this(commandExecutor, new SearchHandler() {
+            @Override
+            public void search(String keywords) {}
+
+            @Override
+            public void endSearch() {}
+        });
+    }
+
+    /**
+     * Creates a {@code CommandBox} with the given {@code CommandExecutor} that passes the keywords of a
+     * {@code find} command being typed to {@code searchHandler}.
+     */
+    public CommandBox(CommandExecutor commandExecutor, SearchHandler searchHandler) {
         super(FXML);
         this.commandExecutor = commandExecutor;
+        this.searchHandler = searchHandler;
+        searchDebounce.setOnFinished(unused -> search());
         // calls #setStyleToDefault() whenever there is a change to the text of the command box.
-        commandTextField.textProperty().addListener((unused1, unused2, unused3) -> setStyleToDefault());
+        commandTextField.textProperty().addListener((unused1, unused2, unused3) -> {
+            setStyleToDefault();
+            searchDebounce.playFromStart();
+        });
+    }
+
+    /**
+     * Filters the list by the keywords of the {@code find} command being typed, or filters it as before the search
+     * if the text is no longer a {@code find} command but the list is still filtered by the search.
+     */
+    private void search() {
+        String commandText = commandTextField.getText().stripLeading();
+        if (commandText.startsWith(SEARCH_PREFIX)) {
+            isSearchPreviewShown = true;
+            searchHandler.search(commandText.substring(SEARCH_PREFIX.length()));
+        } else if (isSearchPreviewShown) {
+            isSearchPreviewShown = false;
+            searchHandler.endSearch();
+        }
     }
 
     /**
      * Handles the Enter button pressed event.
+     * The command text is cleared once the command succeeds, unless the user has changed it in the meantime.
      */
     @FXML
     private void handleCommandEntered() {
@@ -41,12 +95,30 @@ public class CommandBox extends UiPart<Region> {
             return;
         }
 
-        try {
-            commandExecutor.execute(commandText);
-            commandTextField.setText("");
-        } catch (CommandException | ParseException e) {
-            setStyleToIndicateCommandFailure();
+        // any other command than find refers to indexes in the list as it was filtered before the search, so the
+        // preview is ended first; a find command replaces the preview if it succeeds
+        searchDebounce.stop();
+        if (isSearchPreviewShown && !commandText.stripLeading().startsWith(SEARCH_PREFIX)) {
+            isSearchPreviewShown = false;
+            searchHandler.endSearch();
         }
+        setCommandsInFlight(commandsInFlight + 1);
+        commandExecutor.execute(commandText).whenComplete((result, error) -> {
+            setCommandsInFlight(commandsInFlight - 1);
+            if (!commandText.equals(commandTextField.getText())) {
+                return;
+            }
+            if (error == null) {
+                commandTextField.setText("");
+            } else {
+                setStyleToIndicateCommandFailure();
+            }
+        });
+    }
+
+    private void setCommandsInFlight(int commandsInFlight) {
+        this.commandsInFlight = commandsInFlight;
+        inFlightIndicator.setVisible(commandsInFlight > 0);
     }
 
     /**
@@ -75,11 +147,31 @@ public class CommandBox extends UiPart<Region> {
     @FunctionalInterface
     public interface CommandExecutor {
         /**
-         * Executes the command and returns the result.
+         * Executes the command and returns its future result, which is completed on the JavaFX application
+         * thread. The future is completed exceptionally if the command fails.
+         *
+         * @see seedu.address.logic.Logic#executeAsync(String)
+         */
+        CompletableFuture<CommandResult> execute(String commandText);
+    }
+
+    /**
+     * Represents the functions that filter the displayed applications as the user types.
+     */
+    public interface SearchHandler {
+        /**
+         * Filters the displayed applications by the whitespace-separated {@code keywords}, which may be blank.
+         *
+         * @see seedu.address.logic.Logic#filterAsync(String)
+         */
+        void search(String keywords);
+
+        /**
+         * Filters the displayed applications as they were filtered before the search.
          *
-         * @see seedu.address.logic.Logic#execute(String)
+         * @see seedu.address.logic.Logic#restoreFilterAsync()
          */
-        CommandResult execute(String commandText) throws CommandException, ParseException;
+        void endSearch();
     }
 
 }
@@ -0,0 +1,57 @@
+package seedu.address.ui;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javafx.application.Platform;
+
+/**
+ * Executes tasks on the JavaFX application thread, in submission order.
+ * Tasks submitted from other threads are queued and run in batches, with a single {@link Platform#runLater(Runnable)}
+ * per batch. A batch runs for at most {@link #FRAME_BUDGET_NANOS} before yielding the rest of the queue to a later
+ * batch, so that a burst of tasks, e.g. list changes from a long series of commands, does not stall rendering.
+ * Tasks submitted from the JavaFX application thread are run immediately if no others are waiting.
+ */
+public class FxThreadExecutor implements Executor {
+
+    /** Half of a 60 fps frame, leaving the other half for layout and rendering. */
+    static final long FRAME_BUDGET_NANOS = TimeUnit.MILLISECONDS.toNanos(8);
+
+    private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean drainScheduled = new AtomicBoolean();
+
+    @Override
+    public void execute(Runnable task) {
+        if (Platform.isFxApplicationThread() && tasks.isEmpty()) {
+            task.run();
+            return;
+        }
+        tasks.add(task);
+        if (drainScheduled.compareAndSet(false, true)) {
+            Platform.runLater(this::drain);
+        }
+    }
+
+    /**
+     * Runs queued tasks until the queue is empty or the frame budget is used up.
+     */
+    private void drain() {
+        long deadline = System.nanoTime() + FRAME_BUDGET_NANOS;
+        Runnable task;
+        while ((task = tasks.poll()) != null) {
+            task.run();
+            if (System.nanoTime() - deadline > 0) {
+                Platform.runLater(this::drain);
+                return;
+            }
+        }
+        drainScheduled.set(false);
+        // a task may have been queued after the last poll but before the flag was cleared
+        if (!tasks.isEmpty() && drainScheduled.compareAndSet(false, true)) {
+            Platform.runLater(this::drain);
+        }
+    }
+}
@@ -1,9 +1,11 @@
 package seedu.address.ui;
 
+import java.util.concurrent.CompletableFuture;
 import java.util.logging.Logger;
 
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
+import javafx.scene.control.CheckMenuItem;
 import javafx.scene.control.MenuItem;
 import javafx.scene.control.TextInputControl;
 import javafx.scene.input.KeyCombination;
@@ -12,6 +14,7 @@ import javafx.scene.layout.StackPane;
 import javafx.stage.Stage;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.Logic;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -32,6 +35,7 @@ public class MainWindow extends UiPart<Stage> {
 
     // Independent Ui parts residing in this Ui container
     private ApplicationListPanel applicationListPanel;
+    private ApplicationTablePanel applicationTablePanel;
     private ResultDisplay resultDisplay;
     private HelpWindow helpWindow;
 
@@ -41,6 +45,9 @@ public class MainWindow extends UiPart<Stage> {
     @FXML
     private MenuItem helpMenuItem;
 
+    @FXML
+    private CheckMenuItem tableViewMenuItem;
+
     @FXML
     private StackPane personListPanelPlaceholder;
 
@@ -119,7 +126,23 @@ public class MainWindow extends UiPart<Stage> {
         StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getInternshipFilePath());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
 
-        CommandBox commandBox = new CommandBox(this::executeCommand);
+        // progress goes to the status bar so that it does not replace the feedback of later commands
+        logic.setBackgroundTaskListeners(statusBarFooter::setBackgroundTaskStatus, message -> {
+            statusBarFooter.setBackgroundTaskStatus("");
+            resultDisplay.setFeedbackToUser(message);
+        });
+
+        CommandBox commandBox = new CommandBox(this::executeCommand, new CommandBox.SearchHandler() {
+            @Override
+            public void search(String keywords) {
+                logic.filterAsync(keywords);
+            }
+
+            @Override
+            public void endSearch() {
+                logic.restoreFilterAsync();
+            }
+        });
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
     }
 
@@ -147,10 +170,31 @@ public class MainWindow extends UiPart<Stage> {
         }
     }
 
+    /**
+     * Switches between the list of application cards and the sortable table of applications.
+     * The table is only created the first time it is shown.
+     */
+    @FXML
+    public void handleToggleTableView() {
+        personListPanelPlaceholder.getChildren().clear();
+        if (tableViewMenuItem.isSelected()) {
+            if (applicationTablePanel == null) {
+                applicationTablePanel = new ApplicationTablePanel(logic.getFilteredApplicationList());
+            }
+            personListPanelPlaceholder.getChildren().add(applicationTablePanel.getRoot());
+        } else {
+            personListPanelPlaceholder.getChildren().add(applicationListPanel.getRoot());
+        }
+    }
+
     void show() {
         primaryStage.show();
     }
 
+    void showFeedback(String feedback) {
+        resultDisplay.setFeedbackToUser(feedback);
+    }
+
     /**
      * Closes the application.
      */
@@ -168,14 +212,17 @@ public class MainWindow extends UiPart<Stage> {
     }
 
     /**
-     * Executes the command and returns the result.
+     * Executes the command off the JavaFX application thread and shows its result once it completes.
      *
-     * @see seedu.address.logic.Logic#execute(String)
+     * @see seedu.address.logic.Logic#executeAsync(String)
      */
-    private CommandResult executeCommand(String commandText) throws CommandException, ParseException {
-        try {
-            CommandResult commandResult = logic.execute(commandText);
-            logger.info("Result: " + commandResult.getFeedbackToUser());
+    private CompletableFuture<CommandResult> executeCommand(String commandText) {
+        return logic.executeAsync(commandText).whenComplete((commandResult, error) -> {
+            if (error != null) {
+                handleCommandFailure(commandText, error);
+                return;
+            }
+            logger.info(() -> "Result: " + commandResult.getFeedbackToUser());
             resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
 
             if (commandResult.isShowHelp()) {
@@ -185,12 +232,16 @@ public class MainWindow extends UiPart<Stage> {
             if (commandResult.isExit()) {
                 handleExit();
             }
+        });
+    }
 
-            return commandResult;
-        } catch (CommandException | ParseException e) {
-            logger.info("Invalid command: " + commandText);
-            resultDisplay.setFeedbackToUser(e.getMessage());
-            throw e;
+    private void handleCommandFailure(String commandText, Throwable error) {
+        if (error instanceof CommandException || error instanceof ParseException) {
+            logger.info(() -> "Invalid command: " + commandText);
+            resultDisplay.setFeedbackToUser(error.getMessage());
+        } else {
+            logger.severe("Unexpected error while executing " + commandText + ": " + StringUtil.getDetails(error));
+            resultDisplay.setFeedbackToUser(String.valueOf(error));
         }
     }
 }
@@ -16,6 +16,8 @@ public class StatusBarFooter extends UiPart<Region> {
 
     @FXML
     private Label saveLocationStatus;
+    @FXML
+    private Label backgroundTaskStatus;
 
     /**
      * Creates a {@code StatusBarFooter} with the given {@code Path}.
@@ -25,4 +27,11 @@ public class StatusBarFooter extends UiPart<Region> {
         saveLocationStatus.setText(Paths.get(".").resolve(saveLocation).toString());
     }
 
+    /**
+     * Shows {@code status}, the progress of a task running in the background, or nothing if it is empty.
+     */
+    public void setBackgroundTaskStatus(String status) {
+        backgroundTaskStatus.setText(status);
+    }
+
 }
@@ -0,0 +1,58 @@
+package seedu.address.ui;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+
+import javafx.scene.Node;
+import javafx.scene.control.Label;
+
+/**
+ * A bounded pool of {@code Label}s for displaying tags, so that cards can reuse tag labels instead of creating
+ * new ones whenever they are rebound to another application.
+ * Must only be used on the JavaFX application thread.
+ */
+public class TagLabelPool {
+
+    static final int DEFAULT_CAPACITY = 256;
+
+    private final Deque<Label> labels = new ArrayDeque<>();
+    private final int capacity;
+
+    public TagLabelPool() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a {@code TagLabelPool} that keeps at most {@code capacity} released labels.
+     */
+    public TagLabelPool(int capacity) {
+        this.capacity = capacity;
+    }
+
+    /**
+     * Returns a label showing {@code text}, reusing a released label if there is one.
+     */
+    public Label acquire(String text) {
+        Label label = labels.poll();
+        if (label == null) {
+            return new Label(text);
+        }
+        label.setText(text);
+        return label;
+    }
+
+    /**
+     * Returns the labels among {@code nodes} to the pool. The labels must no longer be part of a scene graph.
+     */
+    public void release(Collection<? extends Node> nodes) {
+        for (Node node : nodes) {
+            if (labels.size() >= capacity) {
+                return;
+            }
+            if (node instanceof Label) {
+                labels.push((Label) node);
+            }
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package seedu.address.ui;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.logging.Logger;
 
 import javafx.application.Platform;
@@ -21,6 +23,9 @@ public class UiManager implements Ui {
 
     private static final Logger logger = LogsCenter.getLogger(UiManager.class);
     private static final String ICON_APPLICATION = "/images/address_book_32.png";
+    private static final List<String> FXML_FILES = List.of("MainWindow.fxml", "ApplicationListPanel.fxml",
+            "ApplicationListCard.fxml", "ApplicationTablePanel.fxml", "ResultDisplay.fxml", "StatusBarFooter.fxml",
+            "CommandBox.fxml", "HelpWindow.fxml");
 
     private Logic logic;
     private MainWindow mainWindow;
@@ -33,6 +38,14 @@ public class UiManager implements Ui {
         this.logic = logic;
     }
 
+    /**
+     * Prepares the FXML files of all UI parts in the background, so that the UI starts faster.
+     * @see UiPart#prewarm(java.util.Collection)
+     */
+    public static CompletableFuture<Void> prewarm() {
+        return UiPart.prewarm(FXML_FILES);
+    }
+
     @Override
     public void start(Stage primaryStage) {
         logger.info("Starting UI...");
@@ -51,6 +64,13 @@ public class UiManager implements Ui {
         }
     }
 
+    @Override
+    public void showFeedback(String feedback) {
+        if (mainWindow != null) {
+            mainWindow.showFeedback(feedback);
+        }
+    }
+
     private Image getImage(String imagePath) {
         return new Image(MainApp.class.getResourceAsStream(imagePath));
     }
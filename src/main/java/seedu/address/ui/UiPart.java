@@ -2,22 +2,47 @@ package seedu.address.ui;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Logger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import javafx.fxml.FXMLLoader;
+import javafx.fxml.JavaFXBuilderFactory;
+import javafx.util.BuilderFactory;
 import seedu.address.MainApp;
+import seedu.address.commons.core.LogsCenter;
 
 /**
  * Represents a distinct part of the UI. e.g. Windows, dialogs, panels, status bars, etc.
  * It contains a scene graph with a root node of type {@code T}.
+ * The contents of FXML files are cached after they are first read, and all UiParts created on the same thread
+ * share one builder factory, so creating many instances of the same UiPart only parses the FXML from memory.
  */
 public abstract class UiPart<T> {
 
     /** Resource folder where FXML files are stored. */
     public static final String FXML_FILE_FOLDER = "/view/";
 
-    private final FXMLLoader fxmlLoader = new FXMLLoader();
+    private static final Logger logger = LogsCenter.getLogger(UiPart.class);
+    private static final Pattern IMPORT_PATTERN = Pattern.compile("<\\?import\\s+([\\w.]+)\\s*\\?>");
+    /** Contents of the FXML files read so far, keyed by the external form of their URL. */
+    private static final Map<String, byte[]> FXML_CACHE = new ConcurrentHashMap<>();
+    /** Shared by the loaders on each thread so that its lookups are only done once, as it is not thread-safe. */
+    private static final ThreadLocal<BuilderFactory> BUILDER_FACTORY =
+            ThreadLocal.withInitial(JavaFXBuilderFactory::new);
+
+    private final FXMLLoader fxmlLoader = new FXMLLoader(null, null, BUILDER_FACTORY.get(), null,
+            StandardCharsets.UTF_8);
 
     /**
      * Constructs a UiPart with the specified FXML file URL.
@@ -68,13 +93,55 @@ public abstract class UiPart<T> {
         fxmlLoader.setLocation(location);
         fxmlLoader.setController(this);
         fxmlLoader.setRoot(root);
-        try {
-            fxmlLoader.load();
-        } catch (IOException e) {
+        try (InputStream fxml = new ByteArrayInputStream(readFxmlFile(location))) {
+            fxmlLoader.load(fxml);
+        } catch (IOException | UncheckedIOException e) {
             throw new AssertionError(e);
         }
     }
 
+    /**
+     * Returns the contents of the FXML document at {@code location}, reading it only if it is not yet cached.
+     * @throws UncheckedIOException if the document cannot be read.
+     */
+    private static byte[] readFxmlFile(URL location) {
+        return FXML_CACHE.computeIfAbsent(location.toExternalForm(), unused -> {
+            try (InputStream in = location.openStream()) {
+                return in.readAllBytes();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    /**
+     * Reads the given FXML files within {@link #FXML_FILE_FOLDER} into the cache and loads the classes they
+     * import, on a background thread, so that the first UiParts using them are created faster.
+     * The classes are not initialized, as the static initializers of JavaFX controls must run on the JavaFX
+     * thread. Files that cannot be read are skipped.
+     */
+    public static CompletableFuture<Void> prewarm(Collection<String> fxmlFileNames) {
+        requireNonNull(fxmlFileNames);
+        return CompletableFuture.runAsync(() -> fxmlFileNames.forEach(UiPart::prewarm));
+    }
+
+    private static void prewarm(String fxmlFileName) {
+        URL location = MainApp.class.getResource(FXML_FILE_FOLDER + fxmlFileName);
+        if (location == null) {
+            logger.warning("Cannot prewarm missing FXML file " + fxmlFileName);
+            return;
+        }
+        try {
+            String fxml = new String(readFxmlFile(location), StandardCharsets.UTF_8);
+            Matcher imports = IMPORT_PATTERN.matcher(fxml);
+            while (imports.find()) {
+                Class.forName(imports.group(1), false, UiPart.class.getClassLoader());
+            }
+        } catch (RuntimeException | ClassNotFoundException | LinkageError e) {
+            logger.fine("Failed to prewarm " + fxmlFileName + ": " + e);
+        }
+    }
+
     /**
      * Returns the FXML file URL for the specified FXML file name within {@link #FXML_FILE_FOLDER}.
      */
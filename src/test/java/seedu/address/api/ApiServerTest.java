@@ -0,0 +1,120 @@
+package seedu.address.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalApplications.getTypicalInternship;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.core.Messages;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.JsonInternshipStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+
+public class ApiServerTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private Model model = new ModelManager(getTypicalInternship(), new UserPrefs());
+    private ApiServer apiServer;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        StorageManager storage = new StorageManager(
+                new JsonInternshipStorage(temporaryFolder.resolve("internship.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        Config config = new Config();
+        config.setApiServerPort(0);
+        config.setApiServerThreads(2);
+        apiServer = new ApiServer(new LogicManager(model, storage), config);
+        apiServer.start();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        apiServer.stop();
+    }
+
+    @Test
+    public void applications_get_returnsFilteredList() throws IOException {
+        HttpURLConnection connection = open(ApiServer.APPLICATIONS_PATH, "GET");
+        assertEquals(ApiServer.HTTP_OK, connection.getResponseCode());
+        String body = read(connection.getInputStream());
+        assertTrue(body.contains("\"company\" : \"Amazon\""));
+        assertTrue(body.contains("\"company\" : \"Grab\""));
+    }
+
+    @Test
+    public void summary_get_returnsCounts() throws IOException {
+        HttpURLConnection connection = open(ApiServer.SUMMARY_PATH, "GET");
+        assertEquals(ApiServer.HTTP_OK, connection.getResponseCode());
+        assertTrue(read(connection.getInputStream()).contains("\"total\" : 3"));
+    }
+
+    @Test
+    public void execute_validCommand_returnsFeedback() throws IOException {
+        HttpURLConnection connection = post(ApiServer.EXECUTE_PATH, ListCommand.COMMAND_WORD);
+        assertEquals(ApiServer.HTTP_OK, connection.getResponseCode());
+        assertTrue(read(connection.getInputStream()).contains(ListCommand.MESSAGE_SUCCESS));
+    }
+
+    @Test
+    public void execute_deleteCommand_updatesModel() throws IOException {
+        HttpURLConnection connection = post(ApiServer.EXECUTE_PATH, "delete 1");
+        assertEquals(ApiServer.HTTP_OK, connection.getResponseCode());
+        assertEquals(2, model.getInternship().getApplicationList().size());
+    }
+
+    @Test
+    public void execute_unknownCommand_returnsBadRequest() throws IOException {
+        HttpURLConnection connection = post(ApiServer.EXECUTE_PATH, "unknownCommand");
+        assertEquals(ApiServer.HTTP_BAD_REQUEST, connection.getResponseCode());
+        assertTrue(read(connection.getErrorStream()).contains(Messages.MESSAGE_UNKNOWN_COMMAND));
+    }
+
+    @Test
+    public void execute_wrongMethod_returnsMethodNotAllowed() throws IOException {
+        HttpURLConnection connection = open(ApiServer.EXECUTE_PATH, "GET");
+        assertEquals(ApiServer.HTTP_METHOD_NOT_ALLOWED, connection.getResponseCode());
+    }
+
+    private HttpURLConnection open(String path, String method) throws IOException {
+        URL url = new URL("http", "127.0.0.1", apiServer.getPort(), path);
+        HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+        connection.setRequestMethod(method);
+        return connection;
+    }
+
+    private HttpURLConnection post(String path, String body) throws IOException {
+        HttpURLConnection connection = open(path, "POST");
+        connection.setDoOutput(true);
+        try (OutputStream out = connection.getOutputStream()) {
+            out.write(body.getBytes(StandardCharsets.UTF_8));
+        }
+        return connection;
+    }
+
+    private static String read(InputStream in) throws IOException {
+        try (in) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package seedu.address.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class AsyncLogHandlerTest {
+
+    private final RecordingHandler delegate = new RecordingHandler();
+    private AsyncLogHandler handler;
+
+    @AfterEach
+    public void tearDown() {
+        delegate.release();
+        if (handler != null) {
+            handler.close();
+        }
+    }
+
+    @Test
+    public void publish_flush_recordsWrittenInOrder() {
+        delegate.release();
+        handler = new AsyncLogHandler(16, Level.WARNING, List.of(delegate));
+        for (int i = 0; i < 10; i++) {
+            handler.publish(new LogRecord(Level.INFO, "message " + i));
+        }
+        handler.flush();
+
+        assertEquals(10, delegate.records.size());
+        for (int i = 0; i < 10; i++) {
+            assertEquals("message " + i, delegate.records.get(i).getMessage());
+        }
+        assertTrue(delegate.isFlushed);
+    }
+
+    @Test
+    public void publish_belowLevel_notWritten() {
+        delegate.release();
+        handler = new AsyncLogHandler(16, Level.WARNING, List.of(delegate));
+        handler.setLevel(Level.INFO);
+        handler.publish(new LogRecord(Level.FINE, "hidden"));
+        handler.publish(new LogRecord(Level.INFO, "shown"));
+        handler.flush();
+
+        assertEquals(List.of("shown"), delegate.getMessages());
+    }
+
+    @Test
+    public void publish_queueFull_dropsAndReportsRecordsBelowBlockingLevel() throws Exception {
+        handler = new AsyncLogHandler(2, Level.WARNING, List.of(delegate));
+        handler.publish(new LogRecord(Level.INFO, "taken by writer"));
+        assertTrue(delegate.started.await(5, TimeUnit.SECONDS));
+
+        for (int i = 0; i < 5; i++) {
+            handler.publish(new LogRecord(Level.INFO, "queued " + i));
+        }
+        assertEquals(3, handler.getDroppedCount());
+
+        delegate.release();
+        handler.flush();
+
+        List<String> messages = delegate.getMessages();
+        assertEquals(4, messages.size());
+        assertTrue(messages.containsAll(List.of("taken by writer", "queued 0", "queued 1")));
+        assertTrue(messages.stream().anyMatch(message -> message.startsWith("Dropped 3 log records")));
+        assertEquals(0, handler.getDroppedCount());
+    }
+
+    @Test
+    public void publish_queueFull_waitsForRecordsAtBlockingLevel() throws Exception {
+        handler = new AsyncLogHandler(1, Level.WARNING, List.of(delegate));
+        handler.publish(new LogRecord(Level.INFO, "taken by writer"));
+        assertTrue(delegate.started.await(5, TimeUnit.SECONDS));
+
+        Thread logger = new Thread(() -> {
+            for (int i = 0; i < 3; i++) {
+                handler.publish(new LogRecord(Level.SEVERE, "severe " + i));
+            }
+        });
+        logger.start();
+        logger.join(100);
+        assertTrue(logger.isAlive());
+
+        delegate.release();
+        logger.join(5000);
+        handler.flush();
+
+        assertEquals(List.of("taken by writer", "severe 0", "severe 1", "severe 2"), delegate.getMessages());
+        assertEquals(0, handler.getDroppedCount());
+    }
+
+    @Test
+    public void close_writesQueuedRecordsAndIgnoresLaterOnes() {
+        handler = new AsyncLogHandler(16, Level.WARNING, List.of(delegate));
+        handler.publish(new LogRecord(Level.INFO, "before close"));
+        delegate.release();
+        handler.close();
+        handler.publish(new LogRecord(Level.SEVERE, "after close"));
+        handler.close();
+
+        assertEquals(List.of("before close"), delegate.getMessages());
+        assertTrue(delegate.isClosed);
+    }
+
+    /**
+     * A handler that keeps the records published to it, and does not return from the first publish until released.
+     */
+    private static class RecordingHandler extends Handler {
+        private final List<LogRecord> records = new CopyOnWriteArrayList<>();
+        private final CountDownLatch started = new CountDownLatch(1);
+        private final CountDownLatch released = new CountDownLatch(1);
+        private volatile boolean isFlushed;
+        private volatile boolean isClosed;
+
+        void release() {
+            released.countDown();
+        }
+
+        List<String> getMessages() {
+            return records.stream().map(LogRecord::getMessage).collect(Collectors.toList());
+        }
+
+        @Override
+        public void publish(LogRecord record) {
+            records.add(record);
+            started.countDown();
+            try {
+                released.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        @Override
+        public void flush() {
+            isFlushed = true;
+        }
+
+        @Override
+        public void close() {
+            isClosed = true;
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package seedu.address.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+public class StartupTimerTest {
+
+    private final StartupTimer timer = new StartupTimer();
+
+    @Test
+    public void time_phases_recordedInOrder() {
+        assertEquals("config", timer.time("config", () -> "config"));
+        timer.run("prefs", () -> { });
+        timer.record("data load", TimeUnit.MILLISECONDS.toNanos(12));
+
+        Map<String, Long> phases = timer.getPhaseNanos();
+        assertEquals(List.of("config", "prefs", "data load"), List.copyOf(phases.keySet()));
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(12), phases.get("data load"));
+        assertTrue(timer.getElapsedNanos() >= phases.get("config"));
+    }
+
+    @Test
+    public void time_phaseThrows_stillRecorded() {
+        assertThrows(IllegalStateException.class, () -> timer.time("config", () -> {
+            throw new IllegalStateException();
+        }));
+        assertTrue(timer.getPhaseNanos().containsKey("config"));
+    }
+
+    @Test
+    public void record_samePhaseTwice_durationsAdded() {
+        timer.record("ui", 1_000_000);
+        timer.record("ui", 2_000_000);
+        assertEquals(Map.of("ui", 3_000_000L), timer.getPhaseNanos());
+    }
+
+    @Test
+    public void format_phases_listsMillisecondsAndTotal() {
+        timer.record("config", TimeUnit.MILLISECONDS.toNanos(12));
+        timer.record("prefs", TimeUnit.MILLISECONDS.toNanos(3));
+        String formatted = timer.format();
+        assertTrue(formatted.startsWith("config 12 ms, prefs 3 ms; "), formatted);
+        assertTrue(formatted.endsWith(" ms since startup"), formatted);
+    }
+}
@@ -0,0 +1,92 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class CompressionTest {
+
+    private static final byte[] CONTENT = "{\"company\":\"Shopee\"}\n".repeat(1000).getBytes(StandardCharsets.UTF_8);
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void newOutputStream_gzip_compressedAndReadBack() throws Exception {
+        Path file = testFolder.resolve("data.json.gz");
+        write(Compression.gzip(Compression.DEFAULT_LEVEL), file);
+
+        assertTrue(Compression.isCompressed(file));
+        assertTrue(Files.size(file) < CONTENT.length / 10);
+        assertEquals(new String(CONTENT, StandardCharsets.UTF_8), read(file));
+    }
+
+    @Test
+    public void newOutputStream_none_writtenAsIs() throws Exception {
+        Path file = testFolder.resolve("data.json");
+        write(Compression.NONE, file);
+
+        assertFalse(Compression.isCompressed(file));
+        assertEquals(new String(CONTENT, StandardCharsets.UTF_8), Files.readString(file));
+        assertEquals(new String(CONTENT, StandardCharsets.UTF_8), read(file));
+    }
+
+    @Test
+    public void newOutputStream_higherLevel_smallerFile() throws Exception {
+        Path fastest = testFolder.resolve("fastest.gz");
+        Path smallest = testFolder.resolve("smallest.gz");
+        write(Compression.gzip(0), fastest);
+        write(Compression.gzip(9), smallest);
+
+        assertTrue(Files.size(smallest) < Files.size(fastest));
+        assertEquals(read(fastest), read(smallest));
+    }
+
+    @Test
+    public void newInputStream_shortFiles_readAsIs() throws Exception {
+        Path file = testFolder.resolve("short.json");
+        for (String content : new String[] {"", "x"}) {
+            Files.writeString(file, content);
+            assertFalse(Compression.isCompressed(file));
+            assertEquals(content, read(file));
+        }
+    }
+
+    @Test
+    public void gzip_invalidLevel_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, Compression.MESSAGE_CONSTRAINTS, () -> Compression.gzip(-1));
+        assertThrows(IllegalArgumentException.class, Compression.MESSAGE_CONSTRAINTS, () -> Compression.gzip(10));
+    }
+
+    @Test
+    public void getUncompressedName() {
+        assertTrue(Compression.hasGzipExtension(Paths.get("data", "internship.ndjson.GZ")));
+        assertEquals(Paths.get("data", "internship.ndjson").toString(),
+                Compression.getUncompressedName(Paths.get("data", "internship.ndjson.gz")));
+        assertFalse(Compression.hasGzipExtension(Paths.get("data", "internship.json")));
+        assertEquals("internship.json", Compression.getUncompressedName(Paths.get("internship.json")));
+    }
+
+    private static void write(Compression compression, Path file) throws Exception {
+        try (OutputStream out = compression.newOutputStream(file)) {
+            out.write(CONTENT);
+        }
+    }
+
+    private static String read(Path file) throws Exception {
+        try (InputStream in = Compression.newInputStream(file)) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
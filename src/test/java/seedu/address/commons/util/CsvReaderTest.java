@@ -0,0 +1,47 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.StringReader;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.DataConversionException;
+
+public class CsvReaderTest {
+
+    @Test
+    public void readRecord_plainFields_splitAtCommas() throws Exception {
+        CsvReader reader = new CsvReader(new StringReader("\uFEFFcompany,position\nShopee, software engineer \n"));
+        assertEquals(List.of("company", "position"), reader.readRecord().get());
+        assertEquals(List.of("Shopee", " software engineer "), reader.readRecord().get());
+        assertEquals(2, reader.getRecordLineNumber());
+        assertTrue(reader.readRecord().isEmpty());
+    }
+
+    @Test
+    public void readRecord_quotedFields_unquoted() throws Exception {
+        CsvReader reader = new CsvReader(new StringReader(
+                "\"Grab, Singapore\",\"say \"\"hi\"\"\",\n\"two\nlines\",x\r\nlast"));
+        assertEquals(List.of("Grab, Singapore", "say \"hi\"", ""), reader.readRecord().get());
+        assertEquals(List.of("two\nlines", "x"), reader.readRecord().get());
+        assertEquals(List.of("last"), reader.readRecord().get());
+        assertEquals(4, reader.getRecordLineNumber());
+    }
+
+    @Test
+    public void readRecord_blankLine_singleEmptyField() throws Exception {
+        CsvReader reader = new CsvReader(new StringReader("\na"));
+        assertEquals(List.of(""), reader.readRecord().get());
+        assertEquals(List.of("a"), reader.readRecord().get());
+    }
+
+    @Test
+    public void readRecord_unterminatedQuote_throwsDataConversionException() {
+        CsvReader reader = new CsvReader(new StringReader("\"never\nclosed"));
+        assertThrows(DataConversionException.class, reader::readRecord);
+    }
+}
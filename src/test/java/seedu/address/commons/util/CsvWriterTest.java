@@ -0,0 +1,29 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class CsvWriterTest {
+
+    @Test
+    public void writeRecord_specialCharacters_quotedAndReadBack() throws Exception {
+        List<String> plain = List.of("Shopee", "software engineer", "");
+        List<String> special = List.of("Grab, Singapore", "say \"hi\"", "two\nlines");
+        StringWriter output = new StringWriter();
+        try (CsvWriter writer = new CsvWriter(output)) {
+            writer.writeRecord(plain);
+            writer.writeRecord(special);
+        }
+
+        assertEquals("Shopee,software engineer,\n\"Grab, Singapore\",\"say \"\"hi\"\"\",\"two\nlines\"\n",
+                output.toString());
+        CsvReader reader = new CsvReader(new StringReader(output.toString()));
+        assertEquals(plain, reader.readRecord().get());
+        assertEquals(special, reader.readRecord().get());
+    }
+}
@@ -0,0 +1,49 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalApplications.getTypicalInternship;
+
+import java.lang.management.ManagementFactory;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+
+public class JmxUtilTest {
+
+    private final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+
+    @Test
+    public void register_mxBean_attributesReadable() throws Exception {
+        ModelManager model = new ModelManager(getTypicalInternship(), new UserPrefs());
+        ObjectName name = JmxUtil.register(model, "JmxUtilTest").get();
+        try {
+            assertEquals(JmxUtil.DOMAIN, name.getDomain());
+            assertEquals(3, server.getAttribute(name, "ApplicationCount"));
+        } finally {
+            JmxUtil.unregister(name);
+        }
+        assertFalse(server.isRegistered(name));
+    }
+
+    @Test
+    public void register_sameTypeTwice_replacesBean() throws Exception {
+        ObjectName name = JmxUtil.register(new ModelManager(), "JmxUtilTest").get();
+        JmxUtil.register(new ModelManager(getTypicalInternship(), new UserPrefs()), "JmxUtilTest");
+        try {
+            assertEquals(3, server.getAttribute(name, "ApplicationCount"));
+        } finally {
+            JmxUtil.unregister(name);
+        }
+    }
+
+    @Test
+    public void register_notAnMBean_returnsEmpty() {
+        assertTrue(JmxUtil.register(new Object(), "JmxUtilTest").isEmpty());
+    }
+}
@@ -0,0 +1,97 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+
+public class LatencyHistogramTest {
+
+    private final LatencyHistogram histogram = new LatencyHistogram();
+
+    @Test
+    public void getPercentile_empty_returnsZero() {
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getPercentile(50));
+        assertEquals(0, histogram.getMax());
+        assertEquals(0, histogram.getMean());
+    }
+
+    @Test
+    public void getPercentile_invalidPercentile_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> histogram.getPercentile(-1));
+        assertThrows(IllegalArgumentException.class, () -> histogram.getPercentile(100.5));
+        assertThrows(IllegalArgumentException.class, () -> histogram.getPercentile(Double.NaN));
+    }
+
+    @Test
+    public void getPercentile_smallValues_exact() {
+        for (int i = 1; i <= 10; i++) {
+            histogram.record(i);
+        }
+        assertEquals(5, histogram.getPercentile(50));
+        assertEquals(10, histogram.getPercentile(100));
+        assertEquals(1, histogram.getPercentile(0));
+        assertEquals(5, histogram.getMean());
+    }
+
+    @Test
+    public void getPercentile_largeValues_withinRelativeError() {
+        for (long i = 1; i <= 1000; i++) {
+            histogram.record(i * 1_000_000);
+        }
+        assertWithinResolution(500_000_000, histogram.getPercentile(50));
+        assertWithinResolution(990_000_000, histogram.getPercentile(99));
+        assertEquals(1_000_000_000, histogram.getPercentile(100));
+        assertEquals(1_000_000_000, histogram.getMax());
+    }
+
+    @Test
+    public void record_negative_recordedAsZero() {
+        histogram.record(-5);
+        assertEquals(0, histogram.getMax());
+        assertEquals(1, histogram.getCount());
+    }
+
+    @Test
+    public void bucketOf_highestValueIn_consistent() {
+        long[] values = {0, 15, 16, 17, 31, 32, 1000, 123_456_789, Long.MAX_VALUE};
+        for (long value : values) {
+            int bucket = LatencyHistogram.bucketOf(value);
+            assertTrue(value <= LatencyHistogram.highestValueIn(bucket));
+            assertTrue(bucket == 0 || value > LatencyHistogram.highestValueIn(bucket - 1));
+        }
+        assertEquals(Long.MAX_VALUE, LatencyHistogram.highestValueIn(LatencyHistogram.bucketOf(Long.MAX_VALUE)));
+    }
+
+    @Test
+    public void record_concurrentThreads_allCounted() throws Exception {
+        ExecutorService threads = Executors.newFixedThreadPool(4);
+        List<Future<?>> results = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            results.add(threads.submit(() -> {
+                for (int j = 0; j < 10_000; j++) {
+                    histogram.record(j);
+                }
+            }));
+        }
+        for (Future<?> result : results) {
+            result.get();
+        }
+        threads.shutdown();
+        assertEquals(40_000, histogram.getCount());
+        assertEquals(9_999, histogram.getMax());
+    }
+
+    private static void assertWithinResolution(long expected, long actual) {
+        assertTrue(actual >= expected && actual <= expected + expected / LatencyHistogram.SUB_BUCKETS,
+                "Expected about " + expected + " but was " + actual);
+    }
+}
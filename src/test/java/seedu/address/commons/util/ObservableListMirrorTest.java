@@ -0,0 +1,56 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Queue;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+public class ObservableListMirrorTest {
+
+    private final Queue<Runnable> pendingNotifications = new ArrayDeque<>();
+    private final ObservableList<String> source = FXCollections.observableArrayList("a", "b", "c");
+    private final ObservableListMirror<String> mirror = new ObservableListMirror<>(source, pendingNotifications::add);
+
+    @Test
+    public void constructor_copiesSource() {
+        assertEquals(source, mirror.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void sourceChanged_notificationsPending_mirrorUnchanged() {
+        source.add("d");
+        source.remove("a");
+        assertEquals(List.of("a", "b", "c"), mirror.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void sourceChanged_notificationsRun_mirrorMatchesSource() {
+        source.add("d");
+        source.set(0, "z");
+        source.remove(1, 3);
+        source.add(1, "y");
+        source.setAll("p", "q");
+        source.add(0, "o");
+        source.sort(null);
+        runPendingNotifications();
+        assertEquals(source, mirror.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void asUnmodifiableObservableList_modify_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, () -> mirror.asUnmodifiableObservableList().remove(0));
+    }
+
+    private void runPendingNotifications() {
+        while (!pendingNotifications.isEmpty()) {
+            pendingNotifications.remove().run();
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class PersistentVectorTest {
+
+    @Test
+    public void empty_isEmpty() {
+        assertTrue(PersistentVector.empty().isEmpty());
+        assertEquals(0, PersistentVector.empty().size());
+    }
+
+    @Test
+    public void of_copiesElementsInOrder() {
+        List<Integer> elements = List.of(1, 2, 3, 4, 5);
+        assertEquals(elements, PersistentVector.of(elements).asList());
+    }
+
+    @Test
+    public void of_nullElement_throwsNullPointerException() {
+        List<Integer> elements = new ArrayList<>();
+        elements.add(null);
+        assertThrows(NullPointerException.class, () -> PersistentVector.of(elements));
+    }
+
+    @Test
+    public void get_invalidIndex_throwsIndexOutOfBoundsException() {
+        PersistentVector<Integer> vector = PersistentVector.of(List.of(1, 2));
+        assertThrows(IndexOutOfBoundsException.class, () -> vector.get(2));
+        assertThrows(IndexOutOfBoundsException.class, () -> vector.get(-1));
+    }
+
+    @Test
+    public void modify_previousVersionsUnchanged() {
+        PersistentVector<String> original = PersistentVector.of(List.of("a", "b", "c"));
+        PersistentVector<String> modified = original.set(1, "x").insert(0, "y").remove(3).append("z");
+        assertEquals(List.of("a", "b", "c"), original.asList());
+        assertEquals(List.of("y", "a", "x", "z"), modified.asList());
+    }
+
+    @Test
+    public void randomOperations_behaveLikeArrayList() {
+        Random random = new Random(2103);
+        List<Integer> expected = new ArrayList<>();
+        PersistentVector<Integer> vector = PersistentVector.empty();
+        for (int i = 0; i < 5000; i++) {
+            int operation = random.nextInt(4);
+            if (operation == 0 || expected.isEmpty()) {
+                int index = random.nextInt(expected.size() + 1);
+                expected.add(index, i);
+                vector = vector.insert(index, i);
+            } else if (operation == 1) {
+                int index = random.nextInt(expected.size());
+                expected.remove(index);
+                vector = vector.remove(index);
+            } else if (operation == 2) {
+                int index = random.nextInt(expected.size());
+                expected.set(index, -i);
+                vector = vector.set(index, -i);
+            } else {
+                expected.add(i);
+                vector = vector.append(i);
+            }
+        }
+        assertEquals(expected, vector.asList());
+        assertEquals(expected.size(), vector.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), vector.get(i));
+        }
+    }
+
+    @Test
+    public void asList_modify_throwsUnsupportedOperationException() {
+        PersistentVector<Integer> vector = PersistentVector.of(List.of(1));
+        assertThrows(UnsupportedOperationException.class, () -> vector.asList().remove(0));
+    }
+}
@@ -0,0 +1,51 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.logic.CommandStatistics.Phase;
+
+public class CommandStatisticsTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final CommandStatistics statistics = new CommandStatistics();
+
+    @Test
+    public void format_noCommands_returnsMessage() {
+        assertEquals(CommandStatistics.MESSAGE_NO_COMMANDS, statistics.format());
+    }
+
+    @Test
+    public void record_perCommandWordAndPhase() {
+        statistics.record("add", Phase.PARSE, 1_000);
+        statistics.record("add", Phase.PARSE, 3_000);
+        statistics.record("list", Phase.EXECUTE, 2_000_000);
+
+        assertEquals(2, statistics.getHistogram("add", Phase.PARSE).getCount());
+        assertEquals(0, statistics.getHistogram("add", Phase.EXECUTE).getCount());
+        assertEquals(0, statistics.getHistogram("delete", Phase.PARSE).getCount());
+        assertEquals(3, statistics.getRecordCount());
+
+        String table = statistics.format();
+        assertTrue(table.contains("add"));
+        assertTrue(table.contains("list"));
+        assertTrue(table.contains("2.000"));
+        assertTrue(table.indexOf("add") < table.indexOf("list"));
+    }
+
+    @Test
+    public void writeTo_writesTable() throws Exception {
+        statistics.record("add", Phase.SAVE, 1_000);
+        Path file = temporaryFolder.resolve("stats").resolve("commandstats.txt");
+        statistics.writeTo(file);
+        assertEquals(statistics.format(), FileUtil.readFromFile(file));
+    }
+}
@@ -1,6 +1,8 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_APPLICATION_DISPLAYED_INDEX;
 import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.DEADLINE_DESC_AMAZON;
@@ -10,22 +12,40 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalApplications.AMAZON;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.ExportCommand;
+import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.logic.trace.TraceEntry;
+import seedu.address.logic.trace.TraceReplayer;
+import seedu.address.model.Internship;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyInternship;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.application.Application;
+import seedu.address.model.util.SyntheticDataGenerator;
 import seedu.address.storage.JsonInternshipStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.StorageManager;
@@ -86,6 +106,188 @@ public class LogicManagerTest {
         assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void executeAsync_validCommand_completesWithResult() throws Exception {
+        CommandResult result = logic.executeAsync(ListCommand.COMMAND_WORD).get(1, TimeUnit.MINUTES);
+        assertEquals(ListCommand.MESSAGE_EMPTY_LIST, result.getFeedbackToUser());
+    }
+
+    @Test
+    public void executeAsync_commandsSubmittedInOrder_executedInOrder() throws Exception {
+        String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMAZON + POSITION_DESC_AMAZON + DEADLINE_DESC_AMAZON;
+        CompletableFuture<CommandResult> add = logic.executeAsync(addCommand);
+        CompletableFuture<CommandResult> delete = logic.executeAsync("delete 1");
+        delete.get(1, TimeUnit.MINUTES);
+        assertTrue(add.isDone());
+        assertEquals(0, model.getInternship().getApplicationList().size());
+    }
+
+    @Test
+    public void executeAsync_invalidCommand_completesExceptionally() throws Exception {
+        CompletableFuture<CommandResult> result = logic.executeAsync("uicfhmowqewca");
+        assertThrows(ExecutionException.class, () -> result.get(1, TimeUnit.MINUTES));
+        Throwable error = result.handle((unused, e) -> e).join();
+        assertTrue(error instanceof ParseException);
+        assertEquals(MESSAGE_UNKNOWN_COMMAND, error.getMessage());
+    }
+
+    @Test
+    public void executeAsync_afterShutdown_completesExceptionally() {
+        logic.shutdown();
+        assertTrue(logic.executeAsync(ListCommand.COMMAND_WORD).isCompletedExceptionally());
+    }
+
+    @Test
+    public void loadAsync_manyApplications_allAddedBeforeCommandsRun() throws Exception {
+        CountDownLatch readStarted = new CountDownLatch(1);
+        CountDownLatch readReleased = new CountDownLatch(1);
+        List<Application> applications = new ArrayList<>();
+        new SyntheticDataGenerator(1).generate(2500).forEachRemaining(applications::add);
+        CompletableFuture<Integer> load = logic.loadAsync(() -> {
+            readStarted.countDown();
+            try {
+                readReleased.await(1, TimeUnit.MINUTES);
+            } catch (InterruptedException e) {
+                throw new AssertionError(e);
+            }
+            Internship internship = new Internship();
+            internship.setApplications(applications);
+            return internship;
+        });
+        assertTrue(readStarted.await(1, TimeUnit.MINUTES));
+
+        CompletableFuture<CommandResult> list = CompletableFuture.supplyAsync(() -> {
+            try {
+                return logic.execute(ListCommand.COMMAND_WORD);
+            } catch (CommandException | ParseException e) {
+                throw new AssertionError(e);
+            }
+        });
+        Thread.sleep(100);
+        assertFalse(list.isDone());
+
+        readReleased.countDown();
+        assertEquals(applications.size(), load.get(1, TimeUnit.MINUTES));
+        assertEquals(ListCommand.MESSAGE_SUCCESS, list.get(1, TimeUnit.MINUTES).getFeedbackToUser());
+        assertEquals(applications, model.getInternship().getApplicationList());
+        assertFalse(model.canUndoInternship());
+    }
+
+    @Test
+    public void loadAsync_loaderFails_completesExceptionallyAndCommandsRun() throws Exception {
+        RuntimeException failure = new IllegalStateException("unreadable");
+        CompletableFuture<Integer> load = logic.loadAsync(() -> {
+            throw failure;
+        });
+        assertThrows(ExecutionException.class, () -> load.get(1, TimeUnit.MINUTES));
+        assertEquals(ListCommand.MESSAGE_EMPTY_LIST, logic.execute(ListCommand.COMMAND_WORD).getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_exportCommand_backgroundTaskResultNotified() throws Exception {
+        model.addApplication(AMAZON);
+        CompletableFuture<String> exported = new CompletableFuture<>();
+        List<String> progress = new ArrayList<>();
+        logic.setBackgroundTaskListeners(progress::add, exported::complete);
+        Path file = temporaryFolder.resolve("export.ndjson");
+        logic.execute(ExportCommand.COMMAND_WORD + " " + file);
+
+        assertTrue(exported.get(1, TimeUnit.MINUTES).startsWith("Exported 1 applications"));
+        assertTrue(progress.stream().allMatch(message -> message.startsWith("Exporting")));
+        assertEquals(1, Files.readAllLines(file).size());
+    }
+
+    @Test
+    public void filterAsync_keywords_filtersWithoutSaving() throws Exception {
+        model.addApplication(AMAZON);
+        logic.filterAsync(" amazon ").get(1, TimeUnit.MINUTES);
+        assertEquals(1, model.getFilteredApplicationSnapshot().size());
+        logic.filterAsync("xyz").get(1, TimeUnit.MINUTES);
+        assertEquals(0, model.getFilteredApplicationSnapshot().size());
+        logic.filterAsync("").get(1, TimeUnit.MINUTES);
+        assertEquals(1, model.getFilteredApplicationSnapshot().size());
+        assertFalse(Files.exists(temporaryFolder.resolve("internship.json")));
+    }
+
+    @Test
+    public void restoreFilterAsync_afterFind_findResultsShownAgain() throws Exception {
+        model.addApplication(AMAZON);
+        model.addApplication(new ApplicationBuilder(AMAZON).withCompany("Shopee").build());
+        logic.execute(FindCommand.COMMAND_WORD + " amazon");
+        logic.filterAsync("shopee").get(1, TimeUnit.MINUTES);
+        assertEquals(List.of("Shopee"), companiesShown());
+        logic.restoreFilterAsync().get(1, TimeUnit.MINUTES);
+        assertEquals(List.of(AMAZON.getCompany().fullCompanyName), companiesShown());
+    }
+
+    private List<String> companiesShown() {
+        return model.getFilteredApplicationSnapshot().stream()
+                .map(application -> application.getCompany().fullCompanyName)
+                .collect(Collectors.toList());
+    }
+
+    @Test
+    public void execute_commands_phasesRecorded() throws Exception {
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertThrows(ParseException.class, () -> logic.execute("uicfhmowqewca"));
+
+        CommandStatistics statistics = logic.getCommandStatistics();
+        for (CommandStatistics.Phase phase : CommandStatistics.Phase.values()) {
+            assertEquals(1, statistics.getHistogram(ListCommand.COMMAND_WORD, phase).getCount());
+        }
+        assertEquals(1, statistics.getHistogram(CommandStatistics.INVALID_COMMAND_WORD,
+                CommandStatistics.Phase.PARSE).getCount());
+
+        LogicManager logicManager = (LogicManager) logic;
+        assertEquals(2, logicManager.getCommandCount());
+        assertEquals(1, logicManager.getParseFailureCount());
+        assertEquals(0, logicManager.getCommandFailureCount());
+        assertEquals(Map.of(ListCommand.COMMAND_WORD, 1L), logicManager.getCommandCountsByWord());
+    }
+
+    @Test
+    public void execute_flightRecording_emitsCommandEvents() throws Exception {
+        Path recordingPath = temporaryFolder.resolve("recording.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(CommandParseEvent.class);
+            recording.enable(CommandExecuteEvent.class);
+            recording.start();
+            logic.execute(ListCommand.COMMAND_WORD);
+            recording.stop();
+            recording.dump(recordingPath);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(recordingPath);
+        for (String eventName : List.of("seedu.address.CommandParse", "seedu.address.CommandExecute")) {
+            assertTrue(events.stream().anyMatch(event -> event.getEventType().getName().equals(eventName)
+                    && event.getString("commandWord").equals(ListCommand.COMMAND_WORD)
+                    && event.getBoolean("succeeded")));
+        }
+    }
+
+    @Test
+    public void shutdown_statisticsDumpStarted_writesStatistics() throws Exception {
+        Path statisticsFile = temporaryFolder.resolve("commandstats.txt");
+        logic.startStatisticsDump(statisticsFile, 3600);
+        logic.execute(ListCommand.COMMAND_WORD);
+        logic.shutdown();
+        assertEquals(logic.getCommandStatistics().format(), Files.readString(statisticsFile));
+    }
+
+    @Test
+    public void execute_traceRecordingStarted_recordsCommands() throws Exception {
+        Path traceFile = temporaryFolder.resolve("commandtrace.tsv");
+        logic.startTraceRecording(traceFile);
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertThrows(ParseException.class, () -> logic.execute("uicfhmowqewca"));
+        logic.shutdown();
+        logic.execute(ListCommand.COMMAND_WORD); // not recorded after shutdown
+
+        List<TraceEntry> trace = TraceReplayer.readTrace(traceFile);
+        assertEquals(List.of(ListCommand.COMMAND_WORD, "uicfhmowqewca"),
+                trace.stream().map(TraceEntry::getCommandText).collect(Collectors.toList()));
+    }
+
     @Test
     public void getFilteredApplicationList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredApplicationList().remove(0));
@@ -9,6 +9,7 @@ import static seedu.address.testutil.Assert.assertThrows;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -17,6 +18,7 @@ import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Internship;
+import seedu.address.model.InternshipSnapshot;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyInternship;
 import seedu.address.model.ReadOnlyUserPrefs;
@@ -119,11 +121,31 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void addApplications(List<Application> applications) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void loadApplications(InternshipSnapshot source, int from, int to) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ReadOnlyInternship getInternship() {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public InternshipSnapshot getInternshipSnapshot() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Application> getApplicationSnapshot() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasApplication(Application application) {
             throw new AssertionError("This method should not be called.");
@@ -139,15 +161,65 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public boolean canUndoInternship() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canRedoInternship() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void undoInternship() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void redoInternship() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void commitInternship() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void beginTransaction() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void commitTransaction() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Application> getFilteredApplicationList() {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public List<Application> getFilteredApplicationSnapshot() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void updateFilteredApplicationList(Predicate<Application> predicate) {
             throw new AssertionError("This method should not be called.");
         }
+
+        @Override
+        public void updateFilteredApplicationListByKeywords(List<String> keywords) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void restoreFilteredApplicationList() {
+            throw new AssertionError("This method should not be called.");
+        }
     }
 
     /**
@@ -33,6 +33,16 @@ public class CommandResultTest {
 
         // different exit value -> returns false
         assertFalse(commandResult.equals(new CommandResult("feedback", false, true)));
+
+        // background task -> not compared
+        assertTrue(commandResult.equals(new CommandResult("feedback", progress -> "done")));
+    }
+
+    @Test
+    public void getBackgroundTask() throws Exception {
+        assertFalse(new CommandResult("feedback").getBackgroundTask().isPresent());
+        BackgroundTask task = progress -> "done";
+        assertEquals(task, new CommandResult("feedback", task).getBackgroundTask().get());
     }
 
     @Test
@@ -0,0 +1,76 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalApplications.getTypicalInternship;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.application.NameContainsKeywordsPredicate;
+import seedu.address.storage.ApplicationExporter.Format;
+
+public class ExportCommandTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final Model model = new ModelManager(getTypicalInternship(), new UserPrefs());
+
+    @Test
+    public void execute_shownApplications_exportedInBackground() throws Exception {
+        model.updateFilteredApplicationList(new NameContainsKeywordsPredicate(List.of("Amazon")));
+        Path file = temporaryFolder.resolve("shown.csv");
+
+        CommandResult result = new ExportCommand(file, Format.CSV, false).execute(model);
+        assertEquals(String.format(ExportCommand.MESSAGE_STARTED, 1, file), result.getFeedbackToUser());
+        assertFalse(Files.exists(file));
+
+        String message = result.getBackgroundTask().get().run(progress -> {});
+        assertTrue(message.startsWith("Exported 1 applications to " + file), message);
+        assertEquals(2, Files.readAllLines(file).size());
+    }
+
+    @Test
+    public void execute_allApplications_roundTripsThroughImport() throws Exception {
+        model.updateFilteredApplicationList(new NameContainsKeywordsPredicate(List.of("Amazon")));
+        Path file = temporaryFolder.resolve("all.csv");
+        List<String> progress = new ArrayList<>();
+        new ExportCommand(file, Format.CSV, true).execute(model).getBackgroundTask().get().run(progress::add);
+
+        Model imported = new ModelManager();
+        new ImportCommand(file).execute(imported);
+        assertEquals(model.getInternship(), imported.getInternship());
+        assertTrue(progress.isEmpty()); // fewer applications than the progress interval
+    }
+
+    @Test
+    public void execute_unwritableFile_taskFails() {
+        BackgroundTask task = new ExportCommand(temporaryFolder, Format.NDJSON, true).execute(model)
+                .getBackgroundTask().get();
+        assertThrows(CommandException.class, () -> task.run(progress -> {}));
+    }
+
+    @Test
+    public void equals() {
+        ExportCommand exportCommand = new ExportCommand(Path.of("a.csv"), Format.CSV, false);
+
+        assertTrue(exportCommand.equals(exportCommand));
+        assertTrue(exportCommand.equals(new ExportCommand(Path.of("a.csv"), Format.CSV, false)));
+        assertFalse(exportCommand.equals(null));
+        assertFalse(exportCommand.equals(new ExportCommand(Path.of("b.csv"), Format.CSV, false)));
+        assertFalse(exportCommand.equals(new ExportCommand(Path.of("a.csv"), Format.NDJSON, false)));
+        assertFalse(exportCommand.equals(new ExportCommand(Path.of("a.csv"), Format.CSV, true)));
+    }
+}
@@ -0,0 +1,113 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalApplications.getTypicalInternship;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.application.Application;
+import seedu.address.model.application.Deadline;
+import seedu.address.testutil.ApplicationBuilder;
+
+public class ImportCommandTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final Model model = new ModelManager(getTypicalInternship(), new UserPrefs());
+
+    @Test
+    public void execute_validAndInvalidRows_addsValidRowsAndReportsOthers() throws Exception {
+        Path file = writeCsv("Position,Company,Deadline,Status,Completion,Tags",
+                "Data Scientist,Shopee,2022-03-01,,,",
+                "\"Frontend Engineer\",Grab,2022-04-01,Accepted,Completed,\"paid remote\"",
+                "Software Engineer,Amazon,2022-05-01,,,",
+                "Data Scientist,Shopee,2022-06-01,,,",
+                "Frontend Developer,Meta,next week,,,",
+                ",,,,,",
+                "Designer,,2022-07-01,,,");
+        Application shopee = new ApplicationBuilder().withCompany("Shopee").withPosition("Data Scientist")
+                .withDeadline("2022-03-01").build();
+        Application grab = new ApplicationBuilder().withCompany("Grab").withPosition("Frontend Engineer")
+                .withDeadline("2022-04-01").withStatus("Accepted").withCompletion("Completed")
+                .withTags("paid", "remote").build();
+        Model expectedModel = new ModelManager(getTypicalInternship(), new UserPrefs());
+        expectedModel.addApplications(List.of(shopee, grab));
+
+        String expectedMessage = String.format(ImportCommand.MESSAGE_SUCCESS, 2, 4)
+                + "\n" + String.format(ImportCommand.MESSAGE_REJECTED_ROW, 4, ImportCommand.MESSAGE_DUPLICATE_ROW)
+                + "\n" + String.format(ImportCommand.MESSAGE_REJECTED_ROW, 5, ImportCommand.MESSAGE_DUPLICATE_ROW)
+                + "\n" + String.format(ImportCommand.MESSAGE_REJECTED_ROW, 6, Deadline.MESSAGE_CONSTRAINTS)
+                + "\n" + String.format(ImportCommand.MESSAGE_REJECTED_ROW, 8,
+                        String.format(ImportCommand.MESSAGE_MISSING_FIELD, ImportCommand.COLUMN_COMPANY));
+        assertCommandSuccess(new ImportCommand(file), model, expectedMessage, expectedModel);
+
+        // all the imported rows are undone together
+        model.commitInternship();
+        model.undoInternship();
+        assertEquals(getTypicalInternship(), model.getInternship());
+    }
+
+    @Test
+    public void execute_manyRejectedRows_reportsFirstOnes() throws Exception {
+        String[] lines = new String[ImportCommand.MAX_REJECTED_ROWS_SHOWN + 4];
+        lines[0] = "company,position,deadline";
+        for (int i = 1; i < lines.length; i++) {
+            lines[i] = "Shopee,Engineer " + i + ",someday";
+        }
+        CommandResult result = new ImportCommand(writeCsv(lines)).execute(model);
+
+        String feedback = result.getFeedbackToUser();
+        assertTrue(feedback.startsWith(String.format(ImportCommand.MESSAGE_SUCCESS, 0, lines.length - 1)));
+        assertTrue(feedback.endsWith(String.format(ImportCommand.MESSAGE_MORE_REJECTED_ROWS, 3)));
+        assertFalse(feedback.contains(String.format(ImportCommand.MESSAGE_REJECTED_ROW,
+                ImportCommand.MAX_REJECTED_ROWS_SHOWN + 2, Deadline.MESSAGE_CONSTRAINTS)));
+    }
+
+    @Test
+    public void execute_missingColumns_throwsCommandException() throws Exception {
+        Path file = writeCsv("company,role,deadline", "Shopee,Data Scientist,2022-03-01");
+        assertCommandFailure(new ImportCommand(file), model, ImportCommand.MESSAGE_MISSING_COLUMNS);
+    }
+
+    @Test
+    public void execute_emptyFile_throwsCommandException() throws Exception {
+        assertCommandFailure(new ImportCommand(writeCsv()), model, ImportCommand.MESSAGE_EMPTY_FILE);
+    }
+
+    @Test
+    public void execute_missingFile_throwsCommandException() {
+        Path file = temporaryFolder.resolve("missing.csv");
+        assertCommandFailure(new ImportCommand(file), model,
+                String.format(ImportCommand.MESSAGE_FILE_NOT_FOUND, file));
+    }
+
+    @Test
+    public void equals() {
+        ImportCommand importCommand = new ImportCommand(Path.of("a.csv"));
+
+        assertTrue(importCommand.equals(importCommand));
+        assertTrue(importCommand.equals(new ImportCommand(Path.of("a.csv"))));
+        assertFalse(importCommand.equals(null));
+        assertFalse(importCommand.equals(new ImportCommand(Path.of("b.csv"))));
+    }
+
+    private Path writeCsv(String... lines) throws IOException {
+        Path file = temporaryFolder.resolve("applications.csv");
+        Files.write(file, List.of(lines));
+        return file;
+    }
+}
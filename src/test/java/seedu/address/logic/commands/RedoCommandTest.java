@@ -0,0 +1,47 @@
+package seedu.address.logic.commands;
+
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalApplications.AMAZON;
+import static seedu.address.testutil.TypicalApplications.GRAB;
+import static seedu.address.testutil.TypicalApplications.getTypicalInternship;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+
+public class RedoCommandTest {
+
+    @Test
+    public void execute_noUndoneCommand_failure() {
+        Model model = new ModelManager(getTypicalInternship(), new UserPrefs());
+        assertCommandFailure(new RedoCommand(), model, RedoCommand.MESSAGE_FAILURE);
+    }
+
+    @Test
+    public void execute_afterUndo_reappliesChange() {
+        Model model = new ModelManager(getTypicalInternship(), new UserPrefs());
+        model.deleteApplication(AMAZON);
+        model.commitInternship();
+        model.undoInternship();
+
+        Model expectedModel = new ModelManager(getTypicalInternship(), new UserPrefs());
+        expectedModel.deleteApplication(AMAZON);
+        assertCommandSuccess(new RedoCommand(), model, RedoCommand.MESSAGE_SUCCESS, expectedModel);
+        assertCommandFailure(new RedoCommand(), model, RedoCommand.MESSAGE_FAILURE);
+    }
+
+    @Test
+    public void execute_newCommandAfterUndo_failure() {
+        Model model = new ModelManager(getTypicalInternship(), new UserPrefs());
+        model.deleteApplication(AMAZON);
+        model.commitInternship();
+        model.undoInternship();
+        model.deleteApplication(GRAB);
+        model.commitInternship();
+
+        assertCommandFailure(new RedoCommand(), model, RedoCommand.MESSAGE_FAILURE);
+    }
+}
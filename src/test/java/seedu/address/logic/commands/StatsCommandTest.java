@@ -0,0 +1,33 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.CommandStatistics;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+
+public class StatsCommandTest {
+
+    @Test
+    public void execute_showsStatistics() {
+        CommandStatistics statistics = new CommandStatistics();
+        statistics.record("list", CommandStatistics.Phase.EXECUTE, 1_000);
+        Model model = new ModelManager();
+        assertCommandSuccess(new StatsCommand(statistics), model, statistics.format(), new ModelManager());
+    }
+
+    @Test
+    public void equals() {
+        CommandStatistics statistics = new CommandStatistics();
+        StatsCommand statsCommand = new StatsCommand(statistics);
+
+        assertTrue(statsCommand.equals(statsCommand));
+        assertTrue(statsCommand.equals(new StatsCommand(statistics)));
+        assertFalse(statsCommand.equals(new StatsCommand(new CommandStatistics())));
+        assertFalse(statsCommand.equals(null));
+    }
+}
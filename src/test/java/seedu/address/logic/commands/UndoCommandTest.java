@@ -0,0 +1,43 @@
+package seedu.address.logic.commands;
+
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalApplications.AMAZON;
+import static seedu.address.testutil.TypicalApplications.getTypicalInternship;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Internship;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+
+public class UndoCommandTest {
+
+    @Test
+    public void execute_noHistory_failure() {
+        Model model = new ModelManager(getTypicalInternship(), new UserPrefs());
+        assertCommandFailure(new UndoCommand(), model, UndoCommand.MESSAGE_FAILURE);
+    }
+
+    @Test
+    public void execute_afterDelete_restoresApplication() {
+        Model model = new ModelManager(getTypicalInternship(), new UserPrefs());
+        model.deleteApplication(AMAZON);
+        model.commitInternship();
+
+        Model expectedModel = new ModelManager(getTypicalInternship(), new UserPrefs());
+        assertCommandSuccess(new UndoCommand(), model, UndoCommand.MESSAGE_SUCCESS, expectedModel);
+        assertCommandFailure(new UndoCommand(), model, UndoCommand.MESSAGE_FAILURE);
+    }
+
+    @Test
+    public void execute_afterClear_restoresInternship() {
+        Model model = new ModelManager(getTypicalInternship(), new UserPrefs());
+        model.setInternship(new Internship());
+        model.commitInternship();
+
+        Model expectedModel = new ModelManager(getTypicalInternship(), new UserPrefs());
+        assertCommandSuccess(new UndoCommand(), model, UndoCommand.MESSAGE_SUCCESS, expectedModel);
+    }
+}
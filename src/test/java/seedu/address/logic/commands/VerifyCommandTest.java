@@ -0,0 +1,82 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.testutil.TypicalApplications.getTypicalInternship;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.Compression;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.DataFileVerifier;
+import seedu.address.storage.NdjsonInternshipStorage;
+
+public class VerifyCommandTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final Model model = new ModelManager(getTypicalInternship(), new UserPrefs());
+
+    @Test
+    public void execute_intactFile_verifiedInBackground() throws Exception {
+        Path file = saveDataFile();
+
+        CommandResult result = new VerifyCommand().execute(model);
+        assertEquals(String.format(VerifyCommand.MESSAGE_STARTED, file), result.getFeedbackToUser());
+
+        String message = result.getBackgroundTask().get().run(progress -> {});
+        assertTrue(message.startsWith(file + " is intact: "
+                + getTypicalInternship().getApplicationList().size() + " applications"), message);
+    }
+
+    @Test
+    public void execute_compressedFile_verified() throws Exception {
+        Path file = temporaryFolder.resolve("data.ndjson.gz");
+        model.setInternshipFilePath(file);
+        new NdjsonInternshipStorage(file, false, Compression.gzip(Compression.DEFAULT_LEVEL))
+                .saveInternship(model.getInternship());
+
+        String message = new VerifyCommand().execute(model).getBackgroundTask().get().run(progress -> {});
+        assertTrue(message.startsWith(file + " is intact: "), message);
+    }
+
+    @Test
+    public void execute_corruptedFile_reportsProblems() throws Exception {
+        Path file = saveDataFile();
+        List<String> lines = Files.readAllLines(file);
+        Files.write(file, lines.subList(1, lines.size() - 1));
+
+        String message = new VerifyCommand().execute(model).getBackgroundTask().get().run(progress -> {});
+        assertEquals(String.format(VerifyCommand.MESSAGE_DAMAGED, file, 1) + "\n"
+                + DataFileVerifier.MESSAGE_NO_DIGEST, message);
+    }
+
+    @Test
+    public void execute_jsonDataFile_throwsCommandException() {
+        model.setInternshipFilePath(temporaryFolder.resolve("data.json"));
+        assertCommandFailure(new VerifyCommand(), model, VerifyCommand.MESSAGE_NO_CHECKSUMS);
+    }
+
+    @Test
+    public void execute_missingDataFile_throwsCommandException() {
+        Path file = temporaryFolder.resolve("data.ndjson");
+        model.setInternshipFilePath(file);
+        assertCommandFailure(new VerifyCommand(), model, String.format(VerifyCommand.MESSAGE_FILE_NOT_FOUND, file));
+    }
+
+    private Path saveDataFile() throws Exception {
+        Path file = temporaryFolder.resolve("data.ndjson");
+        model.setInternshipFilePath(file);
+        new NdjsonInternshipStorage(file, false).saveInternship(model.getInternship());
+        return file;
+    }
+}
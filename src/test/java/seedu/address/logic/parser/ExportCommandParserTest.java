@@ -0,0 +1,35 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.ExportCommand;
+import seedu.address.storage.ApplicationExporter.Format;
+
+public class ExportCommandParserTest {
+
+    private ExportCommandParser parser = new ExportCommandParser();
+
+    @Test
+    public void parse_filePath_exportsShownApplications() {
+        assertParseSuccess(parser, " shown.csv ", new ExportCommand(Paths.get("shown.csv"), Format.CSV, false));
+        assertParseSuccess(parser, "all.jsonl", new ExportCommand(Paths.get("all.jsonl"), Format.NDJSON, false));
+    }
+
+    @Test
+    public void parse_allAndFilePath_exportsAllApplications() {
+        assertParseSuccess(parser, "all my applications.ndjson",
+                new ExportCommand(Paths.get("my applications.ndjson"), Format.NDJSON, true));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, " ", String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, "all applications.json", ExportCommandParser.MESSAGE_UNKNOWN_FORMAT);
+    }
+}
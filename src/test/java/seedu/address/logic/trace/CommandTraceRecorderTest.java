@@ -0,0 +1,37 @@
+package seedu.address.logic.trace;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class CommandTraceRecorderTest {
+
+    private static final Instant INSTANT = Instant.parse("2021-11-01T10:15:30Z");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void record_appendsToTrace() throws Exception {
+        Path traceFile = testFolder.resolve("data").resolve("trace.tsv");
+        Clock clock = Clock.fixed(INSTANT, ZoneOffset.UTC);
+        try (CommandTraceRecorder recorder = new CommandTraceRecorder(traceFile, clock)) {
+            recorder.record("list");
+        }
+        try (CommandTraceRecorder recorder = new CommandTraceRecorder(traceFile, clock)) {
+            recorder.record("delete 1");
+            recorder.close();
+            recorder.record("not recorded after close");
+        }
+
+        assertEquals(List.of(new TraceEntry(INSTANT, "list"), new TraceEntry(INSTANT, "delete 1")),
+                TraceReplayer.readTrace(traceFile));
+    }
+}
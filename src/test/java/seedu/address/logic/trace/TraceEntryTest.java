@@ -0,0 +1,44 @@
+package seedu.address.logic.trace;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.Instant;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+public class TraceEntryTest {
+
+    private static final Instant INSTANT = Instant.parse("2021-11-01T10:15:30.123Z");
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new TraceEntry(null, "list"));
+        assertThrows(NullPointerException.class, () -> new TraceEntry(INSTANT, null));
+    }
+
+    @Test
+    public void toLine() {
+        assertEquals("2021-11-01T10:15:30.123Z\tfind Google", new TraceEntry(INSTANT, "find Google").toLine());
+        assertEquals("2021-11-01T10:15:30.123Z\ta\\tb\\nc\\rd\\\\e",
+                new TraceEntry(INSTANT, "a\tb\nc\rd\\e").toLine());
+    }
+
+    @Test
+    public void fromLine_validLine_returnsEntry() throws Exception {
+        for (String commandText : new String[] {"", "list", "add c/Google p/SWE d/2021-12-12", "a\tb\nc\rd\\e\\t"}) {
+            TraceEntry entry = new TraceEntry(INSTANT, commandText);
+            assertEquals(entry, TraceEntry.fromLine(entry.toLine()));
+        }
+    }
+
+    @Test
+    public void fromLine_invalidLine_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, () -> TraceEntry.fromLine("list"));
+        assertThrows(IllegalValueException.class, () -> TraceEntry.fromLine("yesterday\tlist"));
+        assertThrows(IllegalValueException.class, () -> TraceEntry.fromLine("2021-11-01T10:15:30Z\tlist\\"));
+        assertThrows(IllegalValueException.class, () -> TraceEntry.fromLine("2021-11-01T10:15:30Z\tlist\\x"));
+    }
+}
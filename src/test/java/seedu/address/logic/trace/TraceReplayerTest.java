@@ -0,0 +1,82 @@
+package seedu.address.logic.trace;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.DEADLINE_DESC_AMAZON;
+import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_AMAZON;
+import static seedu.address.logic.commands.CommandTestUtil.POSITION_DESC_AMAZON;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalApplications.getTypicalInternship;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.logic.CommandStatistics.Phase;
+import seedu.address.model.Internship;
+import seedu.address.model.ReadOnlyInternship;
+import seedu.address.storage.JsonInternshipStorage;
+
+public class TraceReplayerTest {
+
+    private static final Instant INSTANT = Instant.parse("2021-11-01T10:15:30Z");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void replay_trace_executesCommandsAndReportsLatency() throws Exception {
+        Internship initialData = new Internship();
+        List<TraceEntry> trace = List.of(
+                new TraceEntry(INSTANT, "add" + NAME_DESC_AMAZON + POSITION_DESC_AMAZON + DEADLINE_DESC_AMAZON),
+                new TraceEntry(INSTANT, "list"),
+                new TraceEntry(INSTANT, "delete 5"),
+                new TraceEntry(INSTANT, "uicfhmowqewca"),
+                new TraceEntry(INSTANT, "delete 1"));
+
+        ReplayReport report = new TraceReplayer(initialData, testFolder).replay(trace);
+
+        assertEquals(5, report.getCommandCount());
+        assertEquals(2, report.getFailureCount());
+        assertTrue(report.getThroughput() > 0);
+        assertEquals(2, report.getStatistics().getHistogram("delete", Phase.EXECUTE).getCount());
+        assertTrue(report.format().startsWith("Replayed 5 commands (2 failed)"));
+
+        // the replay starts from a copy of the initial data and saves to the working directory
+        assertEquals(new Internship(), initialData);
+        ReadOnlyInternship saved = new JsonInternshipStorage(testFolder.resolve(TraceReplayer.DATA_FILE_NAME))
+                .readInternship().get();
+        assertEquals(0, saved.getApplicationList().size());
+    }
+
+    @Test
+    public void replay_initialData_startsFromInitialData() throws Exception {
+        List<TraceEntry> trace = List.of(new TraceEntry(INSTANT, "delete 1"));
+
+        ReplayReport report = new TraceReplayer(getTypicalInternship(), testFolder).replay(trace);
+
+        assertEquals(0, report.getFailureCount());
+        ReadOnlyInternship saved = new JsonInternshipStorage(testFolder.resolve(TraceReplayer.DATA_FILE_NAME))
+                .readInternship().get();
+        assertEquals(getTypicalInternship().getApplicationList().size() - 1, saved.getApplicationList().size());
+    }
+
+    @Test
+    public void readTrace_invalidLine_throwsDataConversionException() throws Exception {
+        Path traceFile = testFolder.resolve("trace.tsv");
+        Files.writeString(traceFile, new TraceEntry(INSTANT, "list").toLine() + "\n\nnot a trace line\n");
+        assertThrows(DataConversionException.class, () -> TraceReplayer.readTrace(traceFile));
+    }
+
+    @Test
+    public void readTrace_blankLines_ignored() throws Exception {
+        Path traceFile = testFolder.resolve("trace.tsv");
+        Files.writeString(traceFile, new TraceEntry(INSTANT, "list").toLine() + "\n\n");
+        assertEquals(List.of(new TraceEntry(INSTANT, "list")), TraceReplayer.readTrace(traceFile));
+    }
+}
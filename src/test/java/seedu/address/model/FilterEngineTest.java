@@ -0,0 +1,132 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_APPLICATIONS;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalApplications.AMAZON;
+import static seedu.address.testutil.TypicalApplications.BYTEDANCE;
+import static seedu.address.testutil.TypicalApplications.GRAB;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.util.PersistentVector;
+import seedu.address.model.application.Application;
+import seedu.address.model.application.NameContainsKeywordsPredicate;
+
+public class FilterEngineTest {
+
+    private static final InternshipSnapshot SNAPSHOT = snapshot(1, AMAZON, BYTEDANCE, GRAB);
+
+    private final FilterEngine filterEngine = new FilterEngine(2);
+
+    @Test
+    public void constructor_nonPositiveCapacity_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new FilterEngine(0));
+    }
+
+    @Test
+    public void filter_showAll_returnsSamePredicate() {
+        assertSame(PREDICATE_SHOW_ALL_APPLICATIONS, filterEngine.filter(SNAPSHOT, PREDICATE_SHOW_ALL_APPLICATIONS));
+    }
+
+    @Test
+    public void filter_equivalentToPredicate() {
+        Predicate<Application> filter = filterEngine.filter(SNAPSHOT, keywords("amazon", "grab"));
+        assertTrue(filter.test(AMAZON));
+        assertFalse(filter.test(BYTEDANCE));
+        assertTrue(filter.test(GRAB));
+    }
+
+    @Test
+    public void filter_repeatedPredicate_notEvaluatedAgain() {
+        CountingPredicate predicate = new CountingPredicate(keywords("amazon"));
+        filterEngine.filter(SNAPSHOT, predicate);
+        filterEngine.filter(SNAPSHOT, keywords("grab"));
+        filterEngine.filter(SNAPSHOT, predicate);
+        assertEquals(3, predicate.count);
+    }
+
+    @Test
+    public void filter_leastRecentlyUsedEvicted_evaluatedAgain() {
+        CountingPredicate predicate = new CountingPredicate(keywords("amazon"));
+        filterEngine.filter(SNAPSHOT, predicate);
+        filterEngine.filter(SNAPSHOT, keywords("grab"));
+        filterEngine.filter(SNAPSHOT, keywords("bytedance"));
+        filterEngine.filter(SNAPSHOT, predicate);
+        assertEquals(6, predicate.count);
+    }
+
+    @Test
+    public void filter_narrowingPredicate_evaluatedOnPreviousMatchesOnly() {
+        filterEngine.filter(SNAPSHOT, keywords("amazon", "grab"));
+        CountingKeywordsPredicate narrower = new CountingKeywordsPredicate("grab");
+        Predicate<Application> filter = filterEngine.filter(SNAPSHOT, narrower);
+        assertEquals(2, narrower.count);
+        assertFalse(filter.test(AMAZON));
+        assertTrue(filter.test(GRAB));
+    }
+
+    @Test
+    public void filter_newVersion_evaluatedAgain() {
+        CountingPredicate predicate = new CountingPredicate(keywords("amazon"));
+        filterEngine.filter(SNAPSHOT, predicate);
+        filterEngine.filter(snapshot(2, AMAZON), predicate);
+        assertEquals(4, predicate.count);
+    }
+
+    @Test
+    public void filter_applicationAddedLater_evaluatesPredicate() {
+        Predicate<Application> filter = filterEngine.filter(snapshot(1, AMAZON), keywords("grab"));
+        assertTrue(filter.test(GRAB));
+        assertFalse(filter.test(BYTEDANCE));
+    }
+
+    private static NameContainsKeywordsPredicate keywords(String... keywords) {
+        return new NameContainsKeywordsPredicate(List.of(keywords));
+    }
+
+    private static InternshipSnapshot snapshot(long version, Application... applications) {
+        return new InternshipSnapshot(version, PersistentVector.of(List.of(applications)));
+    }
+
+    /**
+     * A predicate that counts how many times it is tested.
+     */
+    private static class CountingPredicate implements Predicate<Application> {
+        private final Predicate<Application> predicate;
+        private int count;
+
+        CountingPredicate(Predicate<Application> predicate) {
+            this.predicate = predicate;
+        }
+
+        @Override
+        public boolean test(Application application) {
+            count++;
+            return predicate.test(application);
+        }
+    }
+
+    /**
+     * A {@code NameContainsKeywordsPredicate} that counts how many times it is tested.
+     */
+    private static class CountingKeywordsPredicate extends NameContainsKeywordsPredicate {
+        private int count;
+
+        CountingKeywordsPredicate(String... keywords) {
+            super(List.of(keywords));
+        }
+
+        @Override
+        public boolean test(Application application) {
+            count++;
+            return super.test(application);
+        }
+    }
+}
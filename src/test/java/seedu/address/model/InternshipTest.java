@@ -6,6 +6,8 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_AMAZON;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalApplications.AMAZON;
+import static seedu.address.testutil.TypicalApplications.BYTEDANCE;
+import static seedu.address.testutil.TypicalApplications.GRAB;
 import static seedu.address.testutil.TypicalApplications.getTypicalInternship;
 
 import java.util.Arrays;
@@ -77,6 +79,82 @@ public class InternshipTest {
         assertTrue(internship.hasApplication(editedAlice));
     }
 
+    @Test
+    public void getSnapshot_internshipModified_snapshotUnchanged() {
+        internship.addApplication(AMAZON);
+        InternshipSnapshot snapshot = internship.getSnapshot();
+        internship.removeApplication(AMAZON);
+        assertEquals(List.of(AMAZON), snapshot.getApplicationList());
+        assertEquals(Collections.emptyList(), internship.getSnapshot().getApplicationList());
+        assertTrue(internship.getSnapshot().getVersion() > snapshot.getVersion());
+    }
+
+    @Test
+    public void isAppendedTo_applicationsAdded_true() {
+        internship.addApplication(AMAZON);
+        InternshipSnapshot snapshot = internship.getSnapshot();
+        assertTrue(snapshot.isAppendedTo(snapshot));
+        internship.addApplications(List.of(BYTEDANCE, GRAB));
+        assertTrue(internship.getSnapshot().isAppendedTo(snapshot));
+        assertFalse(snapshot.isAppendedTo(internship.getSnapshot()));
+
+        // copies are appended to the snapshot they were copied from, and to those it was appended to
+        Internship copy = new Internship(internship);
+        copy.addApplication(new ApplicationBuilder().withCompany("Shopee").build());
+        assertTrue(copy.getSnapshot().isAppendedTo(snapshot));
+        assertFalse(internship.getSnapshot().isAppendedTo(copy.getSnapshot()));
+    }
+
+    @Test
+    public void isAppendedTo_loadedInParts_true() {
+        Internship source = new Internship();
+        source.addApplications(List.of(AMAZON, BYTEDANCE, GRAB));
+        InternshipSnapshot loaded = source.getSnapshot();
+
+        internship.addApplications(loaded, 0, 1);
+        assertFalse(internship.getSnapshot().isAppendedTo(loaded));
+        internship.addApplications(loaded, 1, 3);
+        assertTrue(internship.getSnapshot().isAppendedTo(loaded));
+        internship.addApplication(new ApplicationBuilder().withCompany("Shopee").build());
+        assertTrue(internship.getSnapshot().isAppendedTo(loaded));
+
+        // parts added to an address book that held other applications are not appended to the source
+        Internship other = new Internship();
+        other.addApplication(new ApplicationBuilder().withCompany("Shopee").build());
+        other.addApplications(loaded, 0, 3);
+        assertFalse(other.getSnapshot().isAppendedTo(loaded));
+    }
+
+    @Test
+    public void isAppendedTo_applicationsChanged_false() {
+        internship.addApplications(List.of(AMAZON, BYTEDANCE));
+        InternshipSnapshot snapshot = internship.getSnapshot();
+        internship.removeApplication(BYTEDANCE);
+        internship.addApplication(BYTEDANCE);
+        assertFalse(internship.getSnapshot().isAppendedTo(snapshot));
+
+        InternshipSnapshot edited = internship.getSnapshot();
+        internship.setApplication(AMAZON, new ApplicationBuilder(AMAZON).withStatus("Accepted").build());
+        assertFalse(internship.getSnapshot().isAppendedTo(edited));
+
+        // copies that diverge are not appended to each other
+        Internship first = new Internship(internship);
+        Internship second = new Internship(internship);
+        first.addApplication(GRAB);
+        second.addApplication(new ApplicationBuilder().withCompany("Shopee").build());
+        assertFalse(second.getSnapshot().isAppendedTo(first.getSnapshot()));
+
+        // a snapshot taken by anything other than an Internship is not known to be appended to any other
+        assertFalse(new InternshipSnapshot(0, snapshot.getApplications()).isAppendedTo(snapshot));
+    }
+
+    @Test
+    public void getSnapshot_modifyList_throwsUnsupportedOperationException() {
+        internship.addApplication(AMAZON);
+        assertThrows(UnsupportedOperationException.class, () -> internship.getSnapshot().getApplicationList()
+                .remove(0));
+    }
+
     @Test
     public void getApplicationList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> internship.getApplicationList().remove(0));
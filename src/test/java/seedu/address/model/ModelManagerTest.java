@@ -10,12 +10,19 @@ import static seedu.address.testutil.TypicalApplications.BYTEDANCE;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.application.Application;
 import seedu.address.model.application.NameContainsKeywordsPredicate;
+import seedu.address.testutil.ApplicationBuilder;
 import seedu.address.testutil.InternshipBuilder;
 
 public class ModelManagerTest {
@@ -88,6 +95,105 @@ public class ModelManagerTest {
         assertTrue(modelManager.hasApplication(AMAZON));
     }
 
+    @Test
+    public void loadApplications_applicationsAdded_cannotUndo() {
+        modelManager.addApplication(AMAZON);
+        modelManager.commitInternship();
+        Internship loaded = new Internship();
+        loaded.addApplications(List.of(AMAZON, BYTEDANCE));
+        modelManager.loadApplications(loaded.getSnapshot(), 1, 2);
+        assertEquals(List.of(AMAZON, BYTEDANCE), modelManager.getInternship().getApplicationList());
+        assertEquals(List.of(AMAZON, BYTEDANCE), modelManager.getFilteredApplicationSnapshot());
+        assertFalse(modelManager.canUndoInternship());
+    }
+
+    @Test
+    public void getApplicationSnapshot_modelModified_snapshotUnchanged() {
+        modelManager.addApplication(AMAZON);
+        List<Application> snapshot = modelManager.getApplicationSnapshot();
+        modelManager.addApplication(BYTEDANCE);
+        assertEquals(List.of(AMAZON), snapshot);
+        assertEquals(List.of(AMAZON, BYTEDANCE), modelManager.getApplicationSnapshot());
+    }
+
+    @Test
+    public void getFilteredApplicationSnapshot_filterUpdated_reflectsFilter() {
+        modelManager.addApplication(AMAZON);
+        modelManager.addApplication(BYTEDANCE);
+        modelManager.updateFilteredApplicationList(AMAZON::equals);
+        assertEquals(List.of(AMAZON), modelManager.getFilteredApplicationSnapshot());
+    }
+
+    @Test
+    public void updateFilteredApplicationListByKeywords_typingThenClearing_filtersThenShowsAll() {
+        modelManager.addApplication(AMAZON);
+        modelManager.addApplication(BYTEDANCE);
+        String company = BYTEDANCE.getCompany().fullCompanyName;
+        modelManager.updateFilteredApplicationListByKeywords(List.of(company.substring(0, 2)));
+        assertEquals(List.of(), modelManager.getFilteredApplicationSnapshot());
+        modelManager.updateFilteredApplicationListByKeywords(List.of(company));
+        assertEquals(List.of(BYTEDANCE), modelManager.getFilteredApplicationSnapshot());
+        modelManager.updateFilteredApplicationListByKeywords(List.of());
+        assertEquals(List.of(AMAZON, BYTEDANCE), modelManager.getFilteredApplicationSnapshot());
+    }
+
+    @Test
+    public void restoreFilteredApplicationList_afterKeywords_filterBeforeKeywordsRestored() {
+        modelManager.addApplication(AMAZON);
+        modelManager.addApplication(BYTEDANCE);
+        modelManager.updateFilteredApplicationList(AMAZON::equals);
+        modelManager.updateFilteredApplicationListByKeywords(List.of("xyz"));
+        modelManager.updateFilteredApplicationListByKeywords(List.of());
+        assertEquals(List.of(AMAZON, BYTEDANCE), modelManager.getFilteredApplicationSnapshot());
+        modelManager.restoreFilteredApplicationList();
+        assertEquals(List.of(AMAZON), modelManager.getFilteredApplicationSnapshot());
+
+        // a filter set after the keywords is kept
+        modelManager.updateFilteredApplicationListByKeywords(List.of("xyz"));
+        modelManager.updateFilteredApplicationList(BYTEDANCE::equals);
+        modelManager.restoreFilteredApplicationList();
+        assertEquals(List.of(BYTEDANCE), modelManager.getFilteredApplicationSnapshot());
+    }
+
+    @Test
+    public void managementAttributes_countApplications() {
+        modelManager.addApplication(AMAZON);
+        modelManager.addApplication(new ApplicationBuilder(BYTEDANCE).withStatus("Accepted")
+                .withCompletion("Completed").build());
+        modelManager.updateFilteredApplicationList(AMAZON::equals);
+
+        assertEquals(2, modelManager.getApplicationCount());
+        assertEquals(1, modelManager.getFilteredApplicationCount());
+        assertEquals(1, modelManager.getAcceptedCount());
+        assertEquals(1, modelManager.getCompletedCount());
+        assertEquals(modelManager.getInternshipSnapshot().getVersion(), modelManager.getInternshipVersion());
+    }
+
+    @Test
+    public void getApplicationSnapshot_concurrentWriter_readersSeeConsistentSnapshots() throws Exception {
+        ExecutorService readers = Executors.newFixedThreadPool(4);
+        List<Future<Boolean>> results = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            results.add(readers.submit(() -> {
+                for (int j = 0; j < 500; j++) {
+                    List<Application> snapshot = modelManager.getApplicationSnapshot();
+                    if (snapshot.size() > 1 || (snapshot.size() == 1 && !snapshot.get(0).equals(AMAZON))) {
+                        return false;
+                    }
+                }
+                return true;
+            }));
+        }
+        for (int i = 0; i < 500; i++) {
+            modelManager.addApplication(AMAZON);
+            modelManager.deleteApplication(AMAZON);
+        }
+        for (Future<Boolean> result : results) {
+            assertTrue(result.get());
+        }
+        readers.shutdown();
+    }
+
     @Test
     public void getFilteredApplicationList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredApplicationList().remove(0));
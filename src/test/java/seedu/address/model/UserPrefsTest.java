@@ -1,9 +1,15 @@
 package seedu.address.model;
 
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.commons.util.Compression;
+import seedu.address.commons.util.JsonUtil;
+
 public class UserPrefsTest {
 
     @Test
@@ -18,4 +24,37 @@ public class UserPrefsTest {
         assertThrows(NullPointerException.class, () -> userPrefs.setInternshipFilePath(null));
     }
 
+    @Test
+    public void getDataFileCompressionLevel_outOfRangeInJson_defaultLevel() throws Exception {
+        assertEquals(Compression.DEFAULT_LEVEL, JsonUtil.fromJsonString("{\"dataFileCompressionLevel\": 12}",
+                UserPrefs.class).getDataFileCompressionLevel());
+        assertEquals(Compression.DEFAULT_LEVEL, JsonUtil.fromJsonString("{\"dataFileCompressionLevel\": -1}",
+                UserPrefs.class).getDataFileCompressionLevel());
+        assertEquals(9, JsonUtil.fromJsonString("{\"dataFileCompressionLevel\": 9}", UserPrefs.class)
+                .getDataFileCompressionLevel());
+    }
+
+    @Test
+    public void getUndoHistoryLimits_negativeInJson_defaultLimits() throws Exception {
+        UserPrefs userPrefs = JsonUtil.fromJsonString(
+                "{\"undoHistoryDepth\": -5, \"undoHistoryMaxApplications\": -1}", UserPrefs.class);
+        assertEquals(UserPrefs.DEFAULT_UNDO_HISTORY_DEPTH, userPrefs.getUndoHistoryDepth());
+        assertEquals(UserPrefs.DEFAULT_UNDO_HISTORY_MAX_APPLICATIONS, userPrefs.getUndoHistoryMaxApplications());
+        assertDoesNotThrow(() -> new ModelManager(new Internship(), userPrefs));
+
+        UserPrefs noHistory = JsonUtil.fromJsonString(
+                "{\"undoHistoryDepth\": 0, \"undoHistoryMaxApplications\": 0}", UserPrefs.class);
+        assertEquals(0, noHistory.getUndoHistoryDepth());
+        assertEquals(0, noHistory.getUndoHistoryMaxApplications());
+    }
+
+    @Test
+    public void resetData_compressionPrefs_copied() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setDataFileCompressed(true);
+        userPrefs.setDataFileCompressionLevel(1);
+        assertEquals(userPrefs, new UserPrefs(userPrefs));
+        assertNotEquals(new UserPrefs(), userPrefs);
+    }
+
 }
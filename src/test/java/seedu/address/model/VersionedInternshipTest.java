@@ -0,0 +1,167 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalApplications.AMAZON;
+import static seedu.address.testutil.TypicalApplications.BYTEDANCE;
+import static seedu.address.testutil.TypicalApplications.GRAB;
+import static seedu.address.testutil.TypicalApplications.getTypicalInternship;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.application.Application;
+import seedu.address.testutil.ApplicationBuilder;
+
+public class VersionedInternshipTest {
+
+    private static final int DEPTH = 10;
+    private static final long MAX_APPLICATIONS = 1000;
+
+    @Test
+    public void constructor_initialState_noHistory() {
+        VersionedInternship internship = new VersionedInternship(getTypicalInternship(), DEPTH, MAX_APPLICATIONS);
+        assertEquals(getTypicalInternship(), internship);
+        assertFalse(internship.canUndo());
+        assertFalse(internship.canRedo());
+    }
+
+    @Test
+    public void commit_noChanges_noRevision() {
+        VersionedInternship internship = new VersionedInternship(getTypicalInternship(), DEPTH, MAX_APPLICATIONS);
+        internship.commit();
+        assertFalse(internship.canUndo());
+    }
+
+    @Test
+    public void undoRedo_multipleChangesInOneRevision_revertedTogether() {
+        VersionedInternship internship = new VersionedInternship(getTypicalInternship(), DEPTH, MAX_APPLICATIONS);
+        Application editedGrab = new ApplicationBuilder(GRAB).withStatus("Accepted").build();
+        internship.removeApplication(AMAZON);
+        internship.setApplication(GRAB, editedGrab);
+        internship.commit();
+
+        internship.undo();
+        assertEquals(getTypicalInternship(), internship);
+        assertFalse(internship.canUndo());
+
+        internship.redo();
+        assertEquals(List.of(BYTEDANCE, editedGrab), internship.getApplicationList());
+        assertFalse(internship.canRedo());
+    }
+
+    @Test
+    public void undo_transaction_revertedTogetherAndListUpdated() {
+        VersionedInternship internship = new VersionedInternship(new Internship(), DEPTH, MAX_APPLICATIONS);
+        internship.beginTransaction();
+        getTypicalInternship().getApplicationList().forEach(internship::addApplication);
+        internship.commitTransaction();
+        internship.commit();
+        assertEquals(getTypicalInternship().getApplicationList(), internship.getApplicationList());
+
+        internship.undo();
+        assertEquals(List.of(), internship.getApplicationList());
+        assertFalse(internship.canUndo());
+    }
+
+    @Test
+    public void undo_resetData_restoresPreviousState() {
+        VersionedInternship internship = new VersionedInternship(getTypicalInternship(), DEPTH, MAX_APPLICATIONS);
+        internship.resetData(new Internship());
+        internship.commit();
+        internship.undo();
+        assertEquals(getTypicalInternship(), internship);
+    }
+
+    @Test
+    public void undo_updatesSnapshot() {
+        VersionedInternship internship = new VersionedInternship(getTypicalInternship(), DEPTH, MAX_APPLICATIONS);
+        internship.addApplication(new ApplicationBuilder().build());
+        internship.commit();
+        long version = internship.getVersion();
+        internship.undo();
+        assertTrue(internship.getVersion() > version);
+        assertEquals(getTypicalInternship().getApplicationList(), internship.getSnapshot().getApplicationList());
+    }
+
+    @Test
+    public void undo_nothingToUndo_throwsIllegalStateException() {
+        VersionedInternship internship = new VersionedInternship(new Internship(), DEPTH, MAX_APPLICATIONS);
+        assertThrows(IllegalStateException.class, internship::undo);
+        assertThrows(IllegalStateException.class, internship::redo);
+    }
+
+    @Test
+    public void commit_afterUndo_discardsRedo() {
+        VersionedInternship internship = new VersionedInternship(getTypicalInternship(), DEPTH, MAX_APPLICATIONS);
+        internship.removeApplication(AMAZON);
+        internship.commit();
+        internship.undo();
+        internship.removeApplication(GRAB);
+        internship.commit();
+        assertFalse(internship.canRedo());
+    }
+
+    @Test
+    public void commit_exceedsDepth_oldestRevisionsForgotten() {
+        VersionedInternship internship = new VersionedInternship(new Internship(), 2, MAX_APPLICATIONS);
+        List<Application> added = addApplications(internship, 3);
+        internship.undo();
+        internship.undo();
+        assertFalse(internship.canUndo());
+        assertEquals(added.subList(0, 1), internship.getApplicationList());
+    }
+
+    @Test
+    public void commit_exceedsMemoryBudget_oldestRevisionsForgotten() {
+        VersionedInternship internship = new VersionedInternship(new Internship(), DEPTH, 2);
+        addApplications(internship, 3);
+        internship.undo();
+        internship.undo();
+        assertFalse(internship.canUndo());
+
+        // a single change larger than the budget can still be undone, but older ones are forgotten
+        internship.redo();
+        internship.redo();
+        List<Application> beforeReset = new ArrayList<>(internship.getApplicationList());
+        internship.resetData(new Internship());
+        internship.commit();
+        internship.undo();
+        assertEquals(beforeReset, internship.getApplicationList());
+        assertFalse(internship.canUndo());
+    }
+
+    @Test
+    public void commit_noRevisionsAllowed_cannotUndo() {
+        VersionedInternship internship = new VersionedInternship(getTypicalInternship(), 0, MAX_APPLICATIONS);
+        internship.removeApplication(AMAZON);
+        internship.commit();
+        assertFalse(internship.canUndo());
+    }
+
+    @Test
+    public void clearHistory_afterChanges_cannotUndoOrRedo() {
+        VersionedInternship internship = new VersionedInternship(new Internship(), DEPTH, MAX_APPLICATIONS);
+        List<Application> added = addApplications(internship, 3);
+        internship.undo();
+        internship.clearHistory();
+        assertFalse(internship.canUndo());
+        assertFalse(internship.canRedo());
+        assertEquals(added.subList(0, 2), internship.getApplicationList());
+    }
+
+    private static List<Application> addApplications(VersionedInternship internship, int count) {
+        List<Application> added = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Application application = new ApplicationBuilder().withCompany("Company" + (char) ('A' + i)).build();
+            internship.addApplication(application);
+            internship.commit();
+            added.add(application);
+        }
+        return added;
+    }
+}
@@ -0,0 +1,43 @@
+package seedu.address.model.application;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class ApplicationFieldOrderTest {
+
+    @Test
+    public void position_sortedIgnoringCase() {
+        assertSorted(List.of(new Position("backend engineer"), new Position("Data Analyst"),
+                new Position("web developer")));
+    }
+
+    @Test
+    public void deadline_sortedChronologically() {
+        assertSorted(List.of(new Deadline("2021-01-31"), new Deadline("2021-12-01"), new Deadline("2022-01-01")));
+    }
+
+    @Test
+    public void status_sortedByProgress() {
+        assertSorted(List.of(new Status("Pending"), new Status("Accepted"), new Status("Rejected")));
+    }
+
+    @Test
+    public void completion_uncompletedFirst() {
+        assertSorted(List.of(new Completion("Uncompleted"), new Completion("Completed")));
+    }
+
+    /**
+     * Asserts that {@code expected}, which is in ascending order, is sorted back into that order after reversal.
+     */
+    private static <T extends Comparable<? super T>> void assertSorted(List<T> expected) {
+        List<T> actual = new ArrayList<>(expected);
+        Collections.reverse(actual);
+        Collections.sort(actual);
+        assertEquals(expected, actual);
+    }
+}
@@ -72,6 +72,19 @@ public class ApplicationTest {
         assertFalse(BYTEDANCE.isSameApplication(editedBytedance));
     }
 
+    @Test
+    public void getIdentity_sameApplication_equalIdentities() {
+        Application editedAmazon = new ApplicationBuilder(AMAZON).withDeadline(VALID_DEADLINE_BYTEDANCE)
+                .withTags(VALID_TAG_AMAZON).build();
+        assertEquals(AMAZON.getIdentity(), editedAmazon.getIdentity());
+        assertEquals(AMAZON.getIdentity().hashCode(), editedAmazon.getIdentity().hashCode());
+
+        editedAmazon = new ApplicationBuilder(AMAZON).withPosition(VALID_POSITION_BYTEDANCE).build();
+        assertNotEquals(AMAZON.getIdentity(), editedAmazon.getIdentity());
+        editedAmazon = new ApplicationBuilder(AMAZON).withCompany(VALID_NAME_BYTEDANCE).build();
+        assertNotEquals(AMAZON.getIdentity(), editedAmazon.getIdentity());
+    }
+
     @Test
     public void equals() {
         // same values -> returns true
@@ -0,0 +1,134 @@
+package seedu.address.model.application;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalApplications.AMAZON;
+import static seedu.address.testutil.TypicalApplications.BYTEDANCE;
+import static seedu.address.testutil.TypicalApplications.GRAB;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.util.PersistentVector;
+import seedu.address.model.InternshipSnapshot;
+import seedu.address.testutil.ApplicationBuilder;
+
+public class CompanyKeywordSearchTest {
+
+    private static final Application AMAZON_WEB_SERVICES = new ApplicationBuilder(AMAZON)
+            .withCompany("Amazon Web Services").build();
+    private static final InternshipSnapshot SNAPSHOT = snapshot(1, AMAZON, BYTEDANCE, GRAB, AMAZON_WEB_SERVICES);
+
+    private final CompanyKeywordSearch search = new CompanyKeywordSearch();
+
+    @Test
+    public void search_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> search.search(null, List.of()));
+        assertThrows(NullPointerException.class, () -> search.search(SNAPSHOT, null));
+    }
+
+    @Test
+    public void search_noKeywords_matchesAll() {
+        Predicate<Application> predicate = search.search(SNAPSHOT, List.of());
+        assertTrue(predicate.test(AMAZON));
+        assertTrue(predicate.test(GRAB));
+    }
+
+    @Test
+    public void search_wholeWordIgnoringCase_matches() {
+        Predicate<Application> predicate = search.search(SNAPSHOT, List.of("WEB"));
+        assertTrue(predicate.test(AMAZON_WEB_SERVICES));
+        assertFalse(predicate.test(AMAZON));
+
+        // any of several keywords
+        predicate = search.search(SNAPSHOT, List.of("bytedance", "grab"));
+        assertTrue(predicate.test(BYTEDANCE));
+        assertTrue(predicate.test(GRAB));
+        assertFalse(predicate.test(AMAZON));
+
+        // prefix of a word -> no match
+        assertFalse(search.search(SNAPSHOT, List.of("byte")).test(BYTEDANCE));
+    }
+
+    @Test
+    public void search_sameResultsAsFindCommand() {
+        for (List<String> keywords : List.of(List.of("amazon"), List.of("Ama"), List.of("services", "GRAB"))) {
+            Predicate<Application> predicate = search.search(SNAPSHOT, keywords);
+            Predicate<Application> find = new NameContainsKeywordsPredicate(keywords);
+            for (Application application : SNAPSHOT.getApplications()) {
+                assertEquals(find.test(application), predicate.test(application));
+            }
+        }
+    }
+
+    @Test
+    public void search_applicationsNotInSnapshot_matchedByCompany() {
+        Predicate<Application> predicate = search.search(SNAPSHOT, List.of("grab"));
+        assertTrue(predicate.test(new ApplicationBuilder(GRAB).withStatus("Accepted").build()));
+        assertFalse(predicate.test(new ApplicationBuilder(AMAZON).withStatus("Accepted").build()));
+    }
+
+    @Test
+    public void search_narrowedQuery_sameResultsAsFreshSearch() {
+        search.search(SNAPSHOT, List.of("amazon", "grab"));
+        Predicate<Application> refined = search.search(SNAPSHOT, List.of("Amazon"));
+        Predicate<Application> fresh = new CompanyKeywordSearch().search(SNAPSHOT, List.of("Amazon"));
+        for (Application application : SNAPSHOT.getApplications()) {
+            assertEquals(fresh.test(application), refined.test(application));
+        }
+        assertTrue(refined.test(AMAZON_WEB_SERVICES));
+        assertFalse(refined.test(GRAB));
+    }
+
+    @Test
+    public void search_typingAndDeleting_refinesWhenKeywordsDropped() {
+        String query = "amazon grab";
+        List<Boolean> refined = new ArrayList<>();
+        List<String> queries = new ArrayList<>();
+        for (int i = 1; i <= query.length(); i++) {
+            queries.add(query.substring(0, i));
+        }
+        for (int i = query.length() - 1; i > 0; i--) {
+            queries.add(query.substring(0, i));
+        }
+
+        for (String typed : queries) {
+            List<String> keywords = List.of(typed.trim().split("\\s+"));
+            Predicate<Application> predicate = search.search(SNAPSHOT, keywords);
+            Predicate<Application> find = new NameContainsKeywordsPredicate(keywords);
+            for (Application application : SNAPSHOT.getApplications()) {
+                assertEquals(find.test(application), predicate.test(application), typed);
+            }
+            refined.add(search.isLastSearchRefined());
+        }
+
+        // typing a character of a word searches the index; deleting "g" from "amazon g" drops a keyword
+        for (int i = 0; i < query.length(); i++) {
+            assertEquals(queries.get(i).endsWith(" "), refined.get(i), queries.get(i));
+        }
+        assertTrue(refined.get(queries.lastIndexOf("amazon ")));
+        assertFalse(refined.get(queries.lastIndexOf("amazon g")));
+    }
+
+    @Test
+    public void search_widenedQuery_searchesAgain() {
+        search.search(SNAPSHOT, List.of("amazon"));
+        assertTrue(search.search(SNAPSHOT, List.of("amazon", "grab")).test(GRAB));
+        assertTrue(search.search(SNAPSHOT, List.of("bytedance")).test(BYTEDANCE));
+    }
+
+    @Test
+    public void search_applicationsChanged_usesNewApplications() {
+        search.search(snapshot(1, AMAZON), List.of("grab"));
+        assertTrue(search.search(snapshot(2, AMAZON, GRAB), List.of("grab")).test(GRAB));
+    }
+
+    private static InternshipSnapshot snapshot(long version, Application... applications) {
+        return new InternshipSnapshot(version, PersistentVector.of(List.of(applications)));
+    }
+}
@@ -1,5 +1,6 @@
 package seedu.address.model.application;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -37,4 +38,12 @@ public class CompanyNameTest {
         assertTrue(Company.isValidCompanyName("Shopee")); // with capital letters
         assertTrue(Company.isValidCompanyName("The Best Company In the World")); // long names
     }
+
+    @Test
+    public void compareTo() {
+        assertTrue(new Company("amazon").compareTo(new Company("Grab")) < 0);
+        assertTrue(new Company("Grab").compareTo(new Company("amazon")) > 0);
+        assertTrue(new Company("Grab").compareTo(new Company("grab")) != 0); // differ only in case
+        assertEquals(0, new Company("Grab").compareTo(new Company("Grab")));
+    }
 }
@@ -38,6 +38,21 @@ public class NameContainsKeywordsPredicateTest {
         assertFalse(firstPredicate.equals(secondPredicate));
     }
 
+    @Test
+    public void refines() {
+        NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(Arrays.asList("Shopee", "Grab"));
+
+        // subset of keywords, ignoring case -> returns true
+        assertTrue(new NameContainsKeywordsPredicate(Collections.singletonList("grab")).refines(predicate));
+        assertTrue(predicate.refines(predicate));
+
+        // extra keyword -> returns false
+        assertFalse(new NameContainsKeywordsPredicate(Arrays.asList("Grab", "DBS")).refines(predicate));
+
+        // different type -> returns false
+        assertFalse(predicate.refines(unused -> true));
+    }
+
     @Test
     public void test_nameContainsKeywords_returnsTrue() {
         // One keyword
@@ -8,12 +8,14 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalApplications.AMAZON;
 import static seedu.address.testutil.TypicalApplications.BYTEDANCE;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import seedu.address.model.application.exceptions.ApplicationNotFoundException;
 import seedu.address.model.application.exceptions.DuplicateApplicationException;
 import seedu.address.testutil.ApplicationBuilder;
@@ -57,6 +59,29 @@ public class UniqueApplicationListTest {
         assertThrows(DuplicateApplicationException.class, () -> uniqueApplicationList.add(AMAZON));
     }
 
+    @Test
+    public void addAll_newApplications_addedInOneChange() {
+        uniqueApplicationList.add(AMAZON);
+        List<ListChangeListener.Change<? extends Application>> changes = new ArrayList<>();
+        uniqueApplicationList.asUnmodifiableObservableList()
+                .addListener((ListChangeListener<Application>) changes::add);
+
+        Application other = new ApplicationBuilder(AMAZON).withPosition("Data Scientist").build();
+        uniqueApplicationList.addAll(List.of(BYTEDANCE, other));
+        assertEquals(List.of(AMAZON, BYTEDANCE, other), uniqueApplicationList.asUnmodifiableObservableList());
+        assertEquals(List.of(AMAZON, BYTEDANCE, other), uniqueApplicationList.asPersistentVector().asList());
+        assertEquals(1, changes.size());
+    }
+
+    @Test
+    public void addAll_duplicateApplication_throwsDuplicateApplicationException() {
+        uniqueApplicationList.add(AMAZON);
+        assertThrows(DuplicateApplicationException.class, () -> uniqueApplicationList.addAll(List.of(AMAZON)));
+        assertThrows(DuplicateApplicationException.class, () -> uniqueApplicationList.addAll(
+                List.of(BYTEDANCE, BYTEDANCE)));
+        assertEquals(List.of(AMAZON), uniqueApplicationList.asUnmodifiableObservableList());
+    }
+
     @Test
     public void setApplication_nullTargetApplication_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueApplicationList.setApplication(null, AMAZON));
@@ -169,4 +194,42 @@ public class UniqueApplicationListTest {
         assertThrows(UnsupportedOperationException.class, ()
             -> uniqueApplicationList.asUnmodifiableObservableList().remove(0));
     }
+
+    @Test
+    public void endBatch_noBatch_throwsIllegalStateException() {
+        assertThrows(IllegalStateException.class, () -> uniqueApplicationList.endBatch());
+    }
+
+    @Test
+    public void endBatch_modificationsInBatch_observersNotifiedOnce() {
+        uniqueApplicationList.add(AMAZON);
+        List<ListChangeListener.Change<? extends Application>> changes = new ArrayList<>();
+        uniqueApplicationList.asUnmodifiableObservableList()
+                .addListener((ListChangeListener<Application>) changes::add);
+
+        uniqueApplicationList.beginBatch();
+        uniqueApplicationList.beginBatch();
+        uniqueApplicationList.add(BYTEDANCE);
+        uniqueApplicationList.remove(AMAZON);
+        uniqueApplicationList.endBatch();
+        assertTrue(changes.isEmpty());
+        assertEquals(List.of(AMAZON), uniqueApplicationList.asUnmodifiableObservableList());
+        assertEquals(List.of(BYTEDANCE), uniqueApplicationList.asPersistentVector().asList());
+
+        uniqueApplicationList.endBatch();
+        assertEquals(1, changes.size());
+        assertEquals(List.of(BYTEDANCE), uniqueApplicationList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void endBatch_noNetModification_observersNotNotified() {
+        List<ListChangeListener.Change<? extends Application>> changes = new ArrayList<>();
+        uniqueApplicationList.asUnmodifiableObservableList()
+                .addListener((ListChangeListener<Application>) changes::add);
+        uniqueApplicationList.beginBatch();
+        uniqueApplicationList.add(AMAZON);
+        uniqueApplicationList.remove(AMAZON);
+        uniqueApplicationList.endBatch();
+        assertTrue(changes.isEmpty());
+    }
 }
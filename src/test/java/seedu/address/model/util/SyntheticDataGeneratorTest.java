@@ -0,0 +1,85 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.application.Application;
+import seedu.address.model.application.UniqueApplicationList;
+
+public class SyntheticDataGeneratorTest {
+
+    private static final int COUNT = 10_000;
+
+    @Test
+    public void generate_sameSeed_sameApplications() {
+        assertEquals(generateList(7, COUNT), generateList(7, COUNT));
+        assertEquals(new SyntheticDataGenerator(7).generateApplication(1234),
+                generateList(7, COUNT).get(1234));
+    }
+
+    @Test
+    public void generate_differentSeed_differentApplications() {
+        assertNotEquals(generateList(7, 100), generateList(8, 100));
+    }
+
+    @Test
+    public void generate_applicationsAreUnique() {
+        UniqueApplicationList applications = new UniqueApplicationList();
+        applications.setApplications(generateList(7, COUNT));
+    }
+
+    @Test
+    public void generate_companiesSkewed() {
+        Map<String, Integer> counts = new HashMap<>();
+        for (Application application : generateList(7, COUNT)) {
+            counts.merge(application.getCompany().fullCompanyName, 1, Integer::sum);
+        }
+        int mostFrequent = counts.get(SyntheticDataGenerator.COMPANIES[0]);
+        int leastFrequent = counts.get(SyntheticDataGenerator.COMPANIES[SyntheticDataGenerator.COMPANIES.length - 1]);
+        assertTrue(mostFrequent > COUNT / 10);
+        assertTrue(mostFrequent > 20 * leastFrequent);
+    }
+
+    @Test
+    public void generate_mostlyPending() {
+        Map<String, Integer> counts = new HashMap<>();
+        for (Application application : generateList(7, COUNT)) {
+            counts.merge(application.getStatus().toString(), 1, Integer::sum);
+        }
+        assertTrue(counts.get("Pending") > counts.get("Rejected"));
+        assertTrue(counts.get("Rejected") > counts.get("Accepted"));
+    }
+
+    @Test
+    public void generate_iteratorExhausted_throwsNoSuchElementException() {
+        Iterator<Application> iterator = new SyntheticDataGenerator(7).generate(1);
+        iterator.next();
+        assertFalse(iterator.hasNext());
+        assertThrows(NoSuchElementException.class, iterator::next);
+    }
+
+    @Test
+    public void generate_negative_throwsIllegalArgumentException() {
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(7);
+        assertThrows(IllegalArgumentException.class, () -> generator.generate(-1));
+        assertThrows(IllegalArgumentException.class, () -> generator.generateApplication(-1));
+    }
+
+    private static List<Application> generateList(long seed, int count) {
+        List<Application> applications = new ArrayList<>();
+        new SyntheticDataGenerator(seed).generate(count).forEachRemaining(applications::add);
+        return applications;
+    }
+}
@@ -0,0 +1,71 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalApplications.AMAZON;
+import static seedu.address.testutil.TypicalApplications.BYTEDANCE;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.application.Application;
+import seedu.address.model.util.SyntheticDataGenerator;
+import seedu.address.storage.ApplicationExporter.Format;
+import seedu.address.testutil.ApplicationBuilder;
+
+public class ApplicationExporterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void fromFileName() {
+        assertEquals(Optional.of(Format.CSV), Format.fromFileName("reports/Applications.CSV"));
+        assertEquals(Optional.of(Format.NDJSON), Format.fromFileName("applications.ndjson"));
+        assertEquals(Optional.of(Format.NDJSON), Format.fromFileName("applications.jsonl"));
+        assertEquals(Optional.empty(), Format.fromFileName("applications.json"));
+    }
+
+    @Test
+    public void export_csv_headerAndOneRowPerApplication() throws Exception {
+        Path file = testFolder.resolve("reports").resolve("applications.csv");
+        Application tagged = new ApplicationBuilder(BYTEDANCE).withTags("remote", "paid").build();
+        long count = ApplicationExporter.export(List.of(AMAZON, tagged).iterator(), file, Format.CSV, written -> {});
+
+        assertEquals(2, count);
+        assertEquals(List.of("company,position,deadline,status,completion,tags",
+                "Amazon,Software Engineer,2021-12-12,Pending,Uncompleted,Important",
+                "ByteDance,Web Developer,2021-12-29,Rejected,Completed,paid remote"),
+                Files.readAllLines(file));
+    }
+
+    @Test
+    public void export_ndjson_oneApplicationPerLine() throws Exception {
+        Path file = testFolder.resolve("applications.ndjson");
+        ApplicationExporter.export(List.of(AMAZON, BYTEDANCE).iterator(), file, Format.NDJSON, written -> {});
+
+        List<String> lines = Files.readAllLines(file);
+        assertEquals(2, lines.size());
+        assertEquals(AMAZON, JsonUtil.fromJsonString(lines.get(0), JsonAdaptedApplication.class).toModelType());
+        assertEquals(BYTEDANCE, JsonUtil.fromJsonString(lines.get(1), JsonAdaptedApplication.class).toModelType());
+    }
+
+    @Test
+    public void export_manyApplications_progressReported() throws Exception {
+        int count = ApplicationExporter.PROGRESS_INTERVAL * 2 + 1;
+        List<Long> progress = new ArrayList<>();
+        ApplicationExporter.export(new SyntheticDataGenerator(1).generate(count),
+                testFolder.resolve("applications.csv"), Format.CSV, progress::add);
+
+        assertEquals(List.of((long) ApplicationExporter.PROGRESS_INTERVAL,
+                (long) ApplicationExporter.PROGRESS_INTERVAL * 2), progress);
+        assertTrue(Files.size(testFolder.resolve("applications.csv")) > count);
+    }
+}
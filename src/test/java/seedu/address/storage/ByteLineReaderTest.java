@@ -0,0 +1,76 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class ByteLineReaderTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readLine_linesOfAllLengths_readInOrder() throws Exception {
+        String longLine = "x".repeat(3 << 20); // longer than the buffer
+        String content = "first\n\n  \n" + longLine + "\nlast";
+        Path file = testFolder.resolve("lines.txt");
+        Files.writeString(file, content);
+
+        List<String> lines = new ArrayList<>();
+        List<Long> offsets = new ArrayList<>();
+        try (ByteLineReader reader = new ByteLineReader(file)) {
+            while (reader.readLine()) {
+                lines.add(new String(reader.getBuffer(), reader.getLineStart(), reader.getLineLength(),
+                        StandardCharsets.UTF_8));
+                offsets.add(reader.getLineOffset());
+                assertEquals(lines.size(), reader.getLineNumber());
+                assertEquals(lines.size() == 2 || lines.size() == 3, reader.isBlank());
+                assertEquals(lines.size() != 5, reader.hasLineBreak());
+            }
+            assertEquals(content.length(), reader.getBytesRead());
+        }
+        assertEquals(List.of("first", "", "  ", longLine, "last"), lines);
+        assertEquals(List.of(0L, 6L, 7L, 10L, 11L + longLine.length()), offsets);
+    }
+
+    @Test
+    public void indexOfLineBreak_everyPosition_found() {
+        for (int position = 0; position < 20; position++) {
+            byte[] bytes = "x".repeat(20).getBytes(StandardCharsets.US_ASCII);
+            bytes[position] = '\n';
+            assertEquals(position, ByteLineReader.indexOfLineBreak(bytes, 0, bytes.length));
+            assertEquals(-1, ByteLineReader.indexOfLineBreak(bytes, position + 1, bytes.length));
+            assertEquals(-1, ByteLineReader.indexOfLineBreak(bytes, 0, position));
+        }
+    }
+
+    @Test
+    public void readLine_emptyFile_noLines() throws Exception {
+        Path file = testFolder.resolve("empty.txt");
+        Files.writeString(file, "");
+        try (ByteLineReader reader = new ByteLineReader(file)) {
+            assertFalse(reader.readLine());
+        }
+    }
+
+    @Test
+    public void readLine_endsWithLineBreak_noEmptyLastLine() throws Exception {
+        Path file = testFolder.resolve("lines.txt");
+        Files.writeString(file, "a\nb\n");
+        try (ByteLineReader reader = new ByteLineReader(file)) {
+            assertTrue(reader.readLine());
+            assertTrue(reader.readLine());
+            assertTrue(reader.hasLineBreak());
+            assertFalse(reader.readLine());
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalApplications.getTypicalInternship;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.Internship;
+
+public class DataFileVerifierTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private List<String> lines;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        filePath = testFolder.resolve("data.ndjson");
+        new NdjsonInternshipStorage(filePath, false).saveInternship(getTypicalInternship().getSnapshot());
+        lines = new ArrayList<>(Files.readAllLines(filePath));
+    }
+
+    @Test
+    public void verify_savedFile_intact() throws Exception {
+        List<Long> progress = new ArrayList<>();
+        DataFileVerifier.Result result = DataFileVerifier.verify(filePath, progress::add);
+
+        assertTrue(result.isIntact());
+        assertEquals(List.of(), result.getProblems());
+        assertEquals(getTypicalInternship().getApplicationList().size(), result.getRecordCount());
+        assertEquals(Files.size(filePath), result.getByteCount());
+        assertTrue(progress.isEmpty()); // fewer bytes than the progress interval
+    }
+
+    @Test
+    public void verify_emptyInternship_intact() throws Exception {
+        new NdjsonInternshipStorage(filePath, false).saveInternship(new Internship().getSnapshot());
+        assertTrue(DataFileVerifier.verify(filePath, bytesRead -> {}).isIntact());
+    }
+
+    @Test
+    public void verify_changedLine_checksumMismatch() throws Exception {
+        lines.set(1, lines.get(1).replaceFirst("\"company\":\"", "\"company\":\"X"));
+        Files.write(filePath, lines);
+
+        DataFileVerifier.Result result = DataFileVerifier.verify(filePath, bytesRead -> {});
+        assertFalse(result.isIntact());
+        assertEquals(List.of(problem(2, NdjsonInternshipStorage.MESSAGE_CHECKSUM_MISMATCH),
+                problem(lines.size(), NdjsonInternshipStorage.MESSAGE_DIGEST_MISMATCH)), result.getProblems());
+    }
+
+    @Test
+    public void verify_removedLine_digestMismatch() throws Exception {
+        lines.remove(0);
+        Files.write(filePath, lines);
+
+        DataFileVerifier.Result result = DataFileVerifier.verify(filePath, bytesRead -> {});
+        assertEquals(List.of(problem(lines.size(), NdjsonInternshipStorage.MESSAGE_DIGEST_MISMATCH)),
+                result.getProblems());
+    }
+
+    @Test
+    public void verify_truncatedFile_missingDigest() throws Exception {
+        Files.write(filePath, lines.subList(0, 2));
+
+        DataFileVerifier.Result result = DataFileVerifier.verify(filePath, bytesRead -> {});
+        assertEquals(List.of(DataFileVerifier.MESSAGE_NO_DIGEST), result.getProblems());
+        assertEquals(1, result.getProblemCount());
+    }
+
+    @Test
+    public void verify_linesWithoutChecksums_reportsFirstOnes() throws Exception {
+        List<String> unchecked = new ArrayList<>();
+        for (int i = 0; i < DataFileVerifier.MAX_PROBLEMS_KEPT + 5; i++) {
+            unchecked.add("{\"company\":\"Shopee " + i + "\"}");
+        }
+        Files.write(filePath, unchecked);
+
+        DataFileVerifier.Result result = DataFileVerifier.verify(filePath, bytesRead -> {});
+        assertEquals(DataFileVerifier.MAX_PROBLEMS_KEPT + 6, result.getProblemCount());
+        assertEquals(DataFileVerifier.MAX_PROBLEMS_KEPT + 1, result.getProblems().size());
+        assertEquals(problem(1, DataFileVerifier.MESSAGE_NO_CHECKSUM), result.getProblems().get(0));
+    }
+
+    private static String problem(int lineNumber, String message) {
+        return String.format(NdjsonInternshipStorage.MESSAGE_INVALID_LINE, lineNumber, message);
+    }
+}
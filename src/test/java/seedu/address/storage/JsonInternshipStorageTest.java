@@ -2,20 +2,30 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalApplications.GRAB;
 import static seedu.address.testutil.TypicalApplications.getTypicalInternship;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.Compression;
 import seedu.address.model.Internship;
 import seedu.address.model.ReadOnlyInternship;
+import seedu.address.model.application.Application;
+import seedu.address.model.util.SyntheticDataGenerator;
 
 public class JsonInternshipStorageTest {
     private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonInternshipStorageTest");
@@ -83,6 +93,76 @@ public class JsonInternshipStorageTest {
 
     }
 
+    @Test
+    public void readAndSaveInternship_compressed_success() throws Exception {
+        Path filePath = testFolder.resolve("TempInternship.json.gz");
+        Path uncompressedFilePath = testFolder.resolve("TempInternship.json");
+        Internship original = getTypicalInternship();
+        JsonInternshipStorage storage = new JsonInternshipStorage(filePath, Compression.gzip(9));
+
+        storage.saveInternship(original);
+        new JsonInternshipStorage(uncompressedFilePath).saveInternship(original);
+        assertTrue(Compression.isCompressed(filePath));
+        assertTrue(Files.size(filePath) < Files.size(uncompressedFilePath));
+        assertEquals(original, new Internship(storage.readInternship().get()));
+
+        // compressed and uncompressed files are both read whatever the compression they are written with
+        assertEquals(original, new Internship(new JsonInternshipStorage(filePath).readInternship().get()));
+        assertEquals(original, new Internship(storage.readInternship(uncompressedFilePath).get()));
+    }
+
+    @Test
+    public void saveApplications_readBack_sameApplications() throws Exception {
+        Path filePath = testFolder.resolve("TempInternship.json");
+        Internship original = getTypicalInternship();
+        JsonInternshipStorage jsonInternshipStorage = new JsonInternshipStorage(filePath);
+
+        long saved = jsonInternshipStorage.saveApplications(original.getApplicationList().iterator(), filePath);
+        assertEquals(original.getApplicationList().size(), saved);
+        assertEquals(original, new Internship(jsonInternshipStorage.readInternship(filePath).get()));
+
+        // streamed file is the same as the one saved at once
+        Path savedAtOnce = testFolder.resolve("SavedAtOnce.json");
+        jsonInternshipStorage.saveInternship(original, savedAtOnce);
+        assertEquals(Files.readString(savedAtOnce).replaceAll("\\s", ""),
+                Files.readString(filePath).replaceAll("\\s", ""));
+    }
+
+    @Test
+    public void saveApplications_generatedApplications_readBack() throws Exception {
+        Path filePath = testFolder.resolve("Generated.json");
+        JsonInternshipStorage jsonInternshipStorage = new JsonInternshipStorage(filePath);
+
+        jsonInternshipStorage.saveApplications(new SyntheticDataGenerator(1).generate(500), filePath);
+        List<Application> expected = new ArrayList<>();
+        new SyntheticDataGenerator(1).generate(500).forEachRemaining(expected::add);
+        assertEquals(expected, jsonInternshipStorage.readInternship(filePath).get().getApplicationList());
+    }
+
+    @Test
+    public void readAndSaveInternship_flightRecording_emitsEvents() throws Exception {
+        Path filePath = testFolder.resolve("TempInternship.json");
+        Path recordingPath = testFolder.resolve("recording.jfr");
+        JsonInternshipStorage jsonInternshipStorage = new JsonInternshipStorage(filePath);
+        try (Recording recording = new Recording()) {
+            recording.enable(InternshipReadEvent.class);
+            recording.enable(InternshipWriteEvent.class);
+            recording.start();
+            jsonInternshipStorage.saveInternship(getTypicalInternship());
+            jsonInternshipStorage.readInternship();
+            recording.stop();
+            recording.dump(recordingPath);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(recordingPath);
+        long fileSize = Files.size(filePath);
+        for (String eventName : List.of("seedu.address.InternshipWrite", "seedu.address.InternshipRead")) {
+            assertTrue(events.stream().anyMatch(event -> event.getEventType().getName().equals(eventName)
+                    && event.getInt("applicationCount") == getTypicalInternship().getApplicationList().size()
+                    && event.getLong("bytes") == fileSize));
+        }
+    }
+
     @Test
     public void saveInternship_nullInternship_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveInternship(null, "SomeFile.json"));
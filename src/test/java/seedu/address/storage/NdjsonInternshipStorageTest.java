@@ -0,0 +1,265 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.DEADLINE_DESC_AMAZON;
+import static seedu.address.logic.commands.CommandTestUtil.POSITION_DESC_AMAZON;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_COMPANY_NAME;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalApplications.AMAZON;
+import static seedu.address.testutil.TypicalApplications.GRAB;
+import static seedu.address.testutil.TypicalApplications.getTypicalInternship;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32C;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.Compression;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.logic.Logic;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.AddCommand;
+import seedu.address.model.Internship;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyInternship;
+import seedu.address.model.application.Application;
+import seedu.address.testutil.ApplicationBuilder;
+
+public class NdjsonInternshipStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readInternship_nullFilePath_throwsNullPointerException() {
+        NdjsonInternshipStorage storage = new NdjsonInternshipStorage(testFolder.resolve("data.ndjson"), false);
+        assertThrows(NullPointerException.class, () -> storage.readInternship(null));
+    }
+
+    @Test
+    public void readInternship_missingFile_emptyResult() throws Exception {
+        Path filePath = testFolder.resolve("missing.ndjson");
+        assertFalse(new NdjsonInternshipStorage(filePath, false).readInternship().isPresent());
+    }
+
+    @Test
+    public void readAndSaveInternship_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("data.ndjson");
+        Internship original = getTypicalInternship();
+        NdjsonInternshipStorage storage = new NdjsonInternshipStorage(filePath, false);
+
+        storage.saveInternship(original.getSnapshot());
+        assertEquals(original.getApplicationList().size() + 1, Files.readAllLines(filePath).size());
+        assertTrue(DataFileVerifier.verify(filePath, bytesRead -> {}).isIntact());
+        assertEquals(original, new Internship(storage.readInternship().get()));
+
+        original.removeApplication(GRAB);
+        storage.saveInternship(original.getSnapshot());
+        assertEquals(original, new Internship(storage.readInternship().get()));
+
+        // a file saved elsewhere is read back the same
+        Path otherFilePath = testFolder.resolve("other.ndjson");
+        storage.saveInternship(original, otherFilePath);
+        assertEquals(original, new Internship(storage.readInternship(otherFilePath).get()));
+    }
+
+    @Test
+    public void saveInternship_applicationsAdded_appendsToFile() throws Exception {
+        Path filePath = writeIndentedRecords();
+        NdjsonInternshipStorage storage = new NdjsonInternshipStorage(filePath, false);
+        List<String> lines = Files.readAllLines(filePath);
+
+        // lines formatted differently are only kept if the file is appended to instead of rewritten
+        Internship internship = new Internship(storage.readInternship().get());
+        internship.addApplications(List.of(new ApplicationBuilder().withCompany("Shopee").build()));
+        storage.saveInternship(internship.getSnapshot());
+        internship.addApplications(List.of(new ApplicationBuilder().withCompany("Sea").build()));
+        storage.saveInternship(internship.getSnapshot());
+
+        List<String> appendedLines = Files.readAllLines(filePath);
+        assertEquals(lines.subList(0, lines.size() - 1), appendedLines.subList(0, lines.size() - 1));
+        assertEquals(lines.size() + 2, appendedLines.size());
+        assertTrue(DataFileVerifier.verify(filePath, bytesRead -> {}).isIntact());
+        assertEquals(internship, new Internship(storage.readInternship().get()));
+    }
+
+    @Test
+    public void saveInternship_applicationAddedAfterLoadingThroughLogic_appendsToFile() throws Exception {
+        Path filePath = writeIndentedRecords();
+        NdjsonInternshipStorage storage = new NdjsonInternshipStorage(filePath, true);
+        List<String> lines = Files.readAllLines(filePath);
+        Model model = new ModelManager();
+        Logic logic = new LogicManager(model, new StorageManager(storage,
+                new JsonUserPrefsStorage(testFolder.resolve("preferences.json"))), Runnable::run);
+
+        ReadOnlyInternship data = storage.readInternship().get();
+        logic.loadAsync(() -> data).get(1, TimeUnit.MINUTES);
+        logic.execute(AddCommand.COMMAND_WORD + " " + PREFIX_COMPANY_NAME + "Shopee" + POSITION_DESC_AMAZON
+                + DEADLINE_DESC_AMAZON);
+
+        // the indented first line is only kept if the file is appended to instead of rewritten
+        List<String> appendedLines = Files.readAllLines(filePath);
+        assertEquals(lines.subList(0, lines.size() - 1), appendedLines.subList(0, lines.size() - 1));
+        assertEquals(lines.size() + 1, appendedLines.size());
+        assertTrue(DataFileVerifier.verify(filePath, bytesRead -> {}).isIntact());
+        assertEquals(model.getInternship(), new Internship(storage.readInternship().get()));
+        logic.shutdown();
+    }
+
+    @Test
+    public void saveInternship_applicationEdited_rewritesFile() throws Exception {
+        Path filePath = writeIndentedRecords();
+        NdjsonInternshipStorage storage = new NdjsonInternshipStorage(filePath, false);
+
+        Internship internship = new Internship(storage.readInternship().get());
+        internship.setApplication(internship.getApplicationList().get(1),
+                new ApplicationBuilder(internship.getApplicationList().get(1)).withStatus("Accepted").build());
+        storage.saveInternship(internship.getSnapshot());
+
+        assertFalse(Files.readAllLines(filePath).get(0).startsWith(" "));
+        assertTrue(DataFileVerifier.verify(filePath, bytesRead -> {}).isIntact());
+        assertEquals(internship, new Internship(storage.readInternship().get()));
+    }
+
+    @Test
+    public void saveInternship_compressed_rewritesFile() throws Exception {
+        Path filePath = testFolder.resolve("data.ndjson.gz");
+        NdjsonInternshipStorage storage = new NdjsonInternshipStorage(filePath, false, Compression.gzip(1));
+        Internship internship = getTypicalInternship();
+        storage.saveInternship(internship.getSnapshot());
+        assertTrue(Compression.isCompressed(filePath));
+
+        internship = new Internship(storage.readInternship().get());
+        internship.addApplications(List.of(new ApplicationBuilder().withCompany("Shopee").build()));
+        storage.saveInternship(internship.getSnapshot());
+
+        assertTrue(Compression.isCompressed(filePath));
+        assertTrue(DataFileVerifier.verify(filePath, bytesRead -> {}).isIntact());
+        assertEquals(internship, new Internship(storage.readInternship().get()));
+        assertEquals(internship, new Internship(new NdjsonInternshipStorage(filePath, false).readInternship().get()));
+    }
+
+    @Test
+    public void readInternship_changedLineSalvaging_skipsLine() throws Exception {
+        Path filePath = testFolder.resolve("data.ndjson");
+        NdjsonInternshipStorage storage = new NdjsonInternshipStorage(filePath, true);
+        storage.saveInternship(getTypicalInternship().getSnapshot());
+        List<String> lines = new ArrayList<>(Files.readAllLines(filePath));
+        lines.set(0, lines.get(0).replaceFirst("\"company\":\"", "\"company\":\"X"));
+        Files.write(filePath, lines);
+
+        ReadOnlyInternship internship = storage.readInternship().get();
+        assertEquals(getTypicalInternship().getApplicationList().subList(1, lines.size() - 1),
+                internship.getApplicationList());
+        assertEquals(List.of(String.format(NdjsonInternshipStorage.MESSAGE_INVALID_LINE, 1,
+                NdjsonInternshipStorage.MESSAGE_CHECKSUM_MISMATCH),
+                String.format(NdjsonInternshipStorage.MESSAGE_INVALID_LINE, lines.size(),
+                NdjsonInternshipStorage.MESSAGE_DIGEST_MISMATCH)), storage.getReadProblems());
+    }
+
+    @Test
+    public void readInternship_removedLineSalvaging_reportsDigestMismatch() throws Exception {
+        Path filePath = testFolder.resolve("data.ndjson");
+        NdjsonInternshipStorage storage = new NdjsonInternshipStorage(filePath, true);
+        storage.saveInternship(getTypicalInternship().getSnapshot());
+        List<String> lines = new ArrayList<>(Files.readAllLines(filePath));
+        lines.remove(0);
+        Files.write(filePath, lines);
+
+        assertEquals(lines.size() - 1, storage.readInternship().get().getApplicationList().size());
+        assertEquals(List.of(String.format(NdjsonInternshipStorage.MESSAGE_INVALID_LINE, lines.size(),
+                NdjsonInternshipStorage.MESSAGE_DIGEST_MISMATCH)), storage.getReadProblems());
+        assertThrows(DataConversionException.class, () -> new NdjsonInternshipStorage(filePath, false)
+                .readInternship());
+    }
+
+    @Test
+    public void readInternship_truncatedFileSalvaging_reportsNoDigestAndBacksUpFile() throws Exception {
+        Path filePath = testFolder.resolve("data.ndjson");
+        NdjsonInternshipStorage storage = new NdjsonInternshipStorage(filePath, true);
+        storage.saveInternship(getTypicalInternship().getSnapshot());
+        List<String> lines = Files.readAllLines(filePath);
+        Files.write(filePath, lines.subList(0, 2));
+
+        assertEquals(2, storage.readInternship().get().getApplicationList().size());
+        assertEquals(List.of(DataFileVerifier.MESSAGE_NO_DIGEST), storage.getReadProblems());
+        Path backupPath = testFolder.resolve("data.ndjson" + NdjsonInternshipStorage.BACKUP_FILE_SUFFIX);
+        assertEquals(lines.subList(0, 2), Files.readAllLines(backupPath));
+        assertThrows(DataConversionException.class, () -> new NdjsonInternshipStorage(filePath, false)
+                .readInternship());
+    }
+
+    @Test
+    public void readInternship_invalidLineNotSalvaging_throwsDataConversionException() throws Exception {
+        Path filePath = writeLines("{\"company\": \"Shopee\"}");
+        assertThrows(DataConversionException.class, () -> new NdjsonInternshipStorage(filePath, false)
+                .readInternship());
+    }
+
+    @Test
+    public void readInternship_invalidLinesSalvaging_skipsAndBacksUpFile() throws Exception {
+        String amazon = JsonUtil.toJsonString(new JsonAdaptedApplication(AMAZON)).replaceAll("\\s*\\n\\s*", " ");
+        String grab = JsonUtil.toJsonString(new JsonAdaptedApplication(GRAB)).replaceAll("\\s*\\n\\s*", " ");
+        Path filePath = writeLines(amazon, "not json", "", grab, amazon);
+        NdjsonInternshipStorage storage = new NdjsonInternshipStorage(filePath, true);
+
+        ReadOnlyInternship internship = storage.readInternship().get();
+        assertEquals(List.of(AMAZON, GRAB), internship.getApplicationList());
+        List<String> skippedLines = storage.getReadProblems();
+        assertEquals(2, skippedLines.size());
+        assertTrue(skippedLines.get(0).startsWith(String.format(NdjsonInternshipStorage.MESSAGE_INVALID_LINE, 2, "")));
+        assertEquals(String.format(NdjsonInternshipStorage.MESSAGE_INVALID_LINE, 5,
+                JsonSerializableInternship.MESSAGE_DUPLICATE_APPLICATION), skippedLines.get(1));
+        Path backupPath = testFolder.resolve("data.ndjson" + NdjsonInternshipStorage.BACKUP_FILE_SUFFIX);
+        assertEquals(Files.readAllLines(filePath), Files.readAllLines(backupPath));
+
+        // the next save rewrites the file without the skipped lines, and with checksums
+        storage.saveInternship(new Internship(internship).getSnapshot());
+        assertEquals(3, Files.readAllLines(filePath).size());
+        assertTrue(storage.readInternship().isPresent());
+        assertTrue(storage.getReadProblems().isEmpty());
+        assertTrue(DataFileVerifier.verify(filePath, bytesRead -> {}).isIntact());
+    }
+
+    @Test
+    public void saveInternship_nullInternship_throwsNullPointerException() {
+        NdjsonInternshipStorage storage = new NdjsonInternshipStorage(testFolder.resolve("data.ndjson"), false);
+        assertThrows(NullPointerException.class, () -> storage.saveInternship(null));
+    }
+
+    /**
+     * Writes the typical applications with checksums and a digest line, indenting the first line by a space.
+     */
+    private Path writeIndentedRecords() throws Exception {
+        Path filePath = testFolder.resolve("data.ndjson");
+        CRC32C digest = new CRC32C();
+        List<Application> applications = getTypicalInternship().getApplicationList();
+        try (OutputStream out = Files.newOutputStream(filePath)) {
+            for (int i = 0; i < applications.size(); i++) {
+                String json = JsonUtil.toJsonString(new JsonAdaptedApplication(applications.get(i)))
+                        .replaceAll("\\s*\\n\\s*", " ");
+                ChecksummedLines.writeRecord(out, ((i == 0 ? " " : "") + json).getBytes(StandardCharsets.UTF_8),
+                        digest);
+            }
+            ChecksummedLines.writeDigest(out, applications.size(), digest);
+        }
+        return filePath;
+    }
+
+    private Path writeLines(String... lines) throws Exception {
+        Path filePath = testFolder.resolve("data.ndjson");
+        Files.write(filePath, List.of(lines));
+        return filePath;
+    }
+}
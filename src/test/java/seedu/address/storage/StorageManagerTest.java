@@ -2,8 +2,10 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.TypicalApplications.getTypicalInternship;
 
+import java.nio.file.Files;
 import java.nio.file.Path;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -55,6 +57,19 @@ public class StorageManagerTest {
         assertEquals(original, new Internship(retrieved));
     }
 
+    @Test
+    public void internshipReadSave_statisticsRecorded() throws Exception {
+        assertEquals(0, storageManager.getSaveCount());
+        storageManager.saveInternship(getTypicalInternship());
+        storageManager.readInternship();
+
+        assertEquals(1, storageManager.getSaveCount());
+        assertEquals(0, storageManager.getSaveFailureCount());
+        assertEquals(Files.size(storageManager.getInternshipFilePath()), storageManager.getLastSaveBytes());
+        assertTrue(storageManager.getLastSaveMillis() > 0);
+        assertTrue(storageManager.getLastLoadMillis() > 0);
+    }
+
     @Test
     public void getInternshipFilePath() {
         assertNotNull(storageManager.getInternshipFilePath());
@@ -2,10 +2,12 @@ package seedu.address.ui;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import java.net.URL;
 import java.nio.file.Path;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
@@ -75,6 +77,26 @@ public class UiPartTest {
         assertThrows(AssertionError.class, () -> new TestUiPart<Object>(INVALID_FILE_PATH, new Object()));
     }
 
+    @Test
+    public void constructor_sameFileTwice_loadsSeparateRoots() {
+        URL validFileUrl = getTestFileUrl(VALID_FILE_PATH);
+        TestUiPart<TestFxmlObject> first = new TestUiPart<>(validFileUrl);
+        TestUiPart<TestFxmlObject> second = new TestUiPart<>(validFileUrl);
+        assertEquals(first.getRoot(), second.getRoot());
+        assertNotSame(first.getRoot(), second.getRoot());
+    }
+
+    @Test
+    public void prewarm_validAndMissingFiles_completesNormally() {
+        UiPart.prewarm(List.of(VALID_FILE_PATH, MISSING_FILE_PATH)).join();
+        assertEquals(VALID_FILE_ROOT, new TestUiPart<TestFxmlObject>(VALID_FILE_PATH).getRoot());
+    }
+
+    @Test
+    public void prewarm_nullFileNames_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> UiPart.prewarm(null));
+    }
+
     private URL getTestFileUrl(String testFilePath) {
         String testFilePathInView = "/view/" + testFilePath;
         URL testFileUrl = MainApp.class.getResource(testFilePathInView);